@@ -0,0 +1,300 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This represents the admission controller that is put in front of the operations from a flexible database, which
+ * limits the quantity of operations that are in flight, optionally by table, and makes the operations that exceed the
+ * limit wait in a bounded queue until a deadline, the operations from the interactive priority are always admitted
+ * before the operations from the batch priority
+ *
+ * @author biologyiswell (19/10/2026 16:52)
+ * @since 0.2
+ */
+public class AdmissionController {
+
+    /**
+     * This enumeration defines the priorities from the operations
+     *
+     * @since 0.2
+     */
+    public enum Priority {
+
+        /**
+         * Indicates the operations that are waited by an user, which are admitted before the batch operations
+         * @since 0.2
+         */
+        INTERACTIVE,
+
+        /**
+         * Indicates the operations from background works, which are admitted only when has not interactive operations
+         * waiting
+         * @since 0.2
+         */
+        BATCH
+    }
+
+    /**
+     * These represents the limits from the admission controller, the maximum in flight is the quantity of operations
+     * that are executed at the same time, the maximum queued is the quantity of operations that can wait and the queue
+     * timeout is the time in nanoseconds that an operation can wait
+     * @since 0.2
+     */
+    private final int maximumInFlight;
+    private final int maximumQueued;
+    private final long queueTimeout;
+
+    /**
+     * This represents the limits from the operations in flight by table name
+     * @since 0.2
+     */
+    private final Map<String, Integer> tableLimits = new ConcurrentHashMap<>();
+
+    /**
+     * This represents the priority from the operations of the current thread
+     * @since 0.2
+     */
+    private final ThreadLocal<Priority> priority = new ThreadLocal<>();
+
+    /**
+     * This represents the lock that guards the counters, and the conditions where the operations wait by priority
+     * @since 0.2
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition interactive = this.lock.newCondition();
+    private final Condition batch = this.lock.newCondition();
+
+    /**
+     * These represents the counters from the admission controller, that are guarded by the lock
+     * @since 0.2
+     */
+    private int inFlight;
+    private int interactiveWaiting;
+    private int batchWaiting;
+    private final Map<String, Integer> tableInFlight = new HashMap<>();
+
+    /**
+     * Creates an instance from admission controller
+     *
+     * @param maximumInFlight the maximum quantity of operations that are executed at the same time
+     * @param maximumQueued the maximum quantity of operations that can wait, if the queue is full the operation is
+     *                      rejected immediately
+     * @param queueTimeout the maximum time that an operation can wait
+     * @param unit the time unit from queue timeout
+     * @since 0.2
+     */
+    public AdmissionController(final int maximumInFlight, final int maximumQueued, final long queueTimeout, final TimeUnit unit) {
+        if (maximumInFlight <= 0) throw new IllegalArgumentException("maximum in flight must be bigger than 0");
+        if (maximumQueued < 0) throw new IllegalArgumentException("maximum queued can not be negative");
+        if (unit == null) throw new NullPointerException("unit");
+
+        this.maximumInFlight = maximumInFlight;
+        this.maximumQueued = maximumQueued;
+        this.queueTimeout = unit.toNanos(queueTimeout);
+    }
+
+    /**
+     * Sets the maximum quantity of operations that are executed at the same time on the table
+     *
+     * @param table the table name, like is defined by the table annotation
+     * @param limit the maximum quantity of operations
+     * @since 0.2
+     */
+    public void setTableLimit(final String table, final int limit) {
+        if (table == null) throw new NullPointerException("table");
+        if (limit <= 0) throw new IllegalArgumentException("limit must be bigger than 0");
+
+        this.tableLimits.put(table, limit);
+    }
+
+    /**
+     * Sets the priority from the operations of the current thread, the default priority is the interactive priority
+     *
+     * @param priority the priority
+     * @since 0.2
+     */
+    public void setPriority(final Priority priority) {
+        if (priority == null) throw new NullPointerException("priority");
+
+        this.priority.set(priority);
+    }
+
+    /**
+     * Returns the quantity of operations that are in flight
+     *
+     * @return the quantity of operations in flight
+     * @since 0.2
+     */
+    public int getInFlight() {
+        this.lock.lock();
+        try {
+            return this.inFlight;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Enter, method,
+     * This method admits an operation, if the limits are reached the operation waits until an operation leaves or the
+     * queue timeout
+     *
+     * @param table the table name from the operation, or null if the operation has not a table
+     * @throws AdmissionRejectedException this exception is thrown if the queue is full or the operation waits more than
+     *                                    the queue timeout
+     * @since 0.2
+     */
+    void enter(final String table) { // package-private
+        final boolean isBatch = this.priority.get() == Priority.BATCH;
+
+        this.lock.lock();
+        try {
+            // @Note The operation is admitted immediately if the limits are not reached and has not operations with
+            // higher priority waiting
+            if (this.canEnter(table, isBatch)) {
+                this.admit(table);
+                return;
+            }
+
+            // @Note This condition makes the check if the wait queue is full
+            if (this.interactiveWaiting + this.batchWaiting >= this.maximumQueued) {
+                throw new AdmissionRejectedException(AdmissionRejectedException.Reason.QUEUE_FULL, table);
+            }
+
+            long remaining = this.queueTimeout;
+
+            if (isBatch) {
+                this.batchWaiting++;
+            } else {
+                this.interactiveWaiting++;
+            }
+
+            try {
+                while (!this.canEnter(table, isBatch)) {
+                    if (remaining <= 0) {
+                        throw new AdmissionRejectedException(AdmissionRejectedException.Reason.TIMEOUT, table);
+                    }
+
+                    remaining = (isBatch ? this.batch : this.interactive).awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AdmissionRejectedException(AdmissionRejectedException.Reason.INTERRUPTED, table);
+            } finally {
+                if (isBatch) {
+                    this.batchWaiting--;
+                } else if (--this.interactiveWaiting == 0) {
+                    // @Note The batch operations are signaled because they wait the interactive operations that can
+                    // leave the queue by timeout
+                    this.batch.signalAll();
+                }
+            }
+
+            this.admit(table);
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Leave, method,
+     * This method finishes an operation that is admitted, and signals the operations that wait, the interactive
+     * operations are signaled before the batch operations
+     *
+     * @param table the table name from the operation, or null if the operation has not a table
+     * @since 0.2
+     */
+    void leave(final String table) { // package-private
+        this.lock.lock();
+        try {
+            this.inFlight--;
+
+            if (table != null) {
+                final Integer count = this.tableInFlight.get(table);
+
+                if (count != null) {
+                    if (count == 1) {
+                        this.tableInFlight.remove(table);
+                    } else {
+                        this.tableInFlight.put(table, count - 1);
+                    }
+                }
+            }
+
+            // @Note The all operations from the priority are signaled because the operations can wait by different
+            // tables, then a single signal can wake an operation that still can not enter
+            if (this.interactiveWaiting > 0) {
+                this.interactive.signalAll();
+            } else if (this.batchWaiting > 0) {
+                this.batch.signalAll();
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns if an operation can enter, which must be called with the lock held
+     *
+     * @param table the table name from the operation
+     * @param isBatch if the operation has the batch priority
+     * @return if the operation can enter
+     * @since 0.2
+     */
+    private boolean canEnter(final String table, final boolean isBatch) {
+        if (this.inFlight >= this.maximumInFlight) return false;
+        if (isBatch && this.interactiveWaiting > 0) return false;
+        if (table == null) return true;
+
+        final Integer limit = this.tableLimits.get(table);
+
+        if (limit == null) return true;
+
+        final Integer count = this.tableInFlight.get(table);
+        return count == null || count < limit;
+    }
+
+    /**
+     * Counts the operation that enters, which must be called with the lock held
+     *
+     * @param table the table name from the operation
+     * @since 0.2
+     */
+    private void admit(final String table) {
+        this.inFlight++;
+
+        // @Note The operations are only counted by table when the table has a limit
+        if (table != null && this.tableLimits.containsKey(table)) {
+            final Integer count = this.tableInFlight.get(table);
+            this.tableInFlight.put(table, count == null ? 1 : count + 1);
+        }
+    }
+}
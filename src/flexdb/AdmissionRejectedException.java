@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+/**
+ * This exception is thrown when the admission controller rejects an operation, which happens when the wait queue from
+ * the admission controller is full or when the operation waits more than the queue timeout, the rejection is made
+ * before the operation acquires a connection, then the caller fails fast instead of wait on the driver
+ *
+ * @author biologyiswell (19/10/2026 16:48)
+ * @since 0.2
+ */
+public class AdmissionRejectedException extends RuntimeException {
+
+    /**
+     * This represents the serial version from the class
+     * @since 0.2
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * This enumeration defines the reasons from the rejections
+     *
+     * @since 0.2
+     */
+    public enum Reason {
+
+        /**
+         * Indicates that the wait queue from the admission controller is full
+         * @since 0.2
+         */
+        QUEUE_FULL,
+
+        /**
+         * Indicates that the operation waits more than the queue timeout
+         * @since 0.2
+         */
+        TIMEOUT,
+
+        /**
+         * Indicates that the thread is interrupted while the operation waits
+         * @since 0.2
+         */
+        INTERRUPTED
+    }
+
+    /**
+     * This represents the reason from the rejection
+     * @since 0.2
+     */
+    private final Reason reason;
+
+    /**
+     * This represents the table name from the operation, or null if the operation has not a table
+     * @since 0.2
+     */
+    private final String table;
+
+    /**
+     * Creates an instance from admission rejected exception
+     *
+     * @param reason the reason from the rejection
+     * @param table the table name from the operation, or null if the operation has not a table
+     * @since 0.2
+     */
+    public AdmissionRejectedException(final Reason reason, final String table) {
+        super("operation" + (table == null ? "" : " on table \"" + table + "\"") + " rejected by admission control (" + reason + ")");
+
+        this.reason = reason;
+        this.table = table;
+    }
+
+    /**
+     * Returns the reason from the rejection
+     *
+     * @return the reason
+     * @since 0.2
+     */
+    public Reason getReason() {
+        return this.reason;
+    }
+
+    /**
+     * Returns the table name from the operation
+     *
+     * @return the table name, or null if the operation has not a table
+     * @since 0.2
+     */
+    public String getTable() {
+        return this.table;
+    }
+}
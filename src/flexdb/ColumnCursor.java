@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * This represents the cursor from a stream column of a row, which the column is read by a single query with a
+ * streaming result set, then the value is a snapshot from the row that is read by chunks from the driver, the server
+ * reads the value once and the heap that is used does not depend from the size from the value
+ *
+ * The query is executed on a separate connection that is opened by the cursor, because the connection that has a
+ * streaming result set can not execute other statements until the result set is closed, the flexible databases that
+ * are created from a connection have not the credentials, then the cursor uses the acquired connection, which can not
+ * execute other statements until the cursor is closed
+ *
+ * @author biologyiswell (20/10/2026 06:18)
+ * @since 0.2
+ */
+final class ColumnCursor { // package-private
+
+    /**
+     * These represents the flexible database where the column is read, the table name, the query and the value from
+     * the column anchor of the row
+     * @since 0.2
+     */
+    private final FlexDb db;
+    private final String table;
+    private final String sql;
+    private final Object anchor;
+
+    /**
+     * These represents the connection, the statement and the result set from the query, and if the connection is
+     * opened by the cursor
+     * @since 0.2
+     */
+    private Connection connection;
+    private PreparedStatement statement;
+    private ResultSet resultSet;
+    private boolean separate;
+
+    /**
+     * Creates an instance from column cursor
+     *
+     * @param db the flexible database where the column is read
+     * @param model the model from the class that contains the column
+     * @param index the index from the column
+     * @param anchor the value from the column anchor of the row
+     * @since 0.2
+     */
+    ColumnCursor(final FlexDb db, final EntityModel model, final int index, final Object anchor) { // package-private
+        this.db = db;
+        this.table = model.table.name();
+        this.sql = "SELECT " + model.columns[index].name() + " FROM " + model.qualifiedName + " WHERE " + model.columns[model.anchor].name() + " = ?";
+        this.anchor = anchor;
+    }
+
+    /**
+     * Opens the query and returns the stream from the binary column
+     *
+     * @return the stream, or null if the row is removed or the column is null
+     * @throws IOException this exception is thrown if the query fails
+     * @since 0.2
+     */
+    InputStream binary() throws IOException { // package-private
+        try {
+            return this.open() ? this.resultSet.getBinaryStream(1) : null;
+        } catch (SQLException e) {
+            this.close();
+            throw new IOException("column from the table \"" + this.table + "\" can not be read", e);
+        }
+    }
+
+    /**
+     * Opens the query and returns the reader from the text column
+     *
+     * @return the reader, or null if the row is removed or the column is null
+     * @throws IOException this exception is thrown if the query fails
+     * @since 0.2
+     */
+    Reader character() throws IOException { // package-private
+        try {
+            return this.open() ? this.resultSet.getCharacterStream(1) : null;
+        } catch (SQLException e) {
+            this.close();
+            throw new IOException("column from the table \"" + this.table + "\" can not be read", e);
+        }
+    }
+
+    /**
+     * Closes the result set, the statement and the connection, the acquired connection is given back
+     *
+     * @since 0.2
+     */
+    void close() { // package-private
+        final Connection connection = this.connection;
+        if (connection == null) return;
+
+        this.connection = null;
+
+        try {
+            if (this.resultSet != null) this.resultSet.close();
+            if (this.statement != null) this.statement.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            this.resultSet = null;
+            this.statement = null;
+
+            if (this.separate) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                }
+            } else {
+                this.db.release(connection);
+            }
+        }
+    }
+
+    /**
+     * Executes the query with the streaming result set and moves to the row
+     *
+     * @return true if the row exists, otherwise the cursor is closed
+     * @throws SQLException this exception is thrown if the query fails
+     * @since 0.2
+     */
+    private boolean open() throws SQLException {
+        final Object[] values = new Object[] {this.anchor};
+        final AdmissionController admission = this.db.admission();
+        if (admission != null) admission.enter(this.table);
+
+        try {
+            this.separate = this.db.host != null;
+            this.connection = this.separate ? DriverManager.getConnection(this.db.url(), this.db.username, this.db.password) : this.db.acquire();
+
+            // @Note The fetch size from Integer.MIN_VALUE makes the driver to stream the row instead to read it to the
+            // memory
+            this.statement = this.connection.prepareStatement(this.sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            this.statement.setFetchSize(Integer.MIN_VALUE);
+
+            final StatementEvent event = this.db.before(StatementEvent.Operation.QUERY, this.table, this.sql, values, values.length, 1);
+
+            try {
+                this.db.bind(this.statement, values);
+                this.resultSet = this.statement.executeQuery();
+
+                final boolean found = this.resultSet.next();
+                this.db.after(event, found ? 1 : 0);
+
+                if (!found) this.close();
+                return found;
+            } catch (SQLException e) {
+                this.db.error(event, e);
+                throw e;
+            }
+        } finally {
+            if (admission != null) admission.leave(this.table);
+        }
+    }
+}
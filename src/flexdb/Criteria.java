@@ -0,0 +1,727 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This represents the criteria from the rows of a select, update or delete, which is a tree of conditions with the
+ * order and the limit from the rows, the criteria is immutable and each method returns a new criteria
+ *
+ * The criteria is compiled to a statement template once by shape, that is the structure from the conditions without
+ * the values, then the criteria with the same shape and different values only bind the values to the cached template,
+ * the column names are validated against the columns from the class when the template is compiled
+ *
+ * @author biologyiswell (20/10/2026 04:02)
+ * @since 0.2
+ */
+public final class Criteria {
+
+    /**
+     * This represents the criteria without conditions, that matches the all rows
+     * @since 0.2
+     */
+    private static final Criteria ALL = new Criteria(null, Collections.<Order>emptyList(), -1);
+
+    /**
+     * This represents the root condition, or null if the criteria matches the all rows
+     * @since 0.2
+     */
+    private final Node node;
+
+    /**
+     * This represents the order from the rows
+     * @since 0.2
+     */
+    private final List<Order> orders;
+
+    /**
+     * This represents the maximum quantity of rows, or -1 if the rows are not limited
+     * @since 0.2
+     */
+    private final long limit;
+
+    private Criteria(final Node node, final List<Order> orders, final long limit) {
+        this.node = node;
+        this.orders = orders;
+        this.limit = limit;
+    }
+
+    // Conditions
+
+    /**
+     * Returns the criteria that matches the all rows
+     *
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria all() {
+        return ALL;
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is equal to the value
+     *
+     * @param column the column name
+     * @param value the value
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria eq(final String column, final Object value) {
+        return compare(column, "=", value);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is not equal to the value
+     *
+     * @param column the column name
+     * @param value the value
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria ne(final String column, final Object value) {
+        return compare(column, "<>", value);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is less than the value
+     *
+     * @param column the column name
+     * @param value the value
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria lt(final String column, final Object value) {
+        return compare(column, "<", value);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is less than or equal to the value
+     *
+     * @param column the column name
+     * @param value the value
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria le(final String column, final Object value) {
+        return compare(column, "<=", value);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is greater than the value
+     *
+     * @param column the column name
+     * @param value the value
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria gt(final String column, final Object value) {
+        return compare(column, ">", value);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is greater than or equal to the value
+     *
+     * @param column the column name
+     * @param value the value
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria ge(final String column, final Object value) {
+        return compare(column, ">=", value);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is between the values, inclusive
+     *
+     * @param column the column name
+     * @param from the lower value
+     * @param to the higher value
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria between(final String column, final Object from, final Object to) {
+        if (column == null) throw new NullPointerException("column");
+        if (from == null) throw new NullPointerException("from");
+        if (to == null) throw new NullPointerException("to");
+
+        return new Criteria(new Between(column, from, to), Collections.<Order>emptyList(), -1);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is one of the values
+     *
+     * @param column the column name
+     * @param values the values, that must not be empty
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria in(final String column, final Object... values) {
+        if (values == null) throw new NullPointerException("values");
+
+        return in(column, Arrays.asList(values));
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is one of the values
+     *
+     * @param column the column name
+     * @param values the values, that must not be empty
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria in(final String column, final Collection<?> values) {
+        if (column == null) throw new NullPointerException("column");
+        if (values == null) throw new NullPointerException("values");
+        if (values.isEmpty()) throw new IllegalArgumentException("values is empty");
+
+        for (final Object value : values) {
+            if (value == null) throw new NullPointerException("values has a null value");
+        }
+
+        return new Criteria(new In(column, values.toArray()), Collections.<Order>emptyList(), -1);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is null
+     *
+     * @param column the column name
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria isNull(final String column) {
+        if (column == null) throw new NullPointerException("column");
+
+        return new Criteria(new NullCheck(column, true), Collections.<Order>emptyList(), -1);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that the column is not null
+     *
+     * @param column the column name
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria isNotNull(final String column) {
+        if (column == null) throw new NullPointerException("column");
+
+        return new Criteria(new NullCheck(column, false), Collections.<Order>emptyList(), -1);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that are matched by the all criteria
+     *
+     * @param criteria the criteria
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria allOf(final Criteria... criteria) {
+        return junction("AND", criteria);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that are matched by any criteria
+     *
+     * @param criteria the criteria
+     * @return the criteria
+     * @since 0.2
+     */
+    public static Criteria anyOf(final Criteria... criteria) {
+        return junction("OR", criteria);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that are matched by this criteria and the other criteria
+     *
+     * @param other the other criteria
+     * @return the criteria
+     * @since 0.2
+     */
+    public Criteria and(final Criteria other) {
+        return junction("AND", this, other);
+    }
+
+    /**
+     * Returns the criteria that matches the rows that are matched by this criteria or the other criteria
+     *
+     * @param other the other criteria
+     * @return the criteria
+     * @since 0.2
+     */
+    public Criteria or(final Criteria other) {
+        return junction("OR", this, other);
+    }
+
+    // Order and Limit
+
+    /**
+     * Returns the criteria that orders the rows by the column in the ascending order, after the previous orders
+     *
+     * @param column the column name
+     * @return the criteria
+     * @since 0.2
+     */
+    public Criteria orderBy(final String column) {
+        return this.order(column, false);
+    }
+
+    /**
+     * Returns the criteria that orders the rows by the column in the descending order, after the previous orders
+     *
+     * @param column the column name
+     * @return the criteria
+     * @since 0.2
+     */
+    public Criteria orderByDescending(final String column) {
+        return this.order(column, true);
+    }
+
+    /**
+     * Returns the criteria that limits the quantity of rows
+     *
+     * @param limit the maximum quantity of rows
+     * @return the criteria
+     * @since 0.2
+     */
+    public Criteria limit(final long limit) {
+        if (limit < 0) throw new IllegalArgumentException("limit < 0");
+
+        return new Criteria(this.node, this.orders, limit);
+    }
+
+    // Compile
+
+    /**
+     * Returns the shape from the criteria, that identifies the template from the criteria
+     *
+     * @return the shape
+     * @since 0.2
+     */
+    String shape() { // package-private
+        final StringBuilder sb = new StringBuilder();
+        if (this.node != null) this.node.shape(sb);
+
+        for (final Order order : this.orders) {
+            sb.append('^').append(order.column).append(order.descending ? '-' : '+');
+        }
+
+        if (this.limit != -1) sb.append('#');
+        return sb.toString();
+    }
+
+    /**
+     * Appends the WHERE, ORDER BY and LIMIT clauses from the criteria to the statement, which the columns are
+     * validated against the model
+     *
+     * @param sb the statement
+     * @param model the model from the class
+     * @since 0.2
+     */
+    void compile(final StringBuilder sb, final EntityModel model) { // package-private
+        if (this.node != null) {
+            sb.append(" WHERE ");
+            this.node.sql(sb, model);
+        }
+
+        for (int i = 0; i < this.orders.size(); i++) {
+            final Order order = this.orders.get(i);
+
+            sb.append(i == 0 ? " ORDER BY " : ", ").append(model.columns[model.requireColumn(order.column)].name());
+            if (order.descending) sb.append(" DESC");
+        }
+
+        if (this.limit != -1) sb.append(" LIMIT ?");
+    }
+
+    /**
+     * Adds the values that are bound to the placeholders from the template, in the order from the placeholders
+     *
+     * @param values the values
+     * @since 0.2
+     */
+    void bind(final List<Object> values) { // package-private
+        if (this.node != null) this.node.bind(values);
+        if (this.limit != -1) values.add(this.limit);
+    }
+
+    /**
+     * Returns the value from the column anchor that the criteria matches, that is used by the existence filter
+     *
+     * @param model the model from the class
+     * @return the value, or null if the criteria is not a single equal condition from the column anchor
+     * @since 0.2
+     */
+    Object anchor(final EntityModel model) { // package-private
+        if (!(this.node instanceof Comparison) || model.anchor == -1) return null;
+
+        final Comparison comparison = (Comparison) this.node;
+        return "=".equals(comparison.operator) && comparison.column.equalsIgnoreCase(model.columns[model.anchor].name()) ? comparison.value : null;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("Criteria{");
+        if (this.node != null) this.node.shape(sb);
+        return sb.append(", orders=").append(this.orders).append(", limit=").append(this.limit).append('}').toString();
+    }
+
+    /**
+     * Returns a copy from this criteria with the order by the column added after the orders from this criteria
+     *
+     * @param column the column name
+     * @param descending if the order is descending
+     * @return the criteria
+     * @since 0.2
+     */
+    private Criteria order(final String column, final boolean descending) {
+        if (column == null) throw new NullPointerException("column");
+
+        final List<Order> orders = new ArrayList<>(this.orders);
+        orders.add(new Order(column, descending));
+        return new Criteria(this.node, Collections.unmodifiableList(orders), this.limit);
+    }
+
+    /**
+     * Returns the criteria that compares the column to the value by the operator
+     *
+     * @param column the column name
+     * @param operator the operator from the comparison
+     * @param value the value
+     * @return the criteria
+     * @since 0.2
+     */
+    private static Criteria compare(final String column, final String operator, final Object value) {
+        if (column == null) throw new NullPointerException("column");
+        if (value == null) throw new NullPointerException("value");
+
+        return new Criteria(new Comparison(column, operator, value), Collections.<Order>emptyList(), -1);
+    }
+
+    /**
+     * Returns the criteria that combines the conditions from the criteria by the operator, the criteria that matches
+     * the all rows are simplified and a single condition is returned without the junction
+     *
+     * @param operator the operator from the junction, that is AND or OR
+     * @param criteria the criteria that are combined
+     * @return the criteria
+     * @since 0.2
+     */
+    private static Criteria junction(final String operator, final Criteria... criteria) {
+        if (criteria == null) throw new NullPointerException("criteria");
+        if (criteria.length == 0) throw new IllegalArgumentException("criteria is empty");
+
+        final List<Node> nodes = new ArrayList<>(criteria.length);
+        for (final Criteria c : criteria) {
+            if (c == null) throw new NullPointerException("criteria has a null value");
+
+            // @Note The order and the limit are from the whole statement, then the criteria that are combined can not
+            // have them
+            if (!c.orders.isEmpty() || c.limit != -1) throw new IllegalArgumentException("the combined criteria can not have order or limit");
+
+            // @Note The criteria that matches the all rows not changes the conjunction, and makes the disjunction
+            // matches the all rows
+            if (c.node == null) {
+                if (operator.equals("OR")) return ALL;
+                continue;
+            }
+
+            nodes.add(c.node);
+        }
+
+        if (nodes.isEmpty()) return ALL;
+        if (nodes.size() == 1) return new Criteria(nodes.get(0), Collections.<Order>emptyList(), -1);
+        return new Criteria(new Junction(operator, nodes.toArray(new Node[nodes.size()])), Collections.<Order>emptyList(), -1);
+    }
+
+    /**
+     * This represents a condition from the criteria
+     *
+     * @since 0.2
+     */
+    private abstract static class Node {
+
+        /**
+         * Appends the shape from the condition
+         *
+         * @param sb the shape
+         * @since 0.2
+         */
+        abstract void shape(StringBuilder sb);
+
+        /**
+         * Appends the SQL from the condition
+         *
+         * @param sb the statement
+         * @param model the model from the class
+         * @since 0.2
+         */
+        abstract void sql(StringBuilder sb, EntityModel model);
+
+        /**
+         * Adds the values from the condition
+         *
+         * @param values the values
+         * @since 0.2
+         */
+        abstract void bind(List<Object> values);
+    }
+
+    /**
+     * This represents the condition that compares a column to a value
+     *
+     * @since 0.2
+     */
+    private static final class Comparison extends Node {
+
+        /**
+         * These represents the column name, the operator from the comparison and the value
+         * @since 0.2
+         */
+        private final String column;
+        private final String operator;
+        private final Object value;
+
+        private Comparison(final String column, final String operator, final Object value) {
+            this.column = column;
+            this.operator = operator;
+            this.value = value;
+        }
+
+        @Override
+        void shape(final StringBuilder sb) {
+            sb.append(this.column).append(this.operator).append('?');
+        }
+
+        @Override
+        void sql(final StringBuilder sb, final EntityModel model) {
+            sb.append(model.columns[model.requireColumn(this.column)].name()).append(' ').append(this.operator).append(" ?");
+        }
+
+        @Override
+        void bind(final List<Object> values) {
+            values.add(this.value);
+        }
+    }
+
+    /**
+     * This represents the condition that a column is between two values, inclusive
+     *
+     * @since 0.2
+     */
+    private static final class Between extends Node {
+
+        /**
+         * These represents the column name and the lower and upper values
+         * @since 0.2
+         */
+        private final String column;
+        private final Object from;
+        private final Object to;
+
+        private Between(final String column, final Object from, final Object to) {
+            this.column = column;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        void shape(final StringBuilder sb) {
+            sb.append(this.column).append("~?");
+        }
+
+        @Override
+        void sql(final StringBuilder sb, final EntityModel model) {
+            sb.append(model.columns[model.requireColumn(this.column)].name()).append(" BETWEEN ? AND ?");
+        }
+
+        @Override
+        void bind(final List<Object> values) {
+            values.add(this.from);
+            values.add(this.to);
+        }
+    }
+
+    /**
+     * This represents the condition that a column is one of the values from a list
+     *
+     * @since 0.2
+     */
+    private static final class In extends Node {
+
+        /**
+         * These represents the column name and the values from the list
+         * @since 0.2
+         */
+        private final String column;
+        private final Object[] values;
+
+        /**
+         * This represents the quantity of placeholders, that is the quantity of values rounded up to the power of two,
+         * then the lists with different sizes share the templates
+         * @since 0.2
+         */
+        private final int placeholders;
+
+        private In(final String column, final Object[] values) {
+            this.column = column;
+            this.values = values;
+            this.placeholders = Integer.highestOneBit(values.length) == values.length ? values.length : Integer.highestOneBit(values.length) << 1;
+        }
+
+        @Override
+        void shape(final StringBuilder sb) {
+            sb.append(this.column).append('@').append(this.placeholders);
+        }
+
+        @Override
+        void sql(final StringBuilder sb, final EntityModel model) {
+            sb.append(model.columns[model.requireColumn(this.column)].name()).append(" IN (");
+            for (int i = 0; i < this.placeholders; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append('?');
+            }
+            sb.append(')');
+        }
+
+        @Override
+        void bind(final List<Object> values) {
+            values.addAll(Arrays.asList(this.values));
+
+            // @Note The placeholders after the values are filled with the last value, that not changes the result
+            for (int i = this.values.length; i < this.placeholders; i++) {
+                values.add(this.values[this.values.length - 1]);
+            }
+        }
+    }
+
+    /**
+     * This represents the condition that a column is null or is not null
+     *
+     * @since 0.2
+     */
+    private static final class NullCheck extends Node {
+
+        /**
+         * These represents the column name and if the condition checks that the column is null
+         * @since 0.2
+         */
+        private final String column;
+        private final boolean isNull;
+
+        private NullCheck(final String column, final boolean isNull) {
+            this.column = column;
+            this.isNull = isNull;
+        }
+
+        @Override
+        void shape(final StringBuilder sb) {
+            sb.append(this.column).append(this.isNull ? "!0" : "!1");
+        }
+
+        @Override
+        void sql(final StringBuilder sb, final EntityModel model) {
+            sb.append(model.columns[model.requireColumn(this.column)].name()).append(this.isNull ? " IS NULL" : " IS NOT NULL");
+        }
+
+        @Override
+        void bind(final List<Object> values) {
+        }
+    }
+
+    /**
+     * This represents the conditions that are combined by AND or OR
+     *
+     * @since 0.2
+     */
+    private static final class Junction extends Node {
+
+        /**
+         * These represents the operator from the junction and the conditions that are combined
+         * @since 0.2
+         */
+        private final String operator;
+        private final Node[] nodes;
+
+        private Junction(final String operator, final Node[] nodes) {
+            this.operator = operator;
+            this.nodes = nodes;
+        }
+
+        @Override
+        void shape(final StringBuilder sb) {
+            sb.append('(');
+            for (int i = 0; i < this.nodes.length; i++) {
+                if (i > 0) sb.append(this.operator.equals("AND") ? '&' : '|');
+                this.nodes[i].shape(sb);
+            }
+            sb.append(')');
+        }
+
+        @Override
+        void sql(final StringBuilder sb, final EntityModel model) {
+            sb.append('(');
+            for (int i = 0; i < this.nodes.length; i++) {
+                if (i > 0) sb.append(' ').append(this.operator).append(' ');
+                this.nodes[i].sql(sb, model);
+            }
+            sb.append(')');
+        }
+
+        @Override
+        void bind(final List<Object> values) {
+            for (final Node node : this.nodes) {
+                node.bind(values);
+            }
+        }
+    }
+
+    /**
+     * This represents the order by a column from the criteria
+     *
+     * @since 0.2
+     */
+    private static final class Order {
+
+        /**
+         * These represents the column name and if the order is descending
+         * @since 0.2
+         */
+        private final String column;
+        private final boolean descending;
+
+        private Order(final String column, final boolean descending) {
+            this.column = column;
+            this.descending = descending;
+        }
+
+        @Override
+        public String toString() {
+            return this.column + (this.descending ? " DESC" : " ASC");
+        }
+    }
+}
@@ -0,0 +1,588 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.annotation.Column;
+import flexdb.annotation.ColumnAnchor;
+import flexdb.annotation.Data;
+import flexdb.annotation.Table;
+import flexdb.annotation.Version;
+import flexdb.util.SqlType;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.nio.channels.Channels;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This represents the resolved model from a class that represents a table, which contains the data annotation, table
+ * annotation and the fields that contain the column annotation in the declaration order, the model is resolved once by
+ * class and is used by the operations that need read the fields or create the objects from the rows
+ *
+ * @author biologyiswell (19/10/2026 17:20)
+ * @since 0.2
+ */
+final class EntityModel { // package-private
+
+    /**
+     * This represents the cache from the models by class
+     * @since 0.2
+     */
+    private static final ConcurrentHashMap<Class<?>, EntityModel> MODELS = new ConcurrentHashMap<>();
+
+    /**
+     * This represents the class from the model
+     * @since 0.2
+     */
+    final Class<?> klass;
+
+    /**
+     * This represents the data annotation and table annotation from the class
+     * @since 0.2
+     */
+    final Data data;
+    final Table table;
+
+    /**
+     * This represents the qualified name from the table, that is the database name with the table name
+     * @since 0.2
+     */
+    final String qualifiedName;
+
+    /**
+     * This represents the fields and the column annotations from the columns, in the declaration order
+     * @since 0.2
+     */
+    final Field[] fields;
+    final Column[] columns;
+
+    /**
+     * This represents the index from the column anchor, or -1 if the class has not a column anchor
+     * @since 0.2
+     */
+    final int anchor;
+
+    /**
+     * This represents the index from the version column, or -1 if the class has not a version column
+     * @since 0.2
+     */
+    final int version;
+
+    /**
+     * This represents the indexes from the columns that are updated by the UPDATE statement from an object, that are
+     * the updatable columns without the column anchor and the version column
+     * @since 0.2
+     */
+    private final int[] updatable;
+
+    /**
+     * These represents the UPDATE and DELETE statement templates from an object, that find the row by the column anchor
+     * and by the version column if the class has it, or null if the class has not a column anchor
+     * @since 0.2
+     */
+    final String updateStatement;
+    final String deleteStatement;
+
+    /**
+     * This represents the column names separated by comma, that is used by the SELECT statements
+     * @since 0.2
+     */
+    final String columnList;
+
+    /**
+     * This represents the select list from the columns, that is the column names separated by comma where the stream
+     * columns are replaced by NULL, because the stream columns are fetched lazily when the stream is read
+     * @since 0.2
+     */
+    final String selectList;
+
+    /**
+     * This represents if the column is a stream column, that is a column from a field that is an input stream, a
+     * readable byte channel or a reader, or a column from a field that is a path which is only written
+     * @since 0.2
+     */
+    final boolean[] streams;
+
+    /**
+     * This represents the INSERT statement template from the table, that has a placeholder for each column
+     * @since 0.2
+     */
+    final String insertStatement;
+
+    /**
+     * This represents the statement templates that are built by the operations, by the shape from the statement, then
+     * the operations build each template once
+     * @since 0.2
+     */
+    private final ConcurrentHashMap<String, String> templates = new ConcurrentHashMap<>();
+
+    /**
+     * This represents the constructor without arguments from the class, or null if the class has not it
+     * @since 0.2
+     */
+    private final Constructor<?> constructor;
+
+    /**
+     * Creates an instance from entity model
+     *
+     * @param klass the class from the model
+     * @since 0.2
+     */
+    private EntityModel(final Class<?> klass) {
+        this.klass = klass;
+        this.data = klass.getAnnotation(Data.class);
+        this.table = klass.getAnnotation(Table.class);
+
+        // @Note Check if the "data" annotation is null, this represents that the class not contains the data annotation
+        if (this.data == null) throw new NullPointerException("Class \"" + klass.getSimpleName() + "\" not represents a database because not contains the annotation \"" + Data.class.getName() + "\".");
+
+        // @Note Check if the "table" annotation is null, this represents that the class not contains the table
+        // annotation
+        if (this.table == null) throw new NullPointerException("Class \"" + klass.getSimpleName() + "\" not represents a table because not contains the annotation \"" + Table.class.getName() + "\"");
+
+        this.qualifiedName = this.data.name() + "." + this.table.name();
+
+        final List<Field> fields = new ArrayList<>();
+        final StringBuilder sb = new StringBuilder();
+        int anchor = -1;
+        int version = -1;
+
+        for (final Field field : klass.getDeclaredFields()) {
+            final Column column = field.getAnnotation(Column.class);
+            if (column == null) continue;
+
+            // @Note This condition makes the check if the class contains more than one column anchor
+            if (field.getAnnotation(ColumnAnchor.class) != null) {
+                if (anchor != -1) {
+                    throw new IllegalStateException("A one column can has the anchor, in the Class \"" + klass.getSimpleName() + "\" the Columns \"" + fields.get(anchor).getName() + ", " + field.getName() + "\" has anchors.");
+                }
+
+                anchor = fields.size();
+            }
+
+            // @Note This condition makes the check if the class contains more than one version column, and if the
+            // version column has a type that can be changed by the statement
+            if (field.getAnnotation(Version.class) != null) {
+                if (version != -1) {
+                    throw new IllegalStateException("A one column can has the version, in the Class \"" + klass.getSimpleName() + "\" the Columns \"" + fields.get(version).getName() + ", " + field.getName() + "\" has versions.");
+                }
+
+                final Class<?> type = field.getType();
+                if (type != int.class && type != Integer.class && type != long.class && type != Long.class && !Date.class.isAssignableFrom(type)) {
+                    throw new IllegalStateException("Class \"" + klass.getSimpleName() + "\" has the version column from field \"" + field.getName() + "\" that is not an int, a long or a timestamp.");
+                }
+
+                version = fields.size();
+            }
+
+            field.setAccessible(true);
+            fields.add(field);
+            sb.append(column.name()).append(", ");
+        }
+
+        if (sb.length() > 0) {
+            sb.delete(sb.length() - 2, sb.length());
+        }
+
+        this.fields = fields.toArray(new Field[fields.size()]);
+        this.columns = new Column[this.fields.length];
+        for (int i = 0; i < this.fields.length; i++) {
+            this.columns[i] = this.fields[i].getAnnotation(Column.class);
+        }
+
+        this.anchor = anchor;
+        this.version = version;
+        this.columnList = sb.toString();
+
+        if (version != -1 && anchor == -1) {
+            throw new IllegalStateException("Class \"" + klass.getSimpleName() + "\" has a version column without a Column Anchor.");
+        }
+
+        final List<Integer> updatable = new ArrayList<>();
+        for (int i = 0; i < this.fields.length; i++) {
+            if (i != anchor && i != version && this.columns[i].updatable()) updatable.add(i);
+        }
+        this.updatable = new int[updatable.size()];
+        for (int i = 0; i < this.updatable.length; i++) {
+            this.updatable[i] = updatable.get(i);
+        }
+
+        if (anchor == -1) {
+            this.updateStatement = null;
+            this.deleteStatement = null;
+        } else {
+            final String anchorName = this.columns[anchor].name();
+            final String versionName = version == -1 ? null : this.columns[version].name();
+
+            final StringBuilder update = new StringBuilder("UPDATE ").append(this.qualifiedName).append(" SET ");
+            for (int i = 0; i < this.updatable.length; i++) {
+                if (i > 0) update.append(", ");
+                update.append(this.columns[this.updatable[i]].name()).append(" = ?");
+            }
+
+            // @Note The integer version is increased by the statement, and the timestamp version is bound
+            if (versionName != null) {
+                if (this.updatable.length > 0) update.append(", ");
+                update.append(versionName).append(this.numericVersion() ? " = " + versionName + " + 1" : " = ?");
+            }
+
+            update.append(" WHERE ").append(anchorName).append(" = ?");
+            if (versionName != null) update.append(" AND ").append(versionName).append(" = ?");
+            this.updateStatement = this.updatable.length == 0 && versionName == null ? null : update.toString();
+
+            final StringBuilder delete = new StringBuilder("DELETE FROM ").append(this.qualifiedName).append(" WHERE ").append(anchorName).append(" = ?");
+            if (versionName != null) delete.append(" AND ").append(versionName).append(" = ?");
+            this.deleteStatement = delete.toString();
+        }
+
+        final StringBuilder select = new StringBuilder();
+        this.streams = new boolean[this.fields.length];
+        for (int i = 0; i < this.fields.length; i++) {
+            final Class<?> type = this.fields[i].getType();
+            this.streams[i] = type == InputStream.class || type == ReadableByteChannel.class || type == Reader.class || type == Path.class;
+
+            // @Note The binary streams are read by the binary stream from the driver, that returns the bytes from the
+            // encoding from the connection instead the bytes from the text, then these are rejected on the text columns
+            final SqlType sqlType = this.columns[i].type();
+            if ((type == InputStream.class || type == ReadableByteChannel.class) && (sqlType == SqlType.CHAR || sqlType == SqlType.VARCHAR || sqlType == SqlType.TEXT || sqlType == SqlType.LONGTEXT)) {
+                throw new IllegalStateException("Class \"" + klass.getSimpleName() + "\" has the stream field \"" + this.fields[i].getName() + "\" on the text column, the text columns are read by a Reader.");
+            }
+
+            if (i > 0) select.append(", ");
+            select.append(this.streams[i] ? "NULL" : this.columns[i].name());
+        }
+        this.selectList = select.toString();
+
+        final StringBuilder insert = new StringBuilder();
+        insert.append("INSERT INTO ").append(this.qualifiedName).append(" VALUES (");
+        for (int i = 0; i < this.fields.length; i++) {
+            insert.append(i == 0 ? "?" : ", ?");
+        }
+        this.insertStatement = insert.append(')').toString();
+
+        Constructor<?> constructor;
+        try {
+            constructor = klass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        } catch (NoSuchMethodException e) {
+            constructor = null;
+        }
+        this.constructor = constructor;
+    }
+
+    /**
+     * Returns the model from the class, the model is resolved at the first call
+     *
+     * @param klass the class that represents a table
+     * @return the model from the class
+     * @since 0.2
+     */
+    static EntityModel of(final Class<?> klass) {
+        EntityModel model = MODELS.get(klass);
+
+        if (model == null) {
+            model = new EntityModel(klass);
+
+            final EntityModel previous = MODELS.putIfAbsent(klass, model);
+            if (previous != null) model = previous;
+        }
+
+        return model;
+    }
+
+    /**
+     * Returns the index from the column name, or -1 if the class has not the column
+     *
+     * @param columnName the column name
+     * @return the index from the column
+     * @since 0.2
+     */
+    int indexOf(final String columnName) {
+        for (int i = 0; i < this.columns.length; i++) {
+            if (this.columns[i].name().equalsIgnoreCase(columnName)) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index from the column name, if the class has not the column an exception is thrown
+     *
+     * @param columnName the column name
+     * @return the index from the column
+     * @throws IllegalArgumentException if the class has not the column
+     * @since 0.2
+     */
+    int requireColumn(final String columnName) {
+        final int index = this.indexOf(columnName);
+
+        if (index == -1) {
+            throw new IllegalArgumentException("Class \"" + this.klass.getSimpleName() + "\" has not the column \"" + columnName + "\".");
+        }
+
+        return index;
+    }
+
+    /**
+     * Returns the statement template from the shape
+     *
+     * @param shape the shape from the statement
+     * @return the statement template, or null if the template is not built
+     * @since 0.2
+     */
+    String template(final String shape) {
+        return this.templates.get(shape);
+    }
+
+    /**
+     * Puts the statement template from the shape, if other thread puts the template before, the template from the
+     * other thread is returned
+     *
+     * @param shape the shape from the statement
+     * @param sql the statement template
+     * @return the statement template
+     * @since 0.2
+     */
+    String template(final String shape, final String sql) {
+        final String previous = this.templates.putIfAbsent(shape, sql);
+        return previous != null ? previous : sql;
+    }
+
+    /**
+     * Returns the index from the column anchor, if the class has not a column anchor an exception is thrown
+     *
+     * @return the index from the column anchor
+     * @throws IllegalArgumentException if the class has not a column anchor
+     * @since 0.2
+     */
+    int requireAnchor() {
+        if (this.anchor == -1) {
+            throw new IllegalArgumentException("Class \"" + this.klass.getSimpleName() + "\" has not a Column Anchor.");
+        }
+
+        return this.anchor;
+    }
+
+    /**
+     * Returns the value from the column of the object
+     *
+     * @param object the object
+     * @param index the index from the column
+     * @return the value from the column
+     * @since 0.2
+     */
+    Object get(final Object object, final int index) {
+        try {
+            return this.fields[index].get(object);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Returns if the version column is an integer, otherwise the version column is a timestamp
+     *
+     * @return true if the version column is an integer
+     * @since 0.2
+     */
+    boolean numericVersion() {
+        final Class<?> type = this.fields[this.version].getType();
+        return type == int.class || type == Integer.class || type == long.class || type == Long.class;
+    }
+
+    /**
+     * Returns the next version from the version of the object, that is the version that the UPDATE statement puts in
+     * the row
+     *
+     * @param current the version from the object
+     * @return the next version
+     * @since 0.2
+     */
+    Object nextVersion(final Object current) {
+        if (this.numericVersion()) return convert(((Number) current).longValue() + 1, this.fields[this.version].getType());
+
+        // @Note The timestamp is truncated to the fractional seconds from the column, that is the column size, then
+        // the row keeps the same timestamp that is compared by the next statement, and the next timestamp is after the
+        // current timestamp, even if the clock not moves
+        final int precision = Math.min(3, Math.max(0, this.columns[this.version].size()));
+        final long unit = precision == 0 ? 1000 : precision == 1 ? 100 : precision == 2 ? 10 : 1;
+        final long now = System.currentTimeMillis();
+        final long time = Math.max(now - now % unit, ((Date) current).getTime() + unit);
+        return this.fields[this.version].getType() == Date.class ? new Date(time) : new Timestamp(time);
+    }
+
+    /**
+     * Returns the values from the UPDATE statement from the object, in the order from the placeholders
+     *
+     * @param object the object
+     * @param next the next version, that is bound if the version column is a timestamp
+     * @return the values
+     * @since 0.2
+     */
+    Object[] updateValues(final Object object, final Object next) {
+        final boolean versioned = this.version != -1;
+        final Object[] values = new Object[this.updatable.length + 1 + (versioned ? (this.numericVersion() ? 1 : 2) : 0)];
+
+        int index = 0;
+        for (final int column : this.updatable) {
+            values[index++] = this.get(object, column);
+        }
+
+        if (versioned && !this.numericVersion()) values[index++] = next;
+        values[index++] = this.get(object, this.anchor);
+        if (versioned) values[index] = this.get(object, this.version);
+        return values;
+    }
+
+    /**
+     * Returns the values from the DELETE statement from the object, in the order from the placeholders
+     *
+     * @param object the object
+     * @return the values
+     * @since 0.2
+     */
+    Object[] deleteValues(final Object object) {
+        return this.version == -1 ? new Object[] {this.get(object, this.anchor)} : new Object[] {this.get(object, this.anchor), this.get(object, this.version)};
+    }
+
+    /**
+     * Sets the value from the column of the object, the value is converted to the field type
+     *
+     * @param object the object
+     * @param index the index from the column
+     * @param value the value from the column
+     * @since 0.2
+     */
+    void set(final Object object, final int index, final Object value) {
+        final Field field = this.fields[index];
+
+        try {
+            field.set(object, convert(value, field.getType()));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Creates an object from the row, which the values from the row are in the order from the columns, the stream
+     * columns receive a lazy handle that fetches the column from the flexible database when it is read
+     *
+     * @param db the flexible database that fetches the stream columns
+     * @param row the values from the row
+     * @return the object
+     * @since 0.2
+     */
+    Object create(final FlexDb db, final Object[] row) {
+        if (this.constructor == null) {
+            throw new IllegalStateException("Class \"" + this.klass.getSimpleName() + "\" has not a constructor without arguments, to create the objects from the rows.");
+        }
+
+        final Object object;
+        try {
+            object = this.constructor.newInstance();
+        } catch (Exception e) {
+            throw new IllegalStateException("Class \"" + this.klass.getSimpleName() + "\" can not be instantiated.", e);
+        }
+
+        for (int i = 0; i < this.fields.length; i++) {
+            if (!this.streams[i]) {
+                this.set(object, i, row[i]);
+                continue;
+            }
+
+            final Class<?> type = this.fields[i].getType();
+
+            // @Note The stream columns need the column anchor to fetch the column from the row, and the path columns
+            // are only written then they are not set
+            if (this.anchor == -1 || type == Path.class) continue;
+
+            if (type == Reader.class) {
+                this.set(object, i, new LazyReader(db, this, i, row[this.anchor]));
+            } else {
+                final InputStream stream = new LazyInputStream(db, this, i, row[this.anchor]);
+                this.set(object, i, type == InputStream.class ? stream : Channels.newChannel(stream));
+            }
+        }
+
+        return object;
+    }
+
+    /**
+     * Converts the value that is read from the MySQL Storage to the field type, the driver can return a different
+     * wrapper from the field type like a long to an unsigned integer column, or a string to a character field
+     *
+     * @param value the value
+     * @param type the field type
+     * @return the converted value
+     * @since 0.2
+     */
+    static Object convert(final Object value, final Class<?> type) {
+        if (value == null) {
+            // @Note The primitive fields can not receive a null value, then the default value is used
+            if (!type.isPrimitive()) return null;
+            if (type == boolean.class) return false;
+            if (type == char.class) return '\0';
+            return convert(0, type);
+        }
+
+        if (type.isInstance(value)) return value;
+
+        if (value instanceof Number) {
+            final Number number = (Number) value;
+
+            if (type == int.class || type == Integer.class) return number.intValue();
+            if (type == long.class || type == Long.class) return number.longValue();
+            if (type == double.class || type == Double.class) return number.doubleValue();
+            if (type == float.class || type == Float.class) return number.floatValue();
+            if (type == short.class || type == Short.class) return number.shortValue();
+            if (type == byte.class || type == Byte.class) return number.byteValue();
+            if (type == boolean.class || type == Boolean.class) return number.intValue() != 0;
+        }
+
+        if (value instanceof Boolean) {
+            if (type == boolean.class) return value;
+            if (type == int.class || type == Integer.class) return (Boolean) value ? 1 : 0;
+        }
+
+        if (value instanceof String && (type == char.class || type == Character.class)) {
+            final String string = (String) value;
+            return string.isEmpty() ? '\0' : string.charAt(0);
+        }
+
+        if (value instanceof byte[] && type == ByteBuffer.class) return ByteBuffer.wrap((byte[]) value);
+
+        if (type == String.class) return value.toString();
+
+        return value;
+    }
+}
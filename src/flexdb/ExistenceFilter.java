@@ -0,0 +1,197 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.util.BloomFilter;
+import flexdb.util.NamedThreadFactory;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This represents the existence filter from the column anchor values of a table, which is a Bloom filter that is
+ * built from a keyset scan from the column anchor and receives the values that are inserted, the values that are
+ * deleted can not be removed from the filter then the filter is rebuilt periodically
+ *
+ * @author biologyiswell (19/10/2026 23:58)
+ * @since 0.2
+ */
+final class ExistenceFilter { // package-private
+
+    /**
+     * This represents the quantity of column anchor values from each page that is read when the filter is built
+     * @since 0.2
+     */
+    private static final int PAGE_SIZE = 10000;
+
+    /**
+     * This represents the false positive rate from the filters
+     * @since 0.2
+     */
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    /**
+     * These represents the flexible database and the model from the class
+     * @since 0.2
+     */
+    private final FlexDb db;
+    private final EntityModel model;
+
+    /**
+     * These represents the filter that answers the checks and the filter that is built, which receives the values
+     * that are inserted while it is built
+     * @since 0.2
+     */
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    /**
+     * This represents the lock that is held by the puts and by the changes from the filters, then a value that is put
+     * while the filter is swapped is put in the filter that answers the checks after the swap
+     * @since 0.2
+     */
+    private final Object lock = new Object();
+
+    /**
+     * This represents the scheduler that rebuilds the filter
+     * @since 0.2
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Creates an instance from existence filter, which the filter is built before it is returned
+     *
+     * @param db the flexible database
+     * @param model the model from the class
+     * @param period the period from the rebuild
+     * @param unit the unit from the period
+     * @since 0.2
+     */
+    ExistenceFilter(final FlexDb db, final EntityModel model, final long period, final TimeUnit unit) { // package-private
+        this.db = db;
+        this.model = model;
+        this.model.requireAnchor();
+
+        this.build();
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("FlexDb-filter", Thread.MIN_PRIORITY));
+        this.scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    ExistenceFilter.this.build();
+                } catch (RuntimeException e) {
+                    // @Note The exception is caught, otherwise the scheduler stops to rebuild
+                    e.printStackTrace();
+                }
+            }
+        }, period, period, unit);
+    }
+
+    /**
+     * Returns if the column anchor value can exist in the table
+     *
+     * @param anchor the column anchor value
+     * @return false if the value does not exist, true if it can exist
+     * @since 0.2
+     */
+    boolean mightContain(final Object anchor) { // package-private
+        return this.current.mightContain(anchor);
+    }
+
+    /**
+     * Puts the column anchor value that is inserted
+     *
+     * @param anchor the column anchor value
+     * @since 0.2
+     */
+    void put(final Object anchor) { // package-private
+        synchronized (this.lock) {
+            final BloomFilter building = this.building;
+            if (building != null) building.put(anchor);
+
+            this.current.put(anchor);
+        }
+    }
+
+    /**
+     * Builds the filter from a keyset scan from the column anchor, the current filter answers the checks while the
+     * filter is built
+     *
+     * @since 0.2
+     */
+    void build() { // package-private
+        final String table = this.model.table.name();
+        final String anchor = this.model.columns[this.model.anchor].name();
+
+        final List<Object[]> count = this.db.fetch(table, "SELECT COUNT(*) FROM " + this.model.qualifiedName, new Object[0]);
+        if (count == null) throw new IllegalStateException("rows from the table \"" + this.model.qualifiedName + "\" can not be counted");
+
+        // @Note The filter is sized to the double from the rows, then the rows that are inserted until the next
+        // rebuild not raise the false positive rate
+        final BloomFilter filter = new BloomFilter(Math.max(1024, ((Number) count.get(0)[0]).longValue() * 2), FALSE_POSITIVE_RATE);
+        synchronized (this.lock) {
+            this.building = filter;
+        }
+
+        try {
+            Object after = null;
+
+            while (true) {
+                final List<Object[]> rows = after == null
+                        ? this.db.fetch(table, "SELECT " + anchor + " FROM " + this.model.qualifiedName + " ORDER BY " + anchor + " LIMIT ?", new Object[] {PAGE_SIZE})
+                        : this.db.fetch(table, "SELECT " + anchor + " FROM " + this.model.qualifiedName + " WHERE " + anchor + " > ? ORDER BY " + anchor + " LIMIT ?", new Object[] {after, PAGE_SIZE});
+
+                if (rows == null) throw new IllegalStateException("column anchor values from the table \"" + this.model.qualifiedName + "\" can not be read");
+
+                for (final Object[] row : rows) {
+                    filter.put(row[0]);
+                }
+
+                if (rows.size() < PAGE_SIZE) break;
+                after = rows.get(rows.size() - 1)[0];
+            }
+
+            synchronized (this.lock) {
+                this.current = filter;
+                this.building = null;
+            }
+        } finally {
+            synchronized (this.lock) {
+                if (this.building == filter) this.building = null;
+            }
+        }
+    }
+
+    /**
+     * Closes the filter, which the rebuild is stopped
+     *
+     * @since 0.2
+     */
+    void close() { // package-private
+        this.scheduler.shutdownNow();
+    }
+}
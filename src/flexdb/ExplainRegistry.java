@@ -0,0 +1,533 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.util.NamedThreadFactory;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This represents the registry from the plans of the slow statements, which is a statement listener that receives the
+ * executions that exceed the threshold, and captures the EXPLAIN FORMAT=JSON from the statement template with the
+ * values from the slow execution, the plans are captured by a thread with the minimum priority on a separate
+ * connection, each template is captured once by interval and the captures that are waiting are limited, then the
+ * registry keeps the plan with the latency samples from each template
+ *
+ * @author biologyiswell (20/10/2026 03:22)
+ * @since 0.2
+ */
+public class ExplainRegistry implements StatementListener {
+
+    /**
+     * This represents the quantity of captures that can wait for the thread, the captures after them are discarded
+     * @since 0.2
+     */
+    private static final int QUEUE_SIZE = 64;
+
+    /**
+     * This represents the flexible database
+     * @since 0.2
+     */
+    private final FlexDb db;
+
+    /**
+     * This represents the threshold in nanoseconds from the slow statements
+     * @since 0.2
+     */
+    private final long threshold;
+
+    /**
+     * This represents the minimum interval in nanoseconds between the captures from the same template
+     * @since 0.2
+     */
+    private final long interval;
+
+    /**
+     * This represents the maximum quantity of templates that are kept
+     * @since 0.2
+     */
+    private final int maximumSize;
+
+    /**
+     * This represents the plans by statement template
+     * @since 0.2
+     */
+    private final ConcurrentHashMap<String, Explain> explains = new ConcurrentHashMap<>();
+
+    /**
+     * This represents the executor from the captures, that has a single thread with the minimum priority
+     * @since 0.2
+     */
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * This represents the separate connection where the plans are captured, that is only used by the thread from the
+     * executor
+     * @since 0.2
+     */
+    private volatile Connection connection;
+
+    /**
+     * Creates an instance of explain registry, which each template is captured once by ten minutes and the registry
+     * keeps until 1000 templates
+     *
+     * @param db the flexible database
+     * @param threshold the threshold from the slow statements
+     * @param unit the unit from the threshold
+     * @since 0.2
+     */
+    public ExplainRegistry(final FlexDb db, final long threshold, final TimeUnit unit) {
+        this(db, threshold, unit, TimeUnit.MINUTES.toNanos(10), TimeUnit.NANOSECONDS, 1000);
+    }
+
+    /**
+     * Creates an instance of explain registry, the registry must be added to the flexible database by the method
+     * {@link FlexDb#addStatementListener(StatementListener)}
+     *
+     * @param db the flexible database
+     * @param threshold the threshold from the slow statements
+     * @param thresholdUnit the unit from the threshold
+     * @param interval the minimum interval between the captures from the same template
+     * @param intervalUnit the unit from the interval
+     * @param maximumSize the maximum quantity of templates that are kept
+     * @since 0.2
+     */
+    public ExplainRegistry(final FlexDb db, final long threshold, final TimeUnit thresholdUnit, final long interval, final TimeUnit intervalUnit, final int maximumSize) {
+        if (db == null) throw new NullPointerException("db");
+        if (thresholdUnit == null) throw new NullPointerException("thresholdUnit");
+        if (intervalUnit == null) throw new NullPointerException("intervalUnit");
+        if (threshold < 0) throw new IllegalArgumentException("threshold < 0");
+        if (interval < 0) throw new IllegalArgumentException("interval < 0");
+        if (maximumSize <= 0) throw new IllegalArgumentException("maximumSize <= 0");
+
+        this.db = db;
+        this.threshold = thresholdUnit.toNanos(threshold);
+        this.interval = intervalUnit.toNanos(interval);
+        this.maximumSize = maximumSize;
+
+        // @Note The captures that exceed the queue are rejected, then the slow statements never wait for the captures
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(QUEUE_SIZE), new NamedThreadFactory("FlexDb-explain", Thread.MIN_PRIORITY));
+    }
+
+    @Override
+    public void before(final StatementEvent event) {
+    }
+
+    @Override
+    public void after(final StatementEvent event) {
+        final long elapsedTime = event.getElapsedTime();
+        if (elapsedTime < this.threshold) return;
+
+        // @Note The batches and the schema statements have not a single execution to explain
+        final StatementEvent.Operation operation = event.getOperation();
+        if (operation != StatementEvent.Operation.QUERY && operation != StatementEvent.Operation.UPDATE) return;
+
+        final String sql = event.getSql();
+        if (!explainable(sql)) return;
+
+        Explain explain = this.explains.get(sql);
+        if (explain == null) {
+            if (this.explains.size() >= this.maximumSize) return;
+
+            final Explain created = new Explain(sql, event.getTable(), operation);
+            explain = this.explains.putIfAbsent(sql, created);
+            if (explain == null) explain = created;
+        }
+
+        explain.sample(elapsedTime);
+
+        // @Note The template is captured once by interval, and only one capture from the template waits at a time
+        final long now = System.nanoTime();
+        if (explain.capturedAt != 0 && now - explain.capturedAt < this.interval) return;
+        if (!explain.capturing.compareAndSet(false, true)) return;
+
+        final Object[] values = event.getValues();
+        final Explain target = explain;
+        final Object[] copy = values == null ? new Object[0] : values.clone();
+
+        try {
+            this.executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    ExplainRegistry.this.capture(target, copy, elapsedTime);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // @Note The capture that is rejected by the full queue or by the close is released, then the next slow
+            // execution from the template tries again
+            explain.capturing.set(false);
+        }
+    }
+
+    @Override
+    public void error(final StatementEvent event, final SQLException exception) {
+    }
+
+    /**
+     * Returns the plan from the statement template
+     *
+     * @param sql the statement template
+     * @return the plan, or null if the template is not slow
+     * @since 0.2
+     */
+    public Explain get(final String sql) {
+        return this.explains.get(sql);
+    }
+
+    /**
+     * Returns the plans from all templates, which the templates with the highest latency are the first
+     *
+     * @return the plans
+     * @since 0.2
+     */
+    public List<Explain> getAll() {
+        final List<Explain> explains = new ArrayList<>(this.explains.values());
+        Collections.sort(explains, new Comparator<Explain>() {
+            @Override
+            public int compare(final Explain first, final Explain second) {
+                return Long.compare(second.getMaximumLatency(), first.getMaximumLatency());
+            }
+        });
+        return explains;
+    }
+
+    /**
+     * Removes the plans from all templates
+     *
+     * @since 0.2
+     */
+    public void clear() {
+        this.explains.clear();
+    }
+
+    /**
+     * Removes the registry from the flexible database, and stops the thread and closes the separate connection, the
+     * plans are kept
+     *
+     * @since 0.2
+     */
+    public void close() {
+        this.db.removeStatementListener(this);
+        this.executor.shutdown();
+
+        try {
+            // @Note The capture that is running finishes before the connection is closed
+            this.executor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        this.closeConnection();
+    }
+
+    /**
+     * Captures the plan from the template, this method is called by the thread from the executor
+     *
+     * @param explain the plan from the template
+     * @param values the values from the slow execution
+     * @param latency the latency in nanoseconds from the slow execution
+     * @since 0.2
+     */
+    private void capture(final Explain explain, final Object[] values, final long latency) {
+        try {
+            final Connection connection = this.connection();
+            final boolean separate = connection != null;
+            final Connection target = separate ? connection : this.db.acquire();
+
+            try (final PreparedStatement statement = target.prepareStatement("EXPLAIN FORMAT=JSON " + explain.template)) {
+                // @Note The streams from the execution are consumed and the files are not needed by the plan, then the
+                // placeholders from them are bound to null
+                final Object[] bound = new Object[values.length];
+                for (int i = 0; i < values.length; i++) {
+                    bound[i] = values[i] instanceof InputStream || values[i] instanceof ReadableByteChannel || values[i] instanceof Reader || values[i] instanceof Path ? null : values[i];
+                }
+
+                this.db.bind(statement, bound);
+
+                try (final ResultSet resultSet = statement.executeQuery()) {
+                    explain.capture(resultSet.next() ? resultSet.getString(1) : null, null, latency);
+                }
+            } finally {
+                if (!separate) this.db.release(target);
+            }
+        } catch (SQLException e) {
+            explain.capture(null, e.getMessage(), latency);
+            this.closeConnection();
+        } finally {
+            explain.capturing.set(false);
+        }
+    }
+
+    /**
+     * Returns the separate connection, which is opened at the first capture and opened again if it is closed, the
+     * flexible databases that are created from a connection have not the credentials, then the captures use the
+     * acquired connection
+     *
+     * @return the separate connection, or null if the flexible database has not the credentials
+     * @throws SQLException this exception is thrown if the connection can not be opened
+     * @since 0.2
+     */
+    private Connection connection() throws SQLException {
+        if (this.db.host == null) return null;
+
+        Connection connection = this.connection;
+        if (connection == null || connection.isClosed()) {
+            connection = DriverManager.getConnection(this.db.url(), this.db.username, this.db.password);
+            this.connection = connection;
+        }
+        return connection;
+    }
+
+    /**
+     * Closes the separate connection
+     *
+     * @since 0.2
+     */
+    private void closeConnection() {
+        final Connection connection = this.connection;
+        if (connection == null) return;
+
+        this.connection = null;
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Returns if the statement can be explained
+     *
+     * @param sql the statement
+     * @return true if the statement is a select, insert, replace, update or delete
+     * @since 0.2
+     */
+    private static boolean explainable(final String sql) {
+        int start = 0;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) start++;
+
+        final int end = Math.min(sql.length(), start + 7);
+        final String keyword = sql.substring(start, end).toUpperCase(Locale.ROOT);
+        return keyword.startsWith("SELECT") || keyword.startsWith("INSERT") || keyword.startsWith("REPLACE") || keyword.startsWith("UPDATE") || keyword.startsWith("DELETE");
+    }
+
+    /**
+     * This represents the plan from a slow statement template with its latency samples
+     *
+     * @since 0.2
+     */
+    public static final class Explain {
+
+        /**
+         * These represents the statement template, the table name and the type from the operation
+         * @since 0.2
+         */
+        private final String template;
+        private final String table;
+        private final StatementEvent.Operation operation;
+
+        /**
+         * These represents the latency samples from the slow executions
+         * @since 0.2
+         */
+        private long count;
+        private long totalLatency;
+        private long maximumLatency;
+        private long lastLatency;
+
+        /**
+         * These represents the captured plan, the error from the capture and the latency from the execution that
+         * is explained
+         * @since 0.2
+         */
+        private volatile String plan;
+        private volatile String error;
+        private volatile long planLatency;
+        private volatile long capturedAt;
+
+        /**
+         * This represents if the template is being captured
+         * @since 0.2
+         */
+        private final AtomicBoolean capturing = new AtomicBoolean();
+
+        private Explain(final String template, final String table, final StatementEvent.Operation operation) {
+            this.template = template;
+            this.table = table;
+            this.operation = operation;
+        }
+
+        /**
+         * Adds the latency sample from a slow execution
+         *
+         * @param latency the latency in nanoseconds
+         * @since 0.2
+         */
+        private synchronized void sample(final long latency) {
+            this.count++;
+            this.totalLatency += latency;
+            this.lastLatency = latency;
+            if (latency > this.maximumLatency) this.maximumLatency = latency;
+        }
+
+        /**
+         * Sets the captured plan
+         *
+         * @param plan the plan, or null if the capture fails
+         * @param error the error, or null if the capture succeeds
+         * @param latency the latency in nanoseconds from the execution that is explained
+         * @since 0.2
+         */
+        private void capture(final String plan, final String error, final long latency) {
+            this.plan = plan;
+            this.error = error;
+            this.planLatency = latency;
+            this.capturedAt = System.nanoTime();
+        }
+
+        /**
+         * Returns the statement template
+         *
+         * @return the statement template
+         * @since 0.2
+         */
+        public String getTemplate() {
+            return this.template;
+        }
+
+        /**
+         * Returns the table name
+         *
+         * @return the table name, or null if the statement has not a single table
+         * @since 0.2
+         */
+        public String getTable() {
+            return this.table;
+        }
+
+        /**
+         * Returns the type from the operation
+         *
+         * @return the operation
+         * @since 0.2
+         */
+        public StatementEvent.Operation getOperation() {
+            return this.operation;
+        }
+
+        /**
+         * Returns the plan in the JSON format from the EXPLAIN FORMAT=JSON
+         *
+         * @return the plan, or null if the plan is not captured
+         * @since 0.2
+         */
+        public String getPlan() {
+            return this.plan;
+        }
+
+        /**
+         * Returns the error from the last capture
+         *
+         * @return the error, or null if the last capture succeeds
+         * @since 0.2
+         */
+        public String getError() {
+            return this.error;
+        }
+
+        /**
+         * Returns the latency from the execution that is explained by the plan
+         *
+         * @return the latency in nanoseconds
+         * @since 0.2
+         */
+        public long getPlanLatency() {
+            return this.planLatency;
+        }
+
+        /**
+         * Returns the quantity of slow executions from the template
+         *
+         * @return the count
+         * @since 0.2
+         */
+        public synchronized long getCount() {
+            return this.count;
+        }
+
+        /**
+         * Returns the average latency from the slow executions
+         *
+         * @return the average latency in nanoseconds
+         * @since 0.2
+         */
+        public synchronized long getAverageLatency() {
+            return this.count == 0 ? 0 : this.totalLatency / this.count;
+        }
+
+        /**
+         * Returns the maximum latency from the slow executions
+         *
+         * @return the maximum latency in nanoseconds
+         * @since 0.2
+         */
+        public synchronized long getMaximumLatency() {
+            return this.maximumLatency;
+        }
+
+        /**
+         * Returns the latency from the last slow execution
+         *
+         * @return the last latency in nanoseconds
+         * @since 0.2
+         */
+        public synchronized long getLastLatency() {
+            return this.lastLatency;
+        }
+
+        @Override
+        public String toString() {
+            return "Explain{template=" + this.template + ", count=" + this.getCount() + ", averageLatency=" + this.getAverageLatency() + ", maximumLatency=" + this.getMaximumLatency() + ", plan=" + this.plan + "}";
+        }
+    }
+}
@@ -27,14 +27,45 @@ import flexdb.annotation.Column;
 import flexdb.annotation.ColumnAnchor;
 import flexdb.annotation.Data;
 import flexdb.annotation.Table;
+import flexdb.util.ByteBufferInputStream;
+import flexdb.util.DirectBufferPool;
+import flexdb.util.FileFormat;
+import flexdb.util.MappedFileInputStream;
+import flexdb.util.NamedThreadFactory;
 import flexdb.util.SqlType;
 
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Field;
+import java.math.BigInteger;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * FlexDb, class,
@@ -46,6 +77,19 @@ import java.util.Map;
  */
 public abstract class FlexDb {
 
+    /**
+     * This represents the quantity of rows from each page that is read by the segments from the parallel scan
+     * @since 0.2
+     */
+    private static final int SEGMENT_PAGE_SIZE = 1000;
+
+    /**
+     * This represents the quantity of anchor values from each chunk that is read by the get all, that is far below from
+     * the limit of placeholders from a prepared statement
+     * @since 0.2
+     */
+    private static final int GET_ALL_CHUNK_SIZE = 1024;
+
     /**
      * Host, username, password and port variables that is used to make the connection with MySQL Storage
      * @since 0.1
@@ -55,6 +99,52 @@ public abstract class FlexDb {
     protected String password;
     protected int port;
 
+    /**
+     * This represents the admission controller that limits the operations that are in flight, or null if the
+     * operations are not limited
+     * @since 0.2
+     */
+    private volatile AdmissionController admission;
+
+    /**
+     * This represents the cache from the results of the read queries, or null if the results are not cached
+     * @since 0.2
+     */
+    private volatile ResultCache cache;
+
+    /**
+     * This represents the executor that runs the background works from the operations, like the prefetch from the
+     * pages, which is created at the first use
+     * @since 0.2
+     */
+    private volatile ExecutorService executor;
+
+    /**
+     * This represents the spool where the writes to the spooled tables are appended, or null if the spool is not
+     * enabled
+     * @since 0.2
+     */
+    private volatile WriteSpool spool;
+
+    /**
+     * This represents the existence filters from the column anchor values, by the qualified table name
+     * @since 0.2
+     */
+    private final ConcurrentHashMap<String, ExistenceFilter> filters = new ConcurrentHashMap<>();
+
+    /**
+     * This represents the cache from the schema fingerprints, or null if the tables are always checked
+     * @since 0.2
+     */
+    private volatile SchemaCache schemaCache;
+
+    /**
+     * This represents the listeners that receive the executions from the statements, or null if the flexible database
+     * has not listeners, then the statements without listeners only check the null
+     * @since 0.2
+     */
+    private volatile StatementListener[] listeners;
+
     /**
      * Creates an instance of flexible database which this database handler hass not a flexible database type to handle,
      * this constructor is created to database types that construct the database handler with a different constructor
@@ -97,6 +187,43 @@ public abstract class FlexDb {
      */
     public abstract Connection connection() throws SQLException;
 
+    /**
+     * Returns the URL that is used to open the connections to the MySQL Storage, which enables the server-side prepared
+     * statements, then the streams that are bound to the statements are sent by chunks instead of materialized into
+     * the statement, and the prepared statements are cached by the driver, the batches are rewritten by the driver
+     * then the batches from different statements are sent in one multi-statement packet
+     *
+     * @return the URL to open the connections
+     * @since 0.2
+     */
+    protected String url() {
+        return "jdbc:mysql://" + this.host + ":" + this.port + "/?useServerPrepStmts=true&cachePrepStmts=true&rewriteBatchedStatements=true";
+    }
+
+    /**
+     * Acquire, method,
+     * This method acquires the connection that is used by an operation from the flexible database, which the connection
+     * must be given back by the release method when the operation finish, by default this method returns the connection
+     * from the connection method
+     *
+     * @return the connection acquired by the operation
+     * @throws SQLException this exception is thrown if method relationed with connection fails
+     * @since 0.2
+     */
+    protected Connection acquire() throws SQLException {
+        return this.connection();
+    }
+
+    /**
+     * Release, method,
+     * This method gives back the connection that is acquired by the acquire method, by default this method does nothing
+     *
+     * @param connection the connection that is given back
+     * @since 0.2
+     */
+    protected void release(final Connection connection) {
+    }
+
     // Methods
 
     /**
@@ -130,6 +257,38 @@ public abstract class FlexDb {
         this.checkTable(klass, klass.getAnnotation(Data.class), klass.getAnnotation(Table.class));
     }
 
+    /**
+     * Plan, method,
+     * This method compares the columns from the class with the columns from the table, and returns the changes and the
+     * statement that the method "table" executes, without changes the table, that represents a dry run
+     *
+     * @param klass the class that contains the database annotation, table annotation and column annotations
+     * @return the schema plan, or null if the schema can not be read
+     * @since 0.2
+     */
+    public final SchemaPlan plan(final Class<?> klass) {
+        // @Note Check if the "klass" is null
+        if (klass == null) throw new NullPointerException("klass");
+
+        final Data data = klass.getAnnotation(Data.class);
+        final Table table = klass.getAnnotation(Table.class);
+        this.checkDatabaseAndTable(klass, data, table);
+
+        try {
+            final Connection connection = this.acquire();
+
+            try {
+                return SchemaDiff.plan(this, klass, data, table, connection);
+            } finally {
+                this.release(connection);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+
     /**
      * Insert, method,
      * This method insert an object to the database, with this object the class is get to can the method get the
@@ -144,6 +303,7 @@ public abstract class FlexDb {
 
         final Class<?> klass = object.getClass();
         this.checkInsert(object, klass, klass.getAnnotation(Data.class), klass.getAnnotation(Table.class));
+        this.remember(object);
     }
 
     /**
@@ -161,6 +321,65 @@ public abstract class FlexDb {
 
         // @Note Make the check insert about the arguments
         this.checkInsertWithArguments(klass, klass.getAnnotation(Data.class), klass.getAnnotation(Table.class), objects);
+
+        // @Note The arguments are in the order from the columns, then the column anchor value is in the anchor index
+        if (!this.filters.isEmpty()) {
+            final EntityModel model = EntityModel.of(klass);
+            final ExistenceFilter filter = this.filters.get(model.qualifiedName);
+            if (filter != null && objects.length == model.fields.length) filter.put(objects[model.anchor]);
+        }
+    }
+
+    /**
+     * Insert All, method,
+     * This method inserts the objects to the database in batches, the objects from the same class are inserted in a
+     * single batch on a single connection and transaction, then the batch is inserted entirely or not inserted
+     *
+     * @param objects the objects that contain the database name, table name and columns informations
+     * @since 0.2
+     */
+    public final void insertAll(final Collection<?> objects) {
+        if (objects == null) throw new NullPointerException("objects");
+
+        // @Note Group the objects by class, keeping the order from the objects
+        final Map<EntityModel, List<Object[]>> batches = new LinkedHashMap<>();
+        for (final Object object : objects) {
+            if (object == null) throw new NullPointerException("object (objects can not contain null)");
+
+            final EntityModel model = EntityModel.of(object.getClass());
+            List<Object[]> rows = batches.get(model);
+
+            if (rows == null) {
+                rows = new ArrayList<>();
+                batches.put(model, rows);
+            }
+
+            final Object[] row = new Object[model.fields.length];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = model.get(object, i);
+            }
+            rows.add(row);
+        }
+
+        for (final Map.Entry<EntityModel, List<Object[]>> entry : batches.entrySet()) {
+            final EntityModel model = entry.getKey();
+
+            // @Note The rows from the spooled tables are appended to the spool one by one, in the same order
+            if (this.spool != null && model.table.spooled()) {
+                for (final Object[] row : entry.getValue()) {
+                    this.write(model.table, model.insertStatement, row);
+                }
+                continue;
+            }
+
+            this.executeBatch(model.table.name(), model.insertStatement, entry.getValue());
+        }
+
+        if (!this.filters.isEmpty()) {
+            for (final Object object : objects) {
+                this.remember(object);
+            }
+        }
     }
 
     /**
@@ -176,6 +395,16 @@ public abstract class FlexDb {
         if (object == null) throw new NullPointerException("object");
 
         final Class<?> klass = object.getClass();
+
+        // @Note The object with a version column is updated only if the row has the version from the object
+        final EntityModel model = EntityModel.of(klass);
+        if (model.version != -1) {
+            this.checkVersioned(object, model, true);
+            return;
+        }
+
+        if (this.absent(object)) return;
+
         this.checkUpdate(object, klass, klass.getAnnotation(Data.class), klass.getAnnotation(Table.class));
     }
 
@@ -198,7 +427,21 @@ public abstract class FlexDb {
         if (argCheck == null) throw new NullPointerException("argCheck");
         if (args == null) throw new NullPointerException("args");
 
+        if (this.absent(klass, whereCheck, argCheck)) return;
+
         this.checkUpdate(klass, klass.getAnnotation(Data.class), klass.getAnnotation(Table.class), whereCheck, argCheck, args);
+
+        // @Note The update can change the column anchor value, then the new value is put in the existence filter
+        if (!this.filters.isEmpty()) {
+            final EntityModel model = EntityModel.of(klass);
+            final ExistenceFilter filter = this.filters.get(model.qualifiedName);
+
+            for (int i = 0; filter != null && i + 1 < args.length; i += 2) {
+                if (args[i] instanceof String && args[i + 1] != null && ((String) args[i]).equalsIgnoreCase(model.columns[model.anchor].name())) {
+                    filter.put(args[i + 1]);
+                }
+            }
+        }
     }
 
     /**
@@ -214,9 +457,50 @@ public abstract class FlexDb {
         if (object == null) throw new NullPointerException("object");
 
         final Class<?> klass = object.getClass();
+
+        // @Note The object with a version column is deleted only if the row has the version from the object
+        final EntityModel model = EntityModel.of(klass);
+        if (model.version != -1) {
+            this.checkVersioned(object, model, false);
+            return;
+        }
+
+        if (this.absent(object)) return;
+
         this.checkDelete(object, klass, klass.getAnnotation(Data.class), klass.getAnnotation(Table.class));
     }
 
+    /**
+     * Update All, method,
+     * This method updates the objects in the database in batches, the objects from the same class are updated in a
+     * single batch on a single connection and transaction, the objects with a version column that the row has not the
+     * version from the object are not updated and are returned as conflicts, the other objects from the batch are
+     * updated and receive the next version
+     *
+     * @param objects the objects that will be updated
+     * @return the objects that are in conflict, or an empty list if the objects have not conflicts
+     * @throws IllegalStateException this exception is thrown if the batch from the objects with a version column fails
+     * @since 0.2
+     */
+    public final List<Object> updateAll(final Collection<?> objects) {
+        return this.writeAll(objects, true);
+    }
+
+    /**
+     * Delete All, method,
+     * This method deletes the objects from the database in batches, the objects from the same class are deleted in a
+     * single batch on a single connection and transaction, the objects with a version column that the row has not the
+     * version from the object are not deleted and are returned as conflicts
+     *
+     * @param objects the objects that will be deleted
+     * @return the objects that are in conflict, or an empty list if the objects have not conflicts
+     * @throws IllegalStateException this exception is thrown if the batch from the objects with a version column fails
+     * @since 0.2
+     */
+    public final List<Object> deleteAll(final Collection<?> objects) {
+        return this.writeAll(objects, false);
+    }
+
     /**
      * Delete, method,
      * This method makes the delete from the class that represents a table and by values that represents the column
@@ -231,9 +515,100 @@ public abstract class FlexDb {
         if (columnCheck == null) throw new NullPointerException("columnCheck");
         if (argCheck == null) throw new NullPointerException("argCheck");
 
+        if (this.absent(klass, columnCheck, argCheck)) return;
+
         this.checkDelete(klass, klass.getAnnotation(Data.class), klass.getAnnotation(Table.class), columnCheck, argCheck);
     }
 
+    /**
+     * Update, method,
+     * This method updates the columns from the rows that are matched by the criteria, the criteria can have the order
+     * and the limit from the rows that are updated
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param criteria the criteria from the rows
+     * @param args the arguments that represents a pair of arguments that the first argument represents the column name
+     *             that will be update, and the second argument that represents the value that will be update
+     * @since 0.2
+     */
+    public final void update(final Class<?> klass, final Criteria criteria, final Object... args) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (criteria == null) throw new NullPointerException("criteria");
+        if (args == null) throw new NullPointerException("args");
+        if (args.length == 0 || args.length % 2 != 0) throw new IllegalArgumentException("args is not a list of column and value pairs");
+
+        final EntityModel model = EntityModel.of(klass);
+        final Object anchor = criteria.anchor(model);
+        if (anchor != null && this.absent(klass, model.columns[model.anchor].name(), anchor)) return;
+
+        final StringBuilder shape = new StringBuilder("UPDATE:");
+        for (int i = 0; i < args.length; i += 2) {
+            if (!(args[i] instanceof String)) throw new IllegalArgumentException("The columns and values from argument-list has not a string");
+            shape.append(args[i]).append(',');
+        }
+        shape.append(':').append(criteria.shape());
+
+        String sql = model.template(shape.toString());
+        if (sql == null) {
+            final StringBuilder sb = new StringBuilder("UPDATE ").append(model.qualifiedName).append(" SET ");
+            for (int i = 0; i < args.length; i += 2) {
+                if (i > 0) sb.append(", ");
+                sb.append(model.columns[model.requireColumn((String) args[i])].name()).append(" = ?");
+            }
+            criteria.compile(sb, model);
+
+            sql = model.template(shape.toString(), sb.toString());
+        }
+
+        final List<Object> values = new ArrayList<>(args.length / 2 + 4);
+        for (int i = 1; i < args.length; i += 2) {
+            values.add(args[i]);
+        }
+        criteria.bind(values);
+
+        this.write(model.table, sql, values.toArray());
+
+        // @Note The update can change the column anchor value, then the new value is put in the existence filter
+        final ExistenceFilter filter = this.filters.isEmpty() ? null : this.filters.get(model.qualifiedName);
+        for (int i = 0; filter != null && i < args.length; i += 2) {
+            if (args[i + 1] != null && ((String) args[i]).equalsIgnoreCase(model.columns[model.anchor].name())) {
+                filter.put(args[i + 1]);
+            }
+        }
+    }
+
+    /**
+     * Delete, method,
+     * This method deletes the rows that are matched by the criteria, the criteria can have the order and the limit from
+     * the rows that are deleted
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param criteria the criteria from the rows
+     * @since 0.2
+     */
+    public final void delete(final Class<?> klass, final Criteria criteria) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (criteria == null) throw new NullPointerException("criteria");
+
+        final EntityModel model = EntityModel.of(klass);
+        final Object anchor = criteria.anchor(model);
+        if (anchor != null && this.absent(klass, model.columns[model.anchor].name(), anchor)) return;
+
+        final String shape = "DELETE:" + criteria.shape();
+        String sql = model.template(shape);
+        if (sql == null) {
+            final StringBuilder sb = new StringBuilder("DELETE FROM ").append(model.qualifiedName);
+            criteria.compile(sb, model);
+
+            sql = model.template(shape, sb.toString());
+        }
+
+        final List<Object> values = new ArrayList<>();
+        criteria.bind(values);
+
+        this.write(model.table, sql, values.toArray());
+    }
+
     /**
      * Operation, method,
      * This method execute a statement
@@ -251,17 +626,1371 @@ public abstract class FlexDb {
      * Operations, method,
      * This method execute a array of operations in a statement
      *
-     * @param operations the array of operations
-     * @since 0.1
+     * @param operations the array of operations
+     * @since 0.1
+     */
+    public final void operations(final String... operations) {
+        if (operations == null) throw new NullPointerException("operations");
+
+        this.checkOperations(operations);
+    }
+
+    /**
+     * Set Admission Controller, method,
+     * This method sets the admission controller that is put in front of the operations from this flexible database,
+     * the operations that are rejected by the admission controller throw the admission rejected exception
+     *
+     * @param admission the admission controller, or null to not limit the operations
+     * @since 0.2
+     */
+    public final void setAdmissionController(final AdmissionController admission) {
+        this.admission = admission;
+    }
+
+    /**
+     * Set Result Cache, method,
+     * This method sets the cache from the results of the read queries from this flexible database, the results are
+     * evicted when the table that they read is changed through this flexible database, the changes that are made by
+     * other clients are only seen when the results expire
+     *
+     * @param cache the result cache, or null to not cache the results
+     * @since 0.2
+     */
+    public final void setResultCache(final ResultCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Add Statement Listener, method,
+     * This method adds the listener that receives the executions from the statements of all operations
+     *
+     * @param listener the statement listener
+     * @since 0.2
+     */
+    public final synchronized void addStatementListener(final StatementListener listener) {
+        if (listener == null) throw new NullPointerException("listener");
+
+        final StatementListener[] listeners = this.listeners;
+        if (listeners == null) {
+            this.listeners = new StatementListener[] { listener };
+            return;
+        }
+
+        final StatementListener[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        this.listeners = copy;
+    }
+
+    /**
+     * Remove Statement Listener, method,
+     * This method removes the listener, the executions that are started receive the listener until they finish
+     *
+     * @param listener the statement listener
+     * @since 0.2
+     */
+    public final synchronized void removeStatementListener(final StatementListener listener) {
+        final StatementListener[] listeners = this.listeners;
+        if (listeners == null) return;
+
+        final List<StatementListener> copy = new ArrayList<>(Arrays.asList(listeners));
+        if (!copy.remove(listener)) return;
+
+        this.listeners = copy.isEmpty() ? null : copy.toArray(new StatementListener[copy.size()]);
+    }
+
+    /**
+     * Enable Explain, method,
+     * This method adds the registry that captures the plans from the statements that exceed the threshold, the plans
+     * are captured on a separate connection by a thread with the minimum priority, the registry is removed by the
+     * method {@link ExplainRegistry#close()}
+     *
+     * @param threshold the threshold from the slow statements
+     * @param unit the unit from the threshold
+     * @return the explain registry
+     * @since 0.2
+     */
+    public final ExplainRegistry enableExplain(final long threshold, final TimeUnit unit) {
+        final ExplainRegistry registry = new ExplainRegistry(this, threshold, unit);
+        this.addStatementListener(registry);
+        return registry;
+    }
+
+    /**
+     * Set Schema Cache, method,
+     * This method sets the cache from the schema fingerprints, which the method "table" skips the comparison and the
+     * changes from the tables that have the same model and the same columns in the server from the last check
+     *
+     * @param schemaCache the schema cache, or null to always check the tables
+     * @since 0.2
+     */
+    public final void setSchemaCache(final SchemaCache schemaCache) {
+        this.schemaCache = schemaCache;
+    }
+
+    /**
+     * Enable Spool, method,
+     * This method enables the durable spool from the writes to the tables that have the spooled flag in the table
+     * annotation, which the writes to them are appended to the log in the directory and acknowledged before they are
+     * applied, then a background replayer applies them to the database in the same order, the records that are not
+     * applied by a previous spool in the directory are applied first
+     *
+     * @param directory the directory from the log
+     * @param sync the policy from when the records are forced to the disk
+     * @return the write spool
+     * @throws IOException this exception is thrown if the log can not be opened
+     * @since 0.2
+     */
+    public final synchronized WriteSpool enableSpool(final Path directory, final WriteSpool.Sync sync) throws IOException {
+        if (directory == null) throw new NullPointerException("directory");
+        if (sync == null) throw new NullPointerException("sync");
+        if (this.spool != null) throw new IllegalStateException("spool is already enabled");
+
+        final WriteSpool spool = new WriteSpool(this, directory, sync);
+        this.spool = spool;
+        return spool;
+    }
+
+    /**
+     * Disable Spool, method,
+     * This method disables the spool, which the writes to the spooled tables are applied directly again, the records
+     * that are not applied are kept in the log and applied when the spool is enabled again on the same directory
+     *
+     * @since 0.2
+     */
+    public final synchronized void disableSpool() {
+        final WriteSpool spool = this.spool;
+        if (spool == null) return;
+
+        this.spool = null;
+        spool.close();
+    }
+
+    /**
+     * Get, method,
+     * This method gets the object from the row that contains the anchor value in the column anchor, the class must
+     * have a constructor without arguments to create the object
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param anchor the value from the column anchor
+     * @param <T> the type from the object
+     * @return the object or null if the table has not the row
+     * @since 0.2
+     */
+    public final <T> T get(final Class<T> klass, final Object anchor) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (anchor == null) throw new NullPointerException("anchor");
+
+        final EntityModel model = EntityModel.of(klass);
+        if (this.absent(klass, model.columns[model.requireAnchor()].name(), anchor)) return null;
+
+        final String sql = "SELECT " + model.selectList + " FROM " + model.qualifiedName + " WHERE " + model.columns[model.anchor].name() + " = ? LIMIT 1";
+        final List<Object[]> rows = this.executeQuery(model.table.name(), sql, new Object[] {anchor});
+
+        return rows.isEmpty() ? null : klass.cast(model.create(this, rows.get(0)));
+    }
+
+    /**
+     * Get All, method,
+     * This method gets the objects from the rows that contain the anchor values in the column anchor, the repeated
+     * values are read once, the values that are in the result cache are not read, and the other values are read by
+     * chunks with the IN from the column anchor, which the chunks are read in parallel, the objects that are read are
+     * put in the result cache as the results from the get method, the class must have a constructor without arguments
+     * to create the objects
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param anchors the values from the column anchor
+     * @param <T> the type from the objects
+     * @return the objects by anchor value in the order from the anchor values, the values that the table has not the
+     *         row are not in the map
+     * @since 0.2
+     */
+    public final <T> Map<Object, T> getAll(final Class<T> klass, final Collection<?> anchors) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (anchors == null) throw new NullPointerException("anchors");
+
+        final EntityModel model = EntityModel.of(klass);
+        final String anchorName = model.columns[model.requireAnchor()].name();
+        final String table = model.table.name();
+        final String single = "SELECT " + model.selectList + " FROM " + model.qualifiedName + " WHERE " + anchorName + " = ? LIMIT 1";
+        final ResultCache cache = this.cache;
+
+        // @Note The anchor values are deduplicated in the order from the collection
+        final Map<Object, Object[]> rows = new HashMap<>();
+        final List<Object> order = new ArrayList<>(anchors.size());
+        final List<Object> missing = new ArrayList<>();
+        final Set<Object> seen = new HashSet<>();
+
+        for (final Object anchor : anchors) {
+            if (anchor == null) throw new NullPointerException("anchors has a null value");
+            if (!seen.add(anchor)) continue;
+
+            order.add(anchor);
+            if (this.absent(klass, anchorName, anchor)) continue;
+
+            if (cache != null) {
+                final List<Object[]> cached = cache.get(single, new Object[] {anchor});
+
+                if (cached != null) {
+                    if (!cached.isEmpty()) rows.put(anchor, cached.get(0));
+                    continue;
+                }
+            }
+
+            missing.add(anchor);
+        }
+
+        if (!missing.isEmpty()) {
+            final long generation = cache != null ? cache.generation(table, single) : 0;
+            final List<Future<List<Object[]>>> futures = new ArrayList<>();
+
+            // @Note The chunks after the first are read by the executor, and the first chunk is read by this thread
+            for (int from = GET_ALL_CHUNK_SIZE; from < missing.size(); from += GET_ALL_CHUNK_SIZE) {
+                final List<Object> chunk = missing.subList(from, Math.min(from + GET_ALL_CHUNK_SIZE, missing.size()));
+
+                futures.add(this.executor().submit(new Callable<List<Object[]>>() {
+                    @Override
+                    public List<Object[]> call() {
+                        return FlexDb.this.fetchChunk(model, chunk);
+                    }
+                }));
+            }
+
+            final List<List<Object[]>> chunks = new ArrayList<>(futures.size() + 1);
+            chunks.add(this.fetchChunk(model, missing.subList(0, Math.min(GET_ALL_CHUNK_SIZE, missing.size()))));
+
+            for (final Future<List<Object[]>> future : futures) {
+                try {
+                    chunks.add(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    chunks.add(null);
+                } catch (ExecutionException e) {
+                    e.printStackTrace();
+                    chunks.add(null);
+                }
+            }
+
+            // @Note The rows are matched by the anchor value, which the integer values from the driver can have a
+            // different type from the value that is requested
+            final Map<Object, Object[]> read = new HashMap<>();
+            for (final List<Object[]> chunk : chunks) {
+                if (chunk == null) continue;
+
+                for (final Object[] row : chunk) {
+                    read.put(anchorKey(row[model.anchor]), row);
+                }
+            }
+
+            for (int i = 0; i < missing.size(); i++) {
+                // @Note The values from the chunk that fails are not put in the cache
+                if (chunks.get(i / GET_ALL_CHUNK_SIZE) == null) continue;
+
+                final Object anchor = missing.get(i);
+                final Object[] row = read.get(anchorKey(anchor));
+                if (row != null) rows.put(anchor, row);
+
+                if (cache != null) cache.put(table, generation, single, new Object[] {anchor}, row != null ? Collections.singletonList(row) : Collections.<Object[]>emptyList());
+            }
+        }
+
+        final Map<Object, T> objects = new LinkedHashMap<>();
+        for (final Object anchor : order) {
+            final Object[] row = rows.get(anchor);
+            if (row != null) objects.put(anchor, klass.cast(model.create(this, row)));
+        }
+        return objects;
+    }
+
+    /**
+     * Select, method,
+     * This method selects the objects from the rows that contain the argument value in the column, the class must have
+     * a constructor without arguments to create the objects
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param columnCheck the column name that will be check
+     * @param argCheck the argument value that will be check
+     * @param <T> the type from the objects
+     * @return the list of objects
+     * @since 0.2
+     */
+    public final <T> List<T> select(final Class<T> klass, final String columnCheck, final Object argCheck) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (columnCheck == null) throw new NullPointerException("columnCheck");
+        if (argCheck == null) throw new NullPointerException("argCheck");
+
+        final EntityModel model = EntityModel.of(klass);
+        final String sql = "SELECT " + model.selectList + " FROM " + model.qualifiedName + " WHERE " + model.columns[model.requireColumn(columnCheck)].name() + " = ?";
+        final List<Object[]> rows = this.executeQuery(model.table.name(), sql, new Object[] {argCheck});
+
+        final List<T> objects = new ArrayList<>(rows.size());
+        for (final Object[] row : rows) {
+            objects.add(klass.cast(model.create(this, row)));
+        }
+        return objects;
+    }
+
+    /**
+     * Select, method,
+     * This method selects the objects from the rows that are matched by the criteria, in the order and with the limit
+     * from the criteria, the class must have a constructor without arguments to create the objects
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param criteria the criteria from the rows
+     * @param <T> the type from the objects
+     * @return the list of objects
+     * @since 0.2
+     */
+    public final <T> List<T> select(final Class<T> klass, final Criteria criteria) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (criteria == null) throw new NullPointerException("criteria");
+
+        final EntityModel model = EntityModel.of(klass);
+        final Object anchor = criteria.anchor(model);
+        if (anchor != null && this.absent(klass, model.columns[model.anchor].name(), anchor)) return new ArrayList<>(0);
+
+        final String shape = "SELECT:" + criteria.shape();
+        String sql = model.template(shape);
+        if (sql == null) {
+            final StringBuilder sb = new StringBuilder("SELECT ").append(model.selectList).append(" FROM ").append(model.qualifiedName);
+            criteria.compile(sb, model);
+
+            sql = model.template(shape, sb.toString());
+        }
+
+        final List<Object> values = new ArrayList<>();
+        criteria.bind(values);
+
+        final List<Object[]> rows = this.executeQuery(model.table.name(), sql, values.toArray());
+
+        final List<T> objects = new ArrayList<>(rows.size());
+        for (final Object[] row : rows) {
+            objects.add(klass.cast(model.create(this, row)));
+        }
+        return objects;
+    }
+
+    /**
+     * Query, method,
+     * This method executes a read query that reads the table from the class, and returns the rows with the values in
+     * the order from the columns of the query, the class and the other tables that the query mentions, like the tables
+     * from a join, are used to tag the result when the result cache is set
+     *
+     * @param klass the class that contains the table annotation from the table that the query reads
+     * @param sql the query that contains the placeholders
+     * @param args the values that are bound to the placeholders
+     * @return the rows from the query
+     * @since 0.2
+     */
+    public final List<Object[]> query(final Class<?> klass, final String sql, final Object... args) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (sql == null) throw new NullPointerException("sql");
+        if (args == null) throw new NullPointerException("args");
+
+        return this.executeQuery(EntityModel.of(klass).table.name(), sql, args);
+    }
+
+    /**
+     * Count, method,
+     * This method counts the rows from the table in the server, without reads the rows
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @return the quantity of rows
+     * @since 0.2
+     */
+    public final long count(final Class<?> klass) {
+        if (klass == null) throw new NullPointerException("klass");
+
+        final List<Object[]> rows = this.aggregate(EntityModel.of(klass), "COUNT", -1, -1, null);
+        return rows.isEmpty() ? 0 : ((Number) rows.get(0)[0]).longValue();
+    }
+
+    /**
+     * Count, method,
+     * This method counts the rows that contain the argument value in the column in the server, without reads the rows
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param columnCheck the column name that will be check
+     * @param argCheck the argument value that will be check
+     * @return the quantity of rows
+     * @since 0.2
+     */
+    public final long count(final Class<?> klass, final String columnCheck, final Object argCheck) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (columnCheck == null) throw new NullPointerException("columnCheck");
+        if (argCheck == null) throw new NullPointerException("argCheck");
+
+        final EntityModel model = EntityModel.of(klass);
+        final int filter = model.requireColumn(columnCheck);
+        if (this.absent(klass, columnCheck, argCheck)) return 0;
+
+        final List<Object[]> rows = this.aggregate(model, "COUNT", -1, filter, argCheck);
+        return rows.isEmpty() ? 0 : ((Number) rows.get(0)[0]).longValue();
+    }
+
+    /**
+     * Exists, method,
+     * This method checks if a row contains the argument value in the column, which the server stops at the first row
+     * that is found
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param columnCheck the column name that will be check
+     * @param argCheck the argument value that will be check
+     * @return true if a row contains the value
+     * @since 0.2
+     */
+    public final boolean exists(final Class<?> klass, final String columnCheck, final Object argCheck) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (columnCheck == null) throw new NullPointerException("columnCheck");
+        if (argCheck == null) throw new NullPointerException("argCheck");
+
+        final EntityModel model = EntityModel.of(klass);
+        final int filter = model.requireColumn(columnCheck);
+        if (this.absent(klass, columnCheck, argCheck)) return false;
+
+        return !this.aggregate(model, "EXISTS", -1, filter, argCheck).isEmpty();
+    }
+
+    /**
+     * Sum, method,
+     * This method sums the values from the integer column in the server
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param column the column name that is summed
+     * @return the sum, or 0 if the table has not rows
+     * @since 0.2
+     */
+    public final long sum(final Class<?> klass, final String column) {
+        final Number sum = this.sum(klass, column, null, null, false);
+        return sum == null ? 0 : sum.longValue();
+    }
+
+    /**
+     * Sum, method,
+     * This method sums the values from the integer column of the rows that contain the argument value in the column
+     * check in the server
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param column the column name that is summed
+     * @param columnCheck the column name that will be check
+     * @param argCheck the argument value that will be check
+     * @return the sum, or 0 if the table has not rows with the value
+     * @since 0.2
+     */
+    public final long sum(final Class<?> klass, final String column, final String columnCheck, final Object argCheck) {
+        final Number sum = this.sum(klass, column, columnCheck, argCheck, true);
+        return sum == null ? 0 : sum.longValue();
+    }
+
+    /**
+     * Sum Double, method,
+     * This method sums the values from the decimal column in the server
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param column the column name that is summed
+     * @return the sum, or 0 if the table has not rows
+     * @since 0.2
+     */
+    public final double sumDouble(final Class<?> klass, final String column) {
+        final Number sum = this.sum(klass, column, null, null, false);
+        return sum == null ? 0 : sum.doubleValue();
+    }
+
+    /**
+     * Sum Double, method,
+     * This method sums the values from the decimal column of the rows that contain the argument value in the column
+     * check in the server
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param column the column name that is summed
+     * @param columnCheck the column name that will be check
+     * @param argCheck the argument value that will be check
+     * @return the sum, or 0 if the table has not rows with the value
+     * @since 0.2
+     */
+    public final double sumDouble(final Class<?> klass, final String column, final String columnCheck, final Object argCheck) {
+        final Number sum = this.sum(klass, column, columnCheck, argCheck, true);
+        return sum == null ? 0 : sum.doubleValue();
+    }
+
+    /**
+     * Min, method,
+     * This method returns the minimum value from the column in the server
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param column the column name
+     * @param type the type from the value, that is a type from the fields
+     * @param <V> the type from the value
+     * @return the minimum value, or null if the table has not rows
+     * @since 0.2
+     */
+    public final <V> V min(final Class<?> klass, final String column, final Class<V> type) {
+        return this.extreme(klass, column, type, "MIN");
+    }
+
+    /**
+     * Max, method,
+     * This method returns the maximum value from the column in the server
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param column the column name
+     * @param type the type from the value, that is a type from the fields
+     * @param <V> the type from the value
+     * @return the maximum value, or null if the table has not rows
+     * @since 0.2
+     */
+    public final <V> V max(final Class<?> klass, final String column, final Class<V> type) {
+        return this.extreme(klass, column, type, "MAX");
+    }
+
+    /**
+     * Count By, method,
+     * This method counts the rows from each value of the column in the server, that is a GROUP BY from the column
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param column the column name that groups the rows
+     * @return the quantity of rows by value, in the order from the values
+     * @since 0.2
+     */
+    public final Map<Object, Long> countBy(final Class<?> klass, final String column) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (column == null) throw new NullPointerException("column");
+
+        final EntityModel model = EntityModel.of(klass);
+        final List<Object[]> rows = this.aggregate(model, "GROUP", model.requireColumn(column), -1, null);
+
+        final Map<Object, Long> counts = new LinkedHashMap<>();
+        for (final Object[] row : rows) {
+            counts.put(row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    /**
+     * Sum, method,
+     * This method sums the values from the column in the server
+     *
+     * @param klass the class
+     * @param column the column name that is summed
+     * @param columnCheck the column name that will be check, or null
+     * @param argCheck the argument value that will be check, or null
+     * @param filtered if the column check is used
+     * @return the sum, or null if the table has not rows
+     * @since 0.2
+     */
+    private Number sum(final Class<?> klass, final String column, final String columnCheck, final Object argCheck, final boolean filtered) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (column == null) throw new NullPointerException("column");
+        if (filtered && columnCheck == null) throw new NullPointerException("columnCheck");
+        if (filtered && argCheck == null) throw new NullPointerException("argCheck");
+
+        final EntityModel model = EntityModel.of(klass);
+        final int index = model.requireColumn(column);
+        final int filter = filtered ? model.requireColumn(columnCheck) : -1;
+        if (filtered && this.absent(klass, columnCheck, argCheck)) return null;
+
+        final List<Object[]> rows = this.aggregate(model, "SUM", index, filter, argCheck);
+        return rows.isEmpty() ? null : (Number) rows.get(0)[0];
+    }
+
+    /**
+     * Extreme, method,
+     * This method returns the minimum or maximum value from the column in the server
+     *
+     * @param klass the class
+     * @param column the column name
+     * @param type the type from the value
+     * @param function the function, that is MIN or MAX
+     * @param <V> the type from the value
+     * @return the value, or null if the table has not rows
+     * @since 0.2
+     */
+    private <V> V extreme(final Class<?> klass, final String column, final Class<V> type, final String function) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (column == null) throw new NullPointerException("column");
+        if (type == null) throw new NullPointerException("type");
+
+        final EntityModel model = EntityModel.of(klass);
+        final List<Object[]> rows = this.aggregate(model, function, model.requireColumn(column), -1, null);
+        if (rows.isEmpty() || rows.get(0)[0] == null) return null;
+
+        @SuppressWarnings("unchecked")
+        final V value = (V) EntityModel.convert(rows.get(0)[0], type);
+        return value;
+    }
+
+    /**
+     * Aggregate, method,
+     * This method executes the aggregate query from the table, which the template is built once by shape from the
+     * model, and is executed as a prepared statement that is cached by the connections
+     *
+     * @param model the model from the class
+     * @param function the function, that is COUNT, SUM, MIN, MAX, EXISTS or GROUP
+     * @param column the index from the column of the function, or -1 to count the rows
+     * @param filter the index from the column check, or -1 to read the all rows
+     * @param argCheck the argument value that will be check
+     * @return the rows from the query
+     * @since 0.2
+     */
+    private List<Object[]> aggregate(final EntityModel model, final String function, final int column, final int filter, final Object argCheck) {
+        final String shape = function + ':' + column + ':' + filter;
+        String sql = model.template(shape);
+
+        if (sql == null) {
+            final String name = column == -1 ? "*" : model.columns[column].name();
+            final StringBuilder sb = new StringBuilder("SELECT ");
+
+            switch (function) {
+                case "EXISTS": sb.append('1'); break;
+                case "GROUP": sb.append(name).append(", COUNT(*)"); break;
+                default: sb.append(function).append('(').append(name).append(')');
+            }
+
+            sb.append(" FROM ").append(model.qualifiedName);
+            if (filter != -1) sb.append(" WHERE ").append(model.columns[filter].name()).append(" = ?");
+            if ("GROUP".equals(function)) sb.append(" GROUP BY ").append(name).append(" ORDER BY ").append(name);
+            if ("EXISTS".equals(function)) sb.append(" LIMIT 1");
+
+            sql = model.template(shape, sb.toString());
+        }
+
+        return this.executeQuery(model.table.name(), sql, filter == -1 ? new Object[0] : new Object[] {argCheck});
+    }
+
+    /**
+     * Scan, method,
+     * This method scans the all rows from the table by pages that are ordered by the column anchor, which the next
+     * page is fetched in background while the current page is consumed, the class must have a constructor without
+     * arguments to create the objects
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param pageSize the quantity of rows from each page
+     * @param <T> the type from the objects
+     * @return the table scanner
+     * @since 0.2
+     */
+    public final <T> TableScanner<T> scan(final Class<T> klass, final int pageSize) {
+        return this.scan(klass, pageSize, null);
+    }
+
+    /**
+     * Scan, method,
+     * This method scans the rows from the table after the checkpoint by pages that are ordered by the column anchor,
+     * which the checkpoint is the column anchor value get from a table scanner, then a scan that stops can be resumed
+     * from the last row that is consumed
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param pageSize the quantity of rows from each page
+     * @param checkpoint the column anchor value where the scan starts after it, or null to start from the first row
+     * @param <T> the type from the objects
+     * @return the table scanner
+     * @since 0.2
+     */
+    public final <T> TableScanner<T> scan(final Class<T> klass, final int pageSize, final Object checkpoint) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (pageSize <= 0) throw new IllegalArgumentException("page size must be bigger than 0");
+
+        return new TableScanner<>(this, klass, pageSize, checkpoint);
+    }
+
+    /**
+     * Parallel Scan, method,
+     * This method scans the all rows from the table in parallel, which the range between the minimum and maximum
+     * column anchor values is split in segments that are read by keyset pages on their own connection, the idle
+     * workers steal the remaining range from the other segments, then the column anchor must be an integer number and
+     * the consumer is called from different threads at the same time, the order from the rows is not kept
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param parallelism the quantity of workers, each worker uses one connection at the same time
+     * @param consumer the consumer that receives the objects from the rows
+     * @param <T> the type from the objects
+     * @since 0.2
+     */
+    public final <T> void parallelScan(final Class<T> klass, final int parallelism, final RowConsumer<? super T> consumer) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (consumer == null) throw new NullPointerException("consumer");
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be bigger than 0");
+
+        final EntityModel model = EntityModel.of(klass);
+        final int anchor = model.requireAnchor();
+        final Class<?> type = model.fields[anchor].getType();
+
+        if (type != int.class && type != Integer.class && type != long.class && type != Long.class && type != short.class && type != Short.class && type != byte.class && type != Byte.class) {
+            throw new IllegalArgumentException("column anchor from the class \"" + klass.getName() + "\" must be an integer number to be split");
+        }
+
+        final String column = model.columns[anchor].name();
+        final List<Object[]> bounds = this.fetch(model.table.name(), "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + model.qualifiedName, new Object[0]);
+
+        // @Note This condition makes the check if the bounds can not be read or the table is empty
+        if (bounds == null || bounds.isEmpty() || bounds.get(0)[0] == null) return;
+
+        final long minimum = ((Number) bounds.get(0)[0]).longValue();
+        final long maximum = ((Number) bounds.get(0)[1]).longValue();
+        final String query = "SELECT " + model.selectList + " FROM " + model.qualifiedName + " WHERE " + column + " >= ? AND " + column + " <= ? ORDER BY " + column + " LIMIT ?";
+
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            pool.invoke(new ScanSegment<>(this, model, klass, consumer, query, SEGMENT_PAGE_SIZE, minimum, maximum));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Export, method,
+     * This method exports the all rows from the table to the file, which the rows are streamed by a forward-only cursor
+     * and the values are encoded directly to direct buffers that are written to the file channel, then the memory that
+     * is used does not depend from the quantity of rows, the stream columns are copied by chunks from the streams of the
+     * columns, the file is replaced if it exists
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param path the path from the file
+     * @param format the format from the file
+     * @return the quantity of rows that are exported, or -1 if the rows can not be read
+     * @throws IOException this exception is thrown if the file can not be written
+     * @since 0.2
+     */
+    public final long export(final Class<?> klass, final Path path, final FileFormat format) throws IOException {
+        if (klass == null) throw new NullPointerException("klass");
+        if (path == null) throw new NullPointerException("path");
+        if (format == null) throw new NullPointerException("format");
+
+        final EntityModel model = EntityModel.of(klass);
+        final String[] columns = new String[model.columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = model.columns[i].name();
+        }
+
+        final String table = model.table.name();
+        final AdmissionController admission = this.admission;
+        if (admission != null) admission.enter(table);
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             final TableExporter exporter = new TableExporter(channel, format, DirectBufferPool.SHARED)) {
+            exporter.header(columns);
+
+            final Connection connection = this.acquire();
+
+            try {
+                // @Note The statement is not cached because the fetch size from Integer.MIN_VALUE makes the driver to
+                // stream the rows one by one instead to read the all rows to the memory
+                final String sql = "SELECT " + model.columnList + " FROM " + model.qualifiedName;
+
+                try (final PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                    statement.setFetchSize(Integer.MIN_VALUE);
+
+                    final StatementEvent event = this.before(StatementEvent.Operation.QUERY, table, sql, null, 0, 1);
+
+                    try (final ResultSet resultSet = statement.executeQuery()) {
+                        final Object[] row = new Object[columns.length];
+                        long count = 0;
+
+                        while (resultSet.next()) {
+                            // @Note The stream columns are read by streams that the exporter copies by chunks, then
+                            // the large objects are not materialized like the other values
+                            for (int i = 0; i < row.length; i++) {
+                                if (!model.streams[i]) {
+                                    row[i] = resultSet.getObject(i + 1);
+                                } else if (model.fields[i].getType() == Reader.class) {
+                                    row[i] = resultSet.getCharacterStream(i + 1);
+                                } else {
+                                    row[i] = resultSet.getBinaryStream(i + 1);
+                                }
+                            }
+
+                            exporter.row(row);
+                            count++;
+                        }
+
+                        this.after(event, count);
+                        return count;
+                    } catch (SQLException e) {
+                        this.error(event, e);
+                        throw e;
+                    }
+                }
+            } finally {
+                this.release(connection);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return -1;
+        } finally {
+            if (admission != null) admission.leave(table);
+        }
+    }
+
+    /**
+     * Import File, method,
+     * This method imports the rows from the file to the table, with a worker for each processor until four workers and
+     * batches from 1000 rows
+     *
+     * @see #importFile(Class, Path, FileFormat, int, int, ImportProgress)
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param path the path from the file
+     * @param format the format from the file
+     * @return the progress from the import, that is finished
+     * @throws IOException this exception is thrown if the file can not be read or is corrupted
+     * @since 0.2
+     */
+    public final ImportProgress importFile(final Class<?> klass, final Path path, final FileFormat format) throws IOException {
+        return this.importFile(klass, path, format, Math.min(4, Runtime.getRuntime().availableProcessors()), 1000, new ImportProgress());
+    }
+
+    /**
+     * Import File, method,
+     * This method imports the rows from the file to the table, which the file must have the header that is written by
+     * the export method, the file is read by chunks that are split at the record boundaries and parsed by parallel
+     * workers, each worker inserts the rows by batches that are committed on its own connection, the rows that can not
+     * be parsed or inserted are written to the quarantine file that has the name from the file with the suffix
+     * ".rejected", in the same format from the file
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param path the path from the file
+     * @param format the format from the file
+     * @param parallelism the quantity of workers, each worker uses one connection at the same time
+     * @param commitInterval the quantity of rows that are committed by each batch
+     * @param progress the progress that is updated while the import runs, that can be read from other thread
+     * @return the progress from the import, that is finished
+     * @throws IOException this exception is thrown if the file can not be read or is corrupted
+     * @since 0.2
+     */
+    public final ImportProgress importFile(final Class<?> klass, final Path path, final FileFormat format, final int parallelism, final int commitInterval, final ImportProgress progress) throws IOException {
+        if (klass == null) throw new NullPointerException("klass");
+        if (path == null) throw new NullPointerException("path");
+        if (format == null) throw new NullPointerException("format");
+        if (progress == null) throw new NullPointerException("progress");
+        if (parallelism <= 0) throw new IllegalArgumentException("parallelism must be bigger than 0");
+        if (commitInterval <= 0) throw new IllegalArgumentException("commit interval must be bigger than 0");
+
+        new TableImporter(this, EntityModel.of(klass), path, format, parallelism, commitInterval, progress).run();
+        return progress;
+    }
+
+    /**
+     * Replicate, method,
+     * This method loads the all rows from the table to an in-memory replica, that answers the lookups and filters
+     * without the database, the replica is not refreshed automatically and its refresh method reads the all rows again
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param <T> the type from the objects
+     * @return the replica
+     * @since 0.2
+     */
+    public final <T> Replica<T> replicate(final Class<T> klass) {
+        if (klass == null) throw new NullPointerException("klass");
+
+        return new Replica<>(this, klass, null, 0, null);
+    }
+
+    /**
+     * Replicate, method,
+     * This method loads the all rows from the table to an in-memory replica, that answers the lookups and filters
+     * without the database, which the replica polls the version column in the period and reads the rows that are
+     * inserted or updated since the last poll
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param versionColumn the column name from a number or timestamp that increases when the row changes
+     * @param period the period from the polling
+     * @param unit the unit from the period
+     * @param <T> the type from the objects
+     * @return the replica
+     * @since 0.2
+     */
+    public final <T> Replica<T> replicate(final Class<T> klass, final String versionColumn, final long period, final TimeUnit unit) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (versionColumn == null) throw new NullPointerException("versionColumn");
+        if (unit == null) throw new NullPointerException("unit");
+        if (period <= 0) throw new IllegalArgumentException("period must be bigger than 0");
+
+        return new Replica<>(this, klass, versionColumn, period, unit);
+    }
+
+    /**
+     * Enable Existence Filter, method,
+     * This method enables the existence filter from the column anchor values of the table, which is a Bloom filter
+     * that is built from the column anchor values and receives the values that are inserted by this flexible database,
+     * then the get, update and delete by the column anchor values that certainly not exist are answered without the
+     * database, the filter is rebuilt in the period to forget the deleted values
+     *
+     * The filter only knows the rows that are inserted by this flexible database, then it must only be enabled to the
+     * tables that are not inserted by other clients, otherwise the rows that they insert are not found until the
+     * next rebuild
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param rebuildPeriod the period from the rebuild
+     * @param unit the unit from the period
+     * @since 0.2
+     */
+    public final void enableExistenceFilter(final Class<?> klass, final long rebuildPeriod, final TimeUnit unit) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (unit == null) throw new NullPointerException("unit");
+        if (rebuildPeriod <= 0) throw new IllegalArgumentException("rebuild period must be bigger than 0");
+
+        final EntityModel model = EntityModel.of(klass);
+        final ExistenceFilter filter = new ExistenceFilter(this, model, rebuildPeriod, unit);
+        final ExistenceFilter previous = this.filters.put(model.qualifiedName, filter);
+
+        if (previous != null) previous.close();
+    }
+
+    /**
+     * Disable Existence Filter, method,
+     * This method disables the existence filter from the table
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @since 0.2
+     */
+    public final void disableExistenceFilter(final Class<?> klass) {
+        if (klass == null) throw new NullPointerException("klass");
+
+        final ExistenceFilter filter = this.filters.remove(EntityModel.of(klass).qualifiedName);
+        if (filter != null) filter.close();
+    }
+
+    /**
+     * Pipeline, method,
+     * This method creates a pipeline, which the independent writes that are added to it are executed together on one
+     * connection by a statement batch, that the driver sends as multi-statement packets when the batch has more than
+     * four statements, a smaller batch takes a round trip for each write
+     *
+     * @return the pipeline
+     * @since 0.2
+     */
+    public final Pipeline pipeline() {
+        return new Pipeline(this);
+    }
+
+    /**
+     * Work Queue, method,
+     * This method creates a work queue over the table from the class, which the rows are the works that are claimed by
+     * the status column and the lease column, the class must have a column anchor and a constructor without arguments
+     * to create the objects
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param statusColumn the status column name, that is a text column
+     * @param leaseColumn the lease column name, that is a DATETIME or TIMESTAMP column
+     * @param visibilityTimeout the time that a claimed work is in flight before it is claimed again
+     * @param unit the unit from the visibility timeout
+     * @param <T> the type from the works
+     * @return the work queue, that is not started
+     * @since 0.2
+     */
+    public final <T> WorkQueue<T> workQueue(final Class<T> klass, final String statusColumn, final String leaseColumn, final long visibilityTimeout, final TimeUnit unit) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (statusColumn == null) throw new NullPointerException("statusColumn");
+        if (leaseColumn == null) throw new NullPointerException("leaseColumn");
+        if (unit == null) throw new NullPointerException("unit");
+        if (visibilityTimeout <= 0) throw new IllegalArgumentException("visibilityTimeout must be bigger than 0");
+
+        return new WorkQueue<>(this, klass, statusColumn, leaseColumn, visibilityTimeout, unit);
+    }
+
+    // Internal Methods
+
+    /**
+     * Absent, method,
+     * This method returns if the row from the object certainly not exists by the existence filter from its table
+     *
+     * @param object the object
+     * @return true if the row not exists, false if it can exist or the table has no existence filter
+     * @since 0.2
+     */
+    boolean absent(final Object object) { // package-private
+        if (this.filters.isEmpty()) return false;
+
+        final EntityModel model = EntityModel.of(object.getClass());
+        final ExistenceFilter filter = this.filters.get(model.qualifiedName);
+        if (filter == null) return false;
+
+        final Object anchor = model.get(object, model.anchor);
+        return anchor != null && !filter.mightContain(anchor);
+    }
+
+    /**
+     * Absent, method,
+     * This method returns if the rows that contain the value in the column certainly not exist, which is only known
+     * when the column is the column anchor and the table has an existence filter
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param column the column name
+     * @param value the value
+     * @return true if the rows not exist, false if they can exist
+     * @since 0.2
+     */
+    boolean absent(final Class<?> klass, final String column, final Object value) { // package-private
+        if (this.filters.isEmpty()) return false;
+
+        final EntityModel model = EntityModel.of(klass);
+        final ExistenceFilter filter = this.filters.get(model.qualifiedName);
+
+        return filter != null && column.equalsIgnoreCase(model.columns[model.anchor].name()) && !filter.mightContain(value);
+    }
+
+    /**
+     * Remember, method,
+     * This method puts the column anchor value from the object that is inserted in the existence filter from its table,
+     * the value is put after the insert then a rebuild that runs at the same time reads it from the table or receives
+     * it
+     *
+     * @param object the object
+     * @since 0.2
+     */
+    void remember(final Object object) { // package-private
+        if (this.filters.isEmpty()) return;
+
+        final EntityModel model = EntityModel.of(object.getClass());
+        final ExistenceFilter filter = this.filters.get(model.qualifiedName);
+        if (filter == null) return;
+
+        final Object anchor = model.get(object, model.anchor);
+        if (anchor != null) filter.put(anchor);
+    }
+
+    /**
+     * Check Versioned, method,
+     * This method updates or deletes the object with a version column, which the statement finds the row by the
+     * column anchor and the version from the object, the update changes the version in the same statement and puts the
+     * next version in the object, the versioned statements are not spooled because the conflict is known only when the
+     * statement is executed
+     *
+     * @param object the object
+     * @param model the model from the class
+     * @param update true to update the object, false to delete the object
+     * @throws OptimisticLockException this exception is thrown if the row has not the version from the object
+     * @throws IllegalStateException this exception is thrown if the statement fails
+     * @since 0.2
+     */
+    private void checkVersioned(final Object object, final EntityModel model, final boolean update) {
+        final Object current = model.get(object, model.version);
+        if (current == null) throw new NullPointerException("version from the object of the class \"" + model.klass.getSimpleName() + "\" is null");
+
+        final Object next = update ? model.nextVersion(current) : null;
+
+        // @Note The row that certainly not exists is a conflict, without execute the statement, and the statement that
+        // fails is thrown, then a failed write is not confused with a write that is made
+        final int count;
+        try {
+            count = this.absent(object) ? 0 : update
+                    ? this.update(model.table.name(), model.updateStatement, model.updateValues(object, next))
+                    : this.update(model.table.name(), model.deleteStatement, model.deleteValues(object));
+        } catch (SQLException e) {
+            throw new IllegalStateException("row from the table \"" + model.qualifiedName + "\" with the anchor \"" + model.get(object, model.anchor) + "\" can not be written", e);
+        }
+
+        if (count == 0) throw new OptimisticLockException(model.qualifiedName, model.get(object, model.anchor), current);
+        if (update) model.set(object, model.version, next);
+    }
+
+    /**
+     * Write All, method,
+     * This method updates or deletes the objects in batches by class, and returns the objects with a version column
+     * that are in conflict
+     *
+     * @param objects the objects
+     * @param update true to update the objects, false to delete the objects
+     * @return the objects that are in conflict
+     * @since 0.2
+     */
+    private List<Object> writeAll(final Collection<?> objects, final boolean update) {
+        if (objects == null) throw new NullPointerException("objects");
+
+        // @Note Group the objects by class, keeping the order from the objects
+        final Map<EntityModel, List<Object>> groups = new LinkedHashMap<>();
+        for (final Object object : objects) {
+            if (object == null) throw new NullPointerException("object (objects can not contain null)");
+
+            final EntityModel model = EntityModel.of(object.getClass());
+            model.requireAnchor();
+
+            List<Object> group = groups.get(model);
+            if (group == null) {
+                group = new ArrayList<>();
+                groups.put(model, group);
+            }
+            group.add(object);
+        }
+
+        final List<Object> conflicts = new ArrayList<>();
+
+        for (final Map.Entry<EntityModel, List<Object>> entry : groups.entrySet()) {
+            final EntityModel model = entry.getKey();
+            final boolean versioned = model.version != -1;
+            final String sql = update ? model.updateStatement : model.deleteStatement;
+
+            // @Note The class that has only the column anchor has not columns to update
+            if (sql == null) continue;
+
+            final List<Object> group = new ArrayList<>(entry.getValue().size());
+            final List<Object[]> rows = new ArrayList<>(entry.getValue().size());
+            final List<Object> nexts = new ArrayList<>(entry.getValue().size());
+
+            for (final Object object : entry.getValue()) {
+                // @Note The rows that certainly not exist are not written, and the versioned objects from them are in
+                // conflict
+                if (this.absent(object)) {
+                    if (versioned) conflicts.add(object);
+                    continue;
+                }
+
+                Object next = null;
+                if (versioned) {
+                    final Object current = model.get(object, model.version);
+                    if (current == null) throw new NullPointerException("version from the object of the class \"" + model.klass.getSimpleName() + "\" is null");
+
+                    if (update) next = model.nextVersion(current);
+                }
+
+                group.add(object);
+                nexts.add(next);
+                rows.add(update ? model.updateValues(object, next) : model.deleteValues(object));
+            }
+
+            if (rows.isEmpty()) continue;
+
+            // @Note The rows from the spooled tables without version are appended to the spool one by one
+            if (!versioned && this.spool != null && model.table.spooled()) {
+                for (final Object[] row : rows) {
+                    this.write(model.table, sql, row);
+                }
+                continue;
+            }
+
+            final int[] counts = this.executeBatch(model.table.name(), sql, rows);
+            if (!versioned) continue;
+
+            // @Note The batch is executed in a transaction, then a failed batch has not written any row and is thrown
+            // instead of confused with the conflicts
+            for (final int count : counts) {
+                if (count == Statement.EXECUTE_FAILED) throw new IllegalStateException("rows from the table \"" + model.qualifiedName + "\" can not be written");
+            }
+
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    conflicts.add(group.get(i));
+                } else if (update) {
+                    model.set(group.get(i), model.version, nexts.get(i));
+                }
+            }
+        }
+
+        return conflicts;
+    }
+
+    /**
+     * Write, method,
+     * This method executes the write statement, or appends it to the spool if the spool is enabled and the table is
+     * spooled, the write that can not be appended is applied directly after the spool applies the writes that are
+     * appended before it, then the order from the writes is kept
+     *
+     * @param table the table annotation that contains the table name
+     * @param sql the statement template that contains the placeholders
+     * @param values the values that are bound to the placeholders
+     * @throws IllegalStateException this exception is thrown if the spool is closed or stopped by a corrupted record
+     * @since 0.2
+     */
+    protected void write(final Table table, final String sql, final Object[] values) {
+        final WriteSpool spool = this.spool;
+
+        if (spool != null && table.spooled()) {
+            try {
+                spool.append(table.name(), sql, values);
+                return;
+            } catch (IOException | IllegalArgumentException e) {
+                // @Note The values that can not be written to the log, like the streams, are applied directly after
+                // the writes that are spooled before them, the spool that is closed or stopped rejects the write
+                try {
+                    spool.flush();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("write to the table \"" + table.name() + "\" is interrupted while the spool is flushed", ie);
+                }
+            }
+        }
+
+        this.executeUpdate(table.name(), sql, values);
+    }
+
+    /**
+     * Fetch Chunk, method,
+     * This method reads the rows from the chunk of anchor values with the IN from the column anchor, the placeholders
+     * are rounded up to the power of two and filled with the last value, then the chunks share the templates
+     *
+     * @param model the model from the class
+     * @param chunk the anchor values
+     * @return the rows, or null if the query fails
+     * @since 0.2
+     */
+    private List<Object[]> fetchChunk(final EntityModel model, final List<Object> chunk) {
+        final int size = Integer.highestOneBit(chunk.size()) == chunk.size() ? chunk.size() : Integer.highestOneBit(chunk.size()) << 1;
+        final String shape = "GETALL:" + size;
+
+        String sql = model.template(shape);
+        if (sql == null) {
+            final StringBuilder sb = new StringBuilder("SELECT ").append(model.selectList).append(" FROM ").append(model.qualifiedName);
+            sb.append(" WHERE ").append(model.columns[model.anchor].name()).append(" IN (");
+            for (int i = 0; i < size; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append('?');
+            }
+            sb.append(')');
+
+            sql = model.template(shape, sb.toString());
+        }
+
+        final Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = chunk.get(Math.min(i, chunk.size() - 1));
+        }
+
+        return this.fetch(model.table.name(), sql, values);
+    }
+
+    /**
+     * Anchor Key, method,
+     * This method returns the key that matches the anchor value from the row with the requested anchor value
+     *
+     * @param anchor the anchor value
+     * @return the key
+     * @since 0.2
+     */
+    private static Object anchorKey(final Object anchor) {
+        if (anchor instanceof Integer || anchor instanceof Long || anchor instanceof Short || anchor instanceof Byte) return ((Number) anchor).longValue();
+        if (anchor instanceof BigInteger) return ((BigInteger) anchor).longValue();
+        return anchor;
+    }
+
+    /**
+     * Admission, method,
+     * This method returns the admission controller that is put in front of the operations
+     *
+     * @return the admission controller, or null if the operations are not limited
+     * @since 0.2
+     */
+    AdmissionController admission() { // package-private
+        return this.admission;
+    }
+
+    /**
+     * Cache, method,
+     * This method returns the cache from the results of the read queries
+     *
+     * @return the result cache, or null if the results are not cached
+     * @since 0.2
+     */
+    ResultCache cache() { // package-private
+        return this.cache;
+    }
+
+    /**
+     * Executor, method,
+     * This method returns the executor that runs the background works from the operations, the executor is created at
+     * the first call and its threads are daemon threads
+     *
+     * @return the executor
+     * @since 0.2
+     */
+    ExecutorService executor() { // package-private
+        ExecutorService executor = this.executor;
+
+        if (executor == null) {
+            synchronized (this) {
+                executor = this.executor;
+
+                if (executor == null) {
+                    executor = Executors.newCachedThreadPool(new NamedThreadFactory("FlexDb-worker"));
+                    this.executor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    /**
+     * Listening, method,
+     * This method returns if the flexible database has statement listeners, that is used by the operations that need
+     * to create the statement from the event
+     *
+     * @return true if the flexible database has listeners
+     * @since 0.2
+     */
+    boolean listening() { // package-private
+        return this.listeners != null;
+    }
+
+    /**
+     * Before, method,
+     * This method creates the event from the statement and sends it to the statement listeners, if the flexible
+     * database has not listeners nothing is created
+     *
+     * @param operation the type from the operation
+     * @param table the table name, or null if the statement has not a single table
+     * @param sql the statement template
+     * @param values the values that are bound to the placeholders, or null
+     * @param bindCount the quantity of values that are bound to each execution
+     * @param batchSize the quantity of executions from the statement
+     * @return the event, or null if the flexible database has not listeners
+     * @since 0.2
+     */
+    StatementEvent before(final StatementEvent.Operation operation, final String table, final String sql, final Object[] values, final int bindCount, final int batchSize) { // package-private
+        final StatementListener[] listeners = this.listeners;
+        if (listeners == null) return null;
+
+        final StatementEvent event = new StatementEvent(listeners, operation, table, sql, values, bindCount, batchSize);
+        for (final StatementListener listener : listeners) {
+            try {
+                listener.before(event);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+        return event;
+    }
+
+    /**
+     * After, method,
+     * This method finishes the event and sends it to the statement listeners
+     *
+     * @param event the event, or null if the flexible database has not listeners
+     * @param rowCount the quantity of rows that are read or affected by the statement
+     * @since 0.2
+     */
+    void after(final StatementEvent event, final long rowCount) { // package-private
+        if (event == null) return;
+
+        event.finish(rowCount);
+        for (final StatementListener listener : event.listeners) {
+            try {
+                listener.after(event);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Error, method,
+     * This method finishes the event and sends it with the exception to the statement listeners
+     *
+     * @param event the event, or null if the flexible database has not listeners
+     * @param exception the exception that makes the statement fails
+     * @since 0.2
      */
-    public final void operations(final String... operations) {
-        if (operations == null) throw new NullPointerException("operations");
+    void error(final StatementEvent event, final SQLException exception) { // package-private
+        if (event == null) return;
 
-        this.checkOperations(operations);
+        event.finish(-1);
+        for (final StatementListener listener : event.listeners) {
+            try {
+                listener.error(event, exception);
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+            }
+        }
     }
 
-    // Internal Methods
-
     /**
      * Check Operation, method,
      * This method check the operation
@@ -270,11 +1999,7 @@ public abstract class FlexDb {
      */
     protected void checkOperation(final String operation) {
         // @Note This statement execute the operation
-        try (final Statement statement = this.connection().createStatement()) {
-            statement.executeUpdate(operation);
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+        this.executeUpdate(operation);
     }
 
     /**
@@ -285,26 +2010,65 @@ public abstract class FlexDb {
      */
     protected void checkOperations(final String... operations) {
         // @Note This statement execute the operations
-        try (final Connection connection = this.connection(); final Statement statement = connection.createStatement()) {
-            // @Note Disable the auto-commit to make the operations without need commit each one
+        final AdmissionController admission = this.admission;
+        if (admission != null) admission.enter(null);
+
+        try {
             // @Note !! When change the configurations about the connection is important that the selected connection
             // make a variable instead of use the "connection" method, because the pooled flexible database make the
             // configuration about a other connection instead of the current connection that create the statement
-            connection.setAutoCommit(false);
+            final Connection connection = this.acquire();
 
-            // @Note Add the operations that contains in the operations array into a statement in a batch
-            for (final String operation : operations) {
-                statement.addBatch(operation);
-            }
+            // @Note The statements are only joined if the flexible database has listeners
+            final StatementEvent event = this.listening() ? this.before(StatementEvent.Operation.BATCH, null, join(operations), null, 0, operations.length) : null;
+
+            try (final Statement statement = connection.createStatement()) {
+                // @Note Disable the auto-commit to make the operations without need commit each one
+                connection.setAutoCommit(false);
+
+                // @Note Add the operations that contains in the operations array into a statement in a batch
+                for (final String operation : operations) {
+                    statement.addBatch(operation);
+                }
+
+                // @Note Execute the batch operations
+                final int[] counts = statement.executeBatch();
 
-            // @Note Execute the batch operations
-            statement.executeBatch();
+                // @Note Commit the changes about the operations
+                connection.commit();
 
-            // @Note Commit the changes about the operations
-            connection.commit();
-            connection.setAutoCommit(true);
+                if (event != null) {
+                    long count = 0;
+                    for (final int c : counts) {
+                        if (c > 0) count += c;
+                    }
+                    this.after(event, count);
+                }
+            } catch (SQLException e) {
+                this.error(event, e);
+                connection.rollback();
+                throw e;
+            } finally {
+                // @Note The auto-commit is restored before the connection is given back, otherwise the next operation
+                // that use this connection is not committed, the connection is given back even if the restore fails
+                try {
+                    connection.setAutoCommit(true);
+                } finally {
+                    this.release(connection);
+                }
+            }
         } catch (SQLException e) {
             e.printStackTrace();
+        } finally {
+            if (admission != null) admission.leave(null);
+
+            // @Note Evict the results from the tables that are mentioned by the operations
+            final ResultCache cache = this.cache;
+            if (cache != null) {
+                for (final String operation : operations) {
+                    cache.invalidateMentioned(operation);
+                }
+            }
         }
     }
 
@@ -321,11 +2085,8 @@ public abstract class FlexDb {
         this.checkDatabaseAndTable(klass, data, table);
 
         // @Note This statement makes the DELETE statement from the object
-        try (final Statement statement = this.connection().createStatement()) {
-            statement.executeUpdate(this.createDeleteStatement(object, klass, data, table));
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+        final List<Object> values = new ArrayList<>(1);
+        this.write(table, this.createDeleteStatement(object, klass, data, table, values), values.toArray());
     }
 
     /**
@@ -342,11 +2103,7 @@ public abstract class FlexDb {
         this.checkDatabaseAndTable(klass, data, table);
 
         // @Note This statement makes the execute from the DELETE statement
-        try (final Statement statement = this.connection().createStatement()) {
-            statement.executeUpdate(this.createDeleteStatement(data, table, columnCheck, argCheck));
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+        this.write(table, this.createDeleteStatement(data, table, columnCheck, argCheck), new Object[] {argCheck});
     }
 
     /**
@@ -363,11 +2120,8 @@ public abstract class FlexDb {
         this.checkDatabaseAndTable(klass, data, table);
 
         // @Note This statement makes the execute from the update about the object
-        try (final Statement statement = this.connection().createStatement()) {
-            statement.executeUpdate(this.createUpdateStatement(object, klass, data, table));
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+        final List<Object> values = new ArrayList<>();
+        this.write(table, this.createUpdateStatement(object, klass, data, table, values), values.toArray());
     }
 
     /**
@@ -388,11 +2142,8 @@ public abstract class FlexDb {
         this.checkDatabaseAndTable(klass, data, table);
 
         // @Note This statement executes the update statement to database
-        try (final Statement statement = this.connection().createStatement()) {
-            statement.executeUpdate(this.createUpdateStatement(klass, data, table, whereCheck, argCheck, args));
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+        final List<Object> values = new ArrayList<>(args.length / 2 + 1);
+        this.write(table, this.createUpdateStatement(klass, data, table, whereCheck, argCheck, values, args), values.toArray());
     }
 
     /**
@@ -410,11 +2161,8 @@ public abstract class FlexDb {
         this.checkDatabaseAndTable(klass, data, table);
 
         // @Note This statement executes the operation that insert the values into the columns in a row
-        try (final Statement statement = this.connection().createStatement()) {
-            statement.executeUpdate(this.createInsertStatement(object, klass, data, table));
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+        final List<Object> values = new ArrayList<>();
+        this.write(table, this.createInsertStatement(object, klass, data, table, values), values.toArray());
     }
 
     /**
@@ -432,11 +2180,7 @@ public abstract class FlexDb {
         this.checkDatabaseAndTable(klass, data, table);
 
         // @Note This statement executes the operation that inserts the values from object to columns from table in row
-        try (final Statement statement = this.connection().createStatement()) {
-            statement.executeUpdate(this.createInsertStatementWithArguments(klass, data, table, args));
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+        this.write(table, this.createInsertStatementWithArguments(klass, data, table, args), args);
     }
 
     /**
@@ -451,39 +2195,68 @@ public abstract class FlexDb {
     protected void checkTable(final Class<?> klass, final Data data, final Table table) {
         this.checkDatabaseAndTable(klass, data, table);
 
-        // @Note This statement executes the operation about create table in database if not exists, the method
-        // "createTableStatement" makes the parse from class from argument list "klass", that the parse read the
-        // fields that contains the "Column" annotation that contains the informations about a column
-        try (final Statement statement = this.connection().createStatement()) {
-            final ResultSet resultSet;
-            try {
-                resultSet = this.connection().createStatement().executeQuery("SELECT * FROM " + data.name() + "." + table.name() + " LIMIT 1");
-
-                // @Note This method "createAlterStatement" makes that if has not modifications about the current
-                // columns from table and database columns from table, this method returns the "", that represents
-                // an empty string
-                final String alterStatement = this.createAlterStatement(klass, data, table, resultSet.getMetaData());
-
-                // @Note This condition makes the check if the alter statement is not empty
-                if (!alterStatement.isEmpty()) {
-                    statement.executeUpdate(alterStatement);
+        // @Note The plan compares the columns from the class with the INFORMATION_SCHEMA, and has the CREATE TABLE
+        // statement if the table not exists, or the combined ALTER TABLE statement with the online algorithm
+        try {
+            final Connection connection = this.acquire();
+
+            try (final Statement statement = connection.createStatement()) {
+                // @Note The table that has the same model and the same columns from the last check has not changes,
+                // then the check is only the metadata query from the server digest
+                final SchemaCache schemaCache = this.schemaCache;
+                final String fingerprint = schemaCache == null ? null : SchemaDiff.fingerprint(klass);
+                if (schemaCache != null && schemaCache.matches(data.name() + "." + table.name(), fingerprint, SchemaDiff.digest(data, table, connection))) return;
+
+                final SchemaPlan plan = SchemaDiff.plan(this, klass, data, table, connection);
+
+                // @Note This condition checks if the table has changes
+                if (!plan.isEmpty()) {
+                    try {
+                        this.executeSchema(statement, table.name(), plan.getStatement());
+                    } catch (SQLException e) {
+                        e.printStackTrace();
+
+                        // @Note The server refuses the algorithm when the changes can not be made online, then the
+                        // statement is executed without the algorithm, that the server chooses, otherwise the failure
+                        // is not stored in the schema cache
+                        if (plan.getAlgorithm() == null) throw e;
+                        this.executeSchema(statement, table.name(), plan.getFallbackStatement());
+                    }
                 }
-            } catch (SQLException e) {
-                e.printStackTrace();
 
-                // @Todo (19/05/2018 11:43): Make handle from errors about error code
-
-                // @Note When the try-catch block catch an error, the error that is catch is that the SELECT statement
-                // thrown an error, this represents that the query fails because the table not exists
-                statement.executeUpdate(this.createTableStatement(klass, data, table));
+                // @Note The digest is read after the changes, then the next check finds the columns that the changes make
+                if (schemaCache != null) schemaCache.store(data.name() + "." + table.name(), fingerprint, SchemaDiff.digest(data, table, connection));
+            } finally {
+                this.release(connection);
             }
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+
+        // @Note Evict the results from the table, because the columns from the table can be changed
+        final ResultCache cache = this.cache;
+        if (cache != null) cache.invalidate(table.name());
+    }
+
+    /**
+     * Execute Schema, method,
+     * This method executes the statement that changes the schema from the table, and sends it to the statement
+     * listeners
+     *
+     * @param statement the statement where the schema statement is executed
+     * @param table the table name
+     * @param sql the schema statement
+     * @throws SQLException this exception is thrown if the schema statement fails
+     * @since 0.2
+     */
+    private void executeSchema(final Statement statement, final String table, final String sql) throws SQLException {
+        final StatementEvent event = this.before(StatementEvent.Operation.SCHEMA, table, sql, null, 0, 1);
 
-            // @Note If the result set "next()" method is true then, the execute statement represents an alter
-            // statement if contains something, otherwise execute the table statement
-            // statement.executeUpdate(resultSet.next() ? this.createAlterStatement(klass, data, table, resultSet.getMetaData()) : this.createTableStatement(klass, data, table));
+        try {
+            this.after(event, statement.executeUpdate(sql));
         } catch (SQLException e) {
-            // @Note Make the check about the error that occurs when create the table into the database
-            // e.printStackTrace();
+            this.error(event, e);
+            throw e;
         }
     }
 
@@ -504,186 +2277,451 @@ public abstract class FlexDb {
         if (data.name().isEmpty()) throw new RuntimeException("Class \"" + klass.getSimpleName() + "\" has \"Data\" annotation with empty name.");
 
         // @Note This statement executes the operation about create database if not exists
-        try (final Statement statement = this.connection().createStatement()) {
-            statement.executeUpdate("CREATE DATABASE IF NOT EXISTS " + data.name());
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+        this.executeUpdate("CREATE DATABASE IF NOT EXISTS " + data.name());
     }
 
-    // Create Statement Methods
-
     /**
-     * Create Table Statement, method,
-     * This represents a "internal method", then this method not make checks about the "klass" is null or other thing,
-     * this class only make the process to create the table statement to check if exists
+     * Execute Update, method,
+     * This method executes the statement on a connection that is acquired from the flexible database and given back
+     * when the statement finish, this is the method that the operations use to execute the statements
      *
-     * @param klass the klass that represents where the table annotation is present, and where the fields from classes
-     *             contains the column annotation that contains the infomrations to create the table statement
-     * @paam table the table annotation that contains the table name
-     * @return table string statement
+     * @param sql the statement that will be executed
+     * @return the quantity of rows that are affected by the statement, or -1 if the statement fails
+     * @since 0.2
      */
-    protected String createTableStatement(final Class<?> klass, final Data data, final Table table) {
-        final StringBuilder sb = new StringBuilder();
-        sb.append("CREATE TABLE IF NOT EXISTS ").append(data.name()).append('.').append(table.name());
-        sb.append(" ("); // Start the process to put the columns that contains in the table
-        for (final Field field : klass.getDeclaredFields()) {
-            final Column column = field.getAnnotation(Column.class);
+    protected int executeUpdate(final String sql) {
+        final AdmissionController admission = this.admission;
+        if (admission != null) admission.enter(null);
 
-            // @Note This condition checks if the column is null then, the process can be continued because the
-            // continuous off process represented the parse from the infomration from fields that contains the column
-            // annotation
-            if (column == null) continue;
+        try {
+            final Connection connection = this.acquire();
+
+            try (final Statement statement = connection.createStatement()) {
+                final StatementEvent event = this.before(StatementEvent.Operation.UPDATE, null, sql, null, 0, 1);
+
+                try {
+                    final int count = statement.executeUpdate(sql);
+                    this.after(event, count);
+                    return count;
+                } catch (SQLException e) {
+                    this.error(event, e);
+                    throw e;
+                }
+            } finally {
+                this.release(connection);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return -1;
+        } finally {
+            if (admission != null) admission.leave(null);
 
-            // @Note This condition check if the name from the column is empty
-            if (column.name().isEmpty()) throw new RuntimeException("Class \"" + klass.getSimpleName() + "\" that represents a table, the column from field \"" + field.getName() + "\" has empty name.");
+            // @Note Evict the results from the tables that are mentioned by the statement
+            final ResultCache cache = this.cache;
+            if (cache != null) cache.invalidateMentioned(sql);
+        }
+    }
 
-            // @Note This condition check if the SqlType from column is UNKNOWN
-            if (column.type() == SqlType.UNKNOWN) throw new RuntimeException("Class \"" + klass.getSimpleName() + "\" that represents a table, the column from field \"" + field.getName() + "\" has unknown type.");
+    /**
+     * Execute Update, method,
+     * This method executes the prepared statement on a connection that is acquired from the flexible database and
+     * given back when the statement finish, the values are bound in order to the placeholders from the statement
+     *
+     * @param table the table name that the statement changes, that is used by the admission controller
+     * @param sql the statement template that contains the placeholders
+     * @param values the values that are bound to the placeholders
+     * @return the quantity of rows that are affected by the statement, or -1 if the statement fails
+     * @since 0.2
+     */
+    protected int executeUpdate(final String table, final String sql, final Object[] values) {
+        try {
+            return this.update(table, sql, values);
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return -1;
+        }
+    }
 
-            sb.append(column.name()).append(' ').append(column.type().name());
-            // @Note This condition check if the column size is bigger than 0, that represents that the type has a
-            // custom size
-            if (column.size() > 0) {
-                sb.append("(").append(column.size()).append(")");
-            }
+    /**
+     * Update, method,
+     * This method executes the prepared statement like the execute update method, but the failure from the statement is
+     * thrown to the caller instead of returned like -1
+     *
+     * @param table the table name that the statement changes, that is used by the admission controller
+     * @param sql the statement template that contains the placeholders
+     * @param values the values that are bound to the placeholders
+     * @return the quantity of rows that are affected by the statement
+     * @throws SQLException this exception is thrown if the statement fails
+     * @since 0.2
+     */
+    private int update(final String table, final String sql, final Object[] values) throws SQLException {
+        final AdmissionController admission = this.admission;
+        if (admission != null) admission.enter(table);
 
-            // About the type to put on the each check condition about the column, the sb.append(" "), that is put
-            // before from append the column information is because to separate the last information from the current
-            // information
-            //      -biologyiswell, 18 May 2018
+        try {
+            final Connection connection = this.acquire();
 
-            // @Note This condition checks if the column is non null, then like this add to the statement the "NOT NULL"
-            // statement
-            if (column.nonNull()) {
-                sb.append(" ").append("NOT NULL");
+            try {
+                final PreparedStatement statement = this.prepare(connection, sql);
+
+                final StatementEvent event = this.before(StatementEvent.Operation.UPDATE, table, sql, values, values.length, 1);
+                final List<Closeable> streams = new ArrayList<>(0);
+
+                try {
+                    this.bind(statement, values, streams);
+
+                    final int count = statement.executeUpdate();
+                    this.after(event, count);
+                    return count;
+                } catch (SQLException e) {
+                    this.error(event, e);
+                    throw e;
+                } finally {
+                    closeStreams(streams);
+                    this.close(statement);
+                }
+            } finally {
+                this.release(connection);
             }
+        } finally {
+            if (admission != null) admission.leave(table);
 
-            // @Note Put the string separator, to can separete the columns
-            sb.append(", ");
-        }
-        // @Note This condition makes the check about the length from the StringBuilder, without
-        // this condition to remove the last separator from the last for-each loop the statement
-        // is wrong
-        //      -biologyiswell, 18 May 2018
-        if (sb.length() > 0) {
-            // @Note This method make the delete from the last separator that represents ", ",
-            // that is added by the last for-each loop
-            sb.delete(sb.length() - 2, sb.length());
+            // @Note Evict the results from the table after the statement is executed, then a query that starts before
+            // the change not puts the stale result into the cache
+            final ResultCache cache = this.cache;
+            if (cache != null) cache.invalidate(table);
         }
-        sb.append(")"); // End the process to put the columns that contains in the table
-        return sb.toString();
     }
 
     /**
-     * Create Alter Statement, method,
-     * This method get the current column names from class and get the current column names from table, and compare the
-     * columns, if current column name from class has not database contains class is that the column will be remove,
-     * if the database column name has not current column class, the current column class is will be add on the database
+     * Execute Batch, method,
+     * This method executes the prepared statement for each row of values in a batch, on a connection that is acquired
+     * from the flexible database and in a single transaction, then the batch is executed entirely or not executed
      *
-     * @param klass the class that contains the informations about the data, table and columns
-     * @param data the data annotation that contains the database name
-     * @param table the table annotation that contains the table name
-     * @param metadata the metadata, that represents a metadata from a ResultSet, that is used to get the column names
-     *                 from database
-     * @return string ALTER statement
-     * @since 0.1
+     * @param table the table name that the statement changes
+     * @param sql the statement template that contains the placeholders
+     * @param rows the values from each execution that are bound to the placeholders
+     * @return the quantity of rows that are affected by each execution, or an array filled with the
+     *         {@link Statement#EXECUTE_FAILED} if the batch fails
+     * @since 0.2
      */
-    protected String createAlterStatement(final Class<?> klass, final Data data, final Table table, final ResultSetMetaData metadata) {
-        int modCount = 0;
+    protected int[] executeBatch(final String table, final String sql, final List<Object[]> rows) {
+        final AdmissionController admission = this.admission;
+        if (admission != null) admission.enter(table);
 
-        final Map<String, Column> currentColumnNames = new HashMap<>();
-        final List<String> databaseColumnNames = new ArrayList<>();
+        try {
+            final Connection connection = this.acquire();
 
-        // @Note For-each from the all declared fields from the class, this for-each loop is used to cache the all
-        // current column names and the column informations
-        for (final Field field : klass.getDeclaredFields()) {
-            final Column column = field.getAnnotation(Column.class);
-            if (column == null) continue;
+            try {
+                final PreparedStatement statement = this.prepare(connection, sql);
+                connection.setAutoCommit(false);
 
-            // @Note Add the current column names to list
-            currentColumnNames.put(column.name(), column);
-        }
+                final StatementEvent event = this.before(StatementEvent.Operation.BATCH, table, sql, null, rows.isEmpty() ? 0 : rows.get(0).length, rows.size());
+                final List<Closeable> streams = new ArrayList<>(0);
 
-        // @Note Get the column names that contains in the database table
-        try {
-            // @Note For-loop about the column counts that will get the columns name to add the column name into the
-            // database columns names list
-            for (int i = 0; i < metadata.getColumnCount(); i++) {
-                databaseColumnNames.add(metadata.getColumnName(i + 1));
+                try {
+                    for (final Object[] row : rows) {
+                        this.bind(statement, row, streams);
+                        statement.addBatch();
+                    }
+
+                    final int[] counts = statement.executeBatch();
+                    connection.commit();
+
+                    if (event != null) {
+                        long count = 0;
+                        for (final int c : counts) {
+                            if (c > 0) count += c;
+                        }
+                        this.after(event, count);
+                    }
+                    return counts;
+                } catch (SQLException e) {
+                    this.error(event, e);
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    closeStreams(streams);
+                    statement.clearBatch();
+                    this.close(statement);
+                }
+            } finally {
+                // @Note The auto-commit is restored before the connection is given back, the connection is given back
+                // even if the restore fails
+                try {
+                    connection.setAutoCommit(true);
+                } finally {
+                    this.release(connection);
+                }
             }
         } catch (SQLException e) {
             e.printStackTrace();
+
+            final int[] counts = new int[rows.size()];
+            Arrays.fill(counts, Statement.EXECUTE_FAILED);
+            return counts;
+        } finally {
+            if (admission != null) admission.leave(table);
+
+            final ResultCache cache = this.cache;
+            if (cache != null) cache.invalidate(table);
         }
+    }
 
-        final Object[] columnsNamesArray = currentColumnNames.keySet().toArray();
-        final Object[] columnsColumnsArray = currentColumnNames.values().toArray();
-        final Object[] databaseColumnsNamesArray = databaseColumnNames.toArray();
+    /**
+     * Execute Query, method,
+     * This method executes the read query and returns the rows with the values in the order from the columns of the
+     * query, if the result cache is set the result is get from the cache or put into the cache
+     *
+     * @param table the table name that the query reads, that is used to tag the result
+     * @param sql the query template that contains the placeholders
+     * @param values the values that are bound to the placeholders
+     * @return the rows from the query, or an empty list if the query fails
+     * @since 0.2
+     */
+    protected List<Object[]> executeQuery(final String table, final String sql, final Object[] values) {
+        final ResultCache cache = this.cache;
+        long generation = 0;
 
-        // @Note This represents the string builder that constructs the ALTER statement
-        final StringBuilder sb = new StringBuilder();
-        sb.append("ALTER TABLE ").append(data.name()).append('.').append(table.name());
-        sb.append(" "); // Start the process of ALTER table statement
+        if (cache != null) {
+            final List<Object[]> rows = cache.get(sql, values);
+            if (rows != null) return rows;
 
-        final int lengthProcess = Math.max(columnsNamesArray.length, databaseColumnsNamesArray.length);
+            generation = cache.generation(table, sql);
+        }
 
-        // @Note For-each loop that make the comparison about the current column names with database column names
-        for (int i = 0; i < lengthProcess; i++) {
-            if (i < columnsNamesArray.length) {
-                final String currentColumnName = (String) columnsNamesArray[i];
+        final List<Object[]> rows = this.fetch(table, sql, values);
 
-                // @Note This condition checks if the table column is not contains in the current table, this
-                // represents that this column will be removed from the columns from table
-                if (!databaseColumnNames.contains(currentColumnName)) {
-                    // @Note The "column.name()", represents the currentColumnName
-                    final Column column = (Column) columnsColumnsArray[i];
+        // @Note This condition makes the check if the query fails
+        if (rows == null) return Collections.emptyList();
 
-                    sb.append("ADD COLUMN ");
-                    sb.append(column.name()).append(' ').append(column.type().name());
+        if (cache != null) cache.put(table, generation, sql, values, rows);
+        return rows;
+    }
 
-                    // @Note This condition check if the column size is bigger than 0, that represents that the type has a
-                    // custom size
-                    if (column.size() > 0) {
-                        sb.append("(").append(column.size()).append(")");
-                    }
+    /**
+     * Fetch, method,
+     * This method executes the read query on a connection that is acquired from the flexible database and given back
+     * when the query finish, without the result cache
+     *
+     * @param table the table name that the query reads
+     * @param sql the query template that contains the placeholders
+     * @param values the values that are bound to the placeholders
+     * @return the rows from the query, or null if the query fails
+     * @since 0.2
+     */
+    List<Object[]> fetch(final String table, final String sql, final Object[] values) { // package-private
+        final AdmissionController admission = this.admission;
+        if (admission != null) admission.enter(table);
 
-                    // About the type to put on the each check condition about the column, the sb.append(" "), that is put
-                    // before from append the column information is because to separate the last information from the current
-                    // information
-                    //      -biologyiswell, 18 May 2018
+        try {
+            final Connection connection = this.acquire();
+            final List<Object[]> rows = new ArrayList<>();
 
-                    // @Note This condition checks if the column is non null, then like this add to the statement the "NOT NULL"
-                    // statement
-                    if (column.nonNull()) {
-                        sb.append(" ").append("NOT NULL");
-                    }
+            try {
+                final PreparedStatement statement = this.prepare(connection, sql);
 
-                    // @Note Put the string separator, to can separate the columns
-                    sb.append(", ");
+                final StatementEvent event = this.before(StatementEvent.Operation.QUERY, table, sql, values, values.length, 1);
+                final List<Closeable> streams = new ArrayList<>(0);
 
-                    modCount++;
-                    continue;
+                try {
+                    this.bind(statement, values, streams);
+
+                    try (final ResultSet resultSet = statement.executeQuery()) {
+                        final int columnCount = resultSet.getMetaData().getColumnCount();
+
+                        while (resultSet.next()) {
+                            final Object[] row = new Object[columnCount];
+                            for (int i = 0; i < columnCount; i++) {
+                                row[i] = resultSet.getObject(i + 1);
+                            }
+                            rows.add(row);
+                        }
+                    }
+
+                    this.after(event, rows.size());
+                } catch (SQLException e) {
+                    this.error(event, e);
+                    throw e;
+                } finally {
+                    closeStreams(streams);
+                    this.close(statement);
                 }
+            } finally {
+                this.release(connection);
             }
 
-            if (i < databaseColumnsNamesArray.length) {
-                final String databaseColumnName = (String) databaseColumnsNamesArray[i];
+            return rows;
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        } finally {
+            if (admission != null) admission.leave(table);
+        }
+    }
+
+    /**
+     * Join, method,
+     * This method joins the statements from a batch, that is the statement from the event of the batch
+     *
+     * @param statements the statements
+     * @return the joined statements
+     * @since 0.2
+     */
+    static String join(final String[] statements) { // package-private
+        final StringBuilder sb = new StringBuilder();
+        for (final String statement : statements) {
+            if (sb.length() > 0) sb.append("; ");
+            sb.append(statement);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Prepare, method,
+     * This method creates the prepared statement from the statement template on the connection, the flexible database
+     * types that cache the prepared statements override this method to return the cached statement
+     *
+     * @param connection the connection that is acquired by the operation
+     * @param sql the statement template
+     * @return the prepared statement
+     * @throws SQLException this exception is thrown if the statement can not be prepared
+     * @since 0.2
+     */
+    protected PreparedStatement prepare(final Connection connection, final String sql) throws SQLException {
+        return connection.prepareStatement(sql);
+    }
 
-                // @Note This condition checks if the table column is not contains in the current table, this
-                // represents that this column will be add
-                if (!currentColumnNames.containsKey(databaseColumnName)) {
-                    // @Note The database column name will be drop, because this column not contains in the current
-                    // column that is get by the current class
-                    sb.append("DROP COLUMN ").append(databaseColumnName);
+    /**
+     * Close, method,
+     * This method gives back the prepared statement that is created by the prepare method, by default the statement is
+     * closed
+     *
+     * @param statement the prepared statement
+     * @throws SQLException this exception is thrown if the statement can not be closed
+     * @since 0.2
+     */
+    protected void close(final PreparedStatement statement) throws SQLException {
+        statement.close();
+    }
 
-                    // @Note Put the string separator, to can separate the columns
-                    sb.append(", ");
+    /**
+     * Bind, method,
+     * This method binds the values in order to the placeholders from the prepared statement
+     *
+     * @param statement the prepared statement
+     * @param values the values that are bound
+     * @throws SQLException this exception is thrown if a value can not be bound
+     * @since 0.2
+     */
+    protected void bind(final PreparedStatement statement, final Object[] values) throws SQLException {
+        this.bind(statement, values, null);
+    }
 
-                    modCount++;
-//                    continue;
+    /**
+     * Bind, method,
+     * This method binds the values in order to the placeholders from the prepared statement, and adds the file streams
+     * that are opened for the path values to the list, then the caller closes them after the statement is executed even
+     * if the driver not reads them until the end
+     *
+     * @param statement the prepared statement
+     * @param values the values that are bound
+     * @param streams the list where the file streams are added, or null if the file streams are closed only when they
+     *                are read until the end
+     * @throws SQLException this exception is thrown if a value can not be bound
+     * @since 0.2
+     */
+    protected void bind(final PreparedStatement statement, final Object[] values, final List<Closeable> streams) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            final Object value = values[i];
+
+            // @Note The character is bound like a string because the driver not handles the character objects, and the
+            // streams are bound like streams then the driver sends the value by chunks instead of materialize it
+            if (value == null) {
+                statement.setNull(i + 1, Types.NULL);
+            } else if (value instanceof Character) {
+                statement.setString(i + 1, value.toString());
+            } else if (value instanceof InputStream) {
+                statement.setBinaryStream(i + 1, (InputStream) value);
+            } else if (value instanceof ReadableByteChannel) {
+                statement.setBinaryStream(i + 1, Channels.newInputStream((ReadableByteChannel) value));
+            } else if (value instanceof Reader) {
+                statement.setCharacterStream(i + 1, (Reader) value);
+            } else if (value instanceof ByteBuffer) {
+                // @Note The buffer is read by the driver directly from the buffer, which can be a direct buffer
+                final ByteBuffer buffer = (ByteBuffer) value;
+                statement.setBinaryStream(i + 1, new ByteBufferInputStream(buffer), (long) buffer.remaining());
+            } else if (value instanceof Path) {
+                // @Note The file is read by the driver from memory-mapped windows, which the file is opened when the
+                // driver starts to read it
+                final Path path = (Path) value;
+
+                try {
+                    final MappedFileInputStream stream = new MappedFileInputStream(path);
+                    statement.setBinaryStream(i + 1, stream, Files.size(path));
+                    if (streams != null) streams.add(stream);
+                } catch (IOException e) {
+                    throw new SQLException("file \"" + path + "\" can not be read", e);
                 }
+            } else {
+                statement.setObject(i + 1, value);
+            }
+        }
+    }
+
+    /**
+     * Closes the file streams that are opened by the bind, which the driver can stop to read them before the end when
+     * the statement fails
+     *
+     * @param streams the file streams that are closed
+     * @since 0.2
+     */
+    private static void closeStreams(final List<Closeable> streams) {
+        for (final Closeable stream : streams) {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                e.printStackTrace();
             }
         }
+    }
+
+    // Create Statement Methods
+
+    /**
+     * Create Table Statement, method,
+     * This represents a "internal method", then this method not make checks about the "klass" is null or other thing,
+     * this class only make the process to create the table statement to check if exists
+     *
+     * @param klass the klass that represents where the table annotation is present, and where the fields from classes
+     *             contains the column annotation that contains the infomrations to create the table statement
+     * @paam table the table annotation that contains the table name
+     * @return table string statement
+     */
+    protected String createTableStatement(final Class<?> klass, final Data data, final Table table) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("CREATE TABLE IF NOT EXISTS ").append(data.name()).append('.').append(table.name());
+        sb.append(" ("); // Start the process to put the columns that contains in the table
+        for (final Field field : klass.getDeclaredFields()) {
+            final Column column = field.getAnnotation(Column.class);
+
+            // @Note This condition checks if the column is null then, the process can be continued because the
+            // continuous off process represented the parse from the infomration from fields that contains the column
+            // annotation
+            if (column == null) continue;
+
+            // @Note This condition check if the name from the column is empty
+            if (column.name().isEmpty()) throw new RuntimeException("Class \"" + klass.getSimpleName() + "\" that represents a table, the column from field \"" + field.getName() + "\" has empty name.");
+
+            // @Note This condition check if the SqlType from column is UNKNOWN
+            if (column.type() == SqlType.UNKNOWN) throw new RuntimeException("Class \"" + klass.getSimpleName() + "\" that represents a table, the column from field \"" + field.getName() + "\" has unknown type.");
+
+            // @Note The column definition is shared with the ALTER TABLE statement from the schema plan
+            sb.append(SchemaDiff.definition(column));
+
+            // @Note Put the string separator, to can separete the columns
+            sb.append(", ");
+        }
         // @Note This condition makes the check about the length from the StringBuilder, without
         // this condition to remove the last separator from the last for-each loop the statement
         // is wrong
@@ -693,8 +2731,8 @@ public abstract class FlexDb {
             // that is added by the last for-each loop
             sb.delete(sb.length() - 2, sb.length());
         }
-
-        return modCount == 0 ? "" : sb.toString();
+        sb.append(")"); // End the process to put the columns that contains in the table
+        return sb.toString();
     }
 
     /**
@@ -704,8 +2742,10 @@ public abstract class FlexDb {
      *
      * @param object the object that is relative to create the insert statement, and that contains the informations,
      *               about database name, table name, columns informations and field values that contains in the object
+     * @param values the list where the field values are added in order from the placeholders
+     * @return insert statement template
      */
-    protected String createInsertStatement(final Object object, final Class<?> klass, final Data data, final Table table) {
+    protected String createInsertStatement(final Object object, final Class<?> klass, final Data data, final Table table, final List<Object> values) {
         final StringBuilder sb = new StringBuilder();
         sb.append("INSERT INTO ").append(data.name()).append('.').append(table.name()).append(" VALUES ");
         sb.append("("); // Start the process to insert the values
@@ -724,22 +2764,14 @@ public abstract class FlexDb {
                 // @Note Make that the field can be accessible, otherwise can be causes an error
                 field.setAccessible(true);
 
-                // @Note This represents the value that will be parsed
-                final Object value = field.get(object);
-
-                // @Note This condition check if the object value is a String or a Character, these objects types
-                // are that the String and the Character should be between quotation marks
-                if (value instanceof String || value instanceof Character) {
-                    sb.append("'").append(value).append("'");
-                } else {
-                    sb.append(value);
-                }
+                // @Note This represents the value that will be bound to the placeholder
+                values.add(field.get(object));
             } catch (IllegalAccessException e) {
                 e.printStackTrace();
             }
 
-            // @Note Append the string separator between values
-            sb.append(", ");
+            // @Note Append the placeholder with the string separator between values
+            sb.append("?, ");
         }
         // @Note This condition makes the check about the length from the StringBuilder, without
         // this condition to remove the last separator from the last for-each loop the statement
@@ -757,14 +2789,14 @@ public abstract class FlexDb {
     /**
      * Create Insert Statement With Arguments, method,
      * This method create an insert statement without need object to get the field values, this need the arguments that
-     * is represented by "args" in the argument-list
+     * is represented by "args" in the argument-list, which are bound in order to the placeholders
      *
      * @param klass the klass that contains the data annotation, table annotation and columns that contains the storage
      *              informations about the columns
      * @param data the data annotation that contains the database name
      * @param table the table annotation that contains the table name
      * @param args the arguments that is insert like value to column from table
-     * @return an insert statement
+     * @return an insert statement template
      */
     protected String createInsertStatementWithArguments(final Class<?> klass, final Data data, final Table table, final Object... args) {
         final StringBuilder sb = new StringBuilder();
@@ -774,15 +2806,7 @@ public abstract class FlexDb {
             // @Note Check if the argument that contains in the arguments varargs is null
             if (arg == null) throw new NullPointerException("argument (object arguments can not be null)");
 
-            // @Note This condition check if the object value is a String or a Character, these objects types
-            // are that the String and the Character should be between quotation marks
-            if (arg instanceof String || arg instanceof Character) {
-                sb.append("'").append(arg).append("'");
-            } else {
-                sb.append(arg);
-            }
-
-            sb.append(", ");
+            sb.append("?, ");
         }
         // @Note This condition makes the check about the length from the StringBuilder, without
         // this condition to remove the last separator from the last for-each loop the statement
@@ -807,10 +2831,11 @@ public abstract class FlexDb {
      * @param klass the class that contains the data annotation, table annotation and columns annotations
      * @param data the data annotation that contains the database name
      * @param table the table annotation that contains the table name
-     * @return update statement
+     * @param values the list where the field values are added in order from the placeholders
+     * @return update statement template
      * @since 0.1
      */
-    protected String createUpdateStatement(final Object object, final Class<?> klass, final Data data, final Table table) {
+    protected String createUpdateStatement(final Object object, final Class<?> klass, final Data data, final Table table, final List<Object> values) {
         final StringBuilder sb = new StringBuilder();
         sb.append("UPDATE ").append(data.name()).append('.').append(table.name()).append(" SET");
         sb.append(" "); // @Note Start the process of input updatable columns
@@ -844,15 +2869,10 @@ public abstract class FlexDb {
                 }
 
                 field.setAccessible(true);
-                final Object value = field.get(object);
-                // @Note Append the column name with the updatable value
-                sb.append(column.name()).append(" = ");
-
-                if (value instanceof String || value instanceof Character) {
-                    sb.append("'").append(value).append("'");
-                } else {
-                    sb.append(value);
-                }
+                values.add(field.get(object));
+
+                // @Note Append the column name with the placeholder from the updatable value
+                sb.append(column.name()).append(" = ?");
 
                 // @Note Append the separator
                 sb.append(", ");
@@ -871,9 +2891,10 @@ public abstract class FlexDb {
             anchorField.setAccessible(true);
 
             // @Note Append the statement condition WHERE to localize the row that contains the anchor field that
-            // contains the column annotation that will be get the column name and insert the value from field to can
+            // contains the column annotation that will be get the column name and bind the value from field to can
             // check the condition to make the update from the statement
-            sb.append(" WHERE ").append(anchorField.getAnnotation(Column.class).name()).append(" = ").append(anchorField.get(object));
+            sb.append(" WHERE ").append(anchorField.getAnnotation(Column.class).name()).append(" = ?");
+            values.add(anchorField.get(object));
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -892,11 +2913,12 @@ public abstract class FlexDb {
      * @since table the table annotation that contains the table name
      * @param columnWhereCheck the column that will be checked
      * @param valueWhereCheck the value from the column that will be checked
+     * @param values the list where the column values are added in order from the placeholders
      * @param columnsAndValues the columns with the values that will be update in the columns in storage
-     * @return update statement
+     * @return update statement template
      * @since 0.1
      */
-    protected String createUpdateStatement(final Class<?> klass, final Data data, final Table table, final String columnWhereCheck, final Object valueWhereCheck, final Object... columnsAndValues) {
+    protected String createUpdateStatement(final Class<?> klass, final Data data, final Table table, final String columnWhereCheck, final Object valueWhereCheck, final List<Object> values, final Object... columnsAndValues) {
         final StringBuilder sb = new StringBuilder();
         sb.append("UPDATE ").append(data.name()).append('.').append(table.name()).append(" SET");
         sb.append(" "); // @Note Start the process to input the values that will be update
@@ -911,15 +2933,11 @@ public abstract class FlexDb {
             }
 
             final String column = (String) columnsAndValues[i];
-            final Object columnValue = columnsAndValues[i + 1];
 
-            // @Note Append the column name
-            sb.append(column).append(" = ");
-            if (columnValue instanceof String || columnValue instanceof Character) {
-                sb.append("'").append(columnValue).append("'");
-            } else {
-                sb.append(columnValue);
-            }
+            // @Note Append the column name with the placeholder from the column value
+            sb.append(column).append(" = ?");
+            values.add(columnsAndValues[i + 1]);
+
             // @Note Appends the separator between the update statements
             sb.append(", ");
         }
@@ -936,7 +2954,8 @@ public abstract class FlexDb {
         }
 
         // @Note Append the WHERE statement that will be check the column name with the column value
-        sb.append(" WHERE ").append(columnWhereCheck).append(" = ").append(valueWhereCheck);
+        sb.append(" WHERE ").append(columnWhereCheck).append(" = ?");
+        values.add(valueWhereCheck);
         return sb.toString();
     }
 
@@ -951,9 +2970,10 @@ public abstract class FlexDb {
      *              annotations that get the informations about the table
      * @param data the data annotation that contains the database name
      * @param table the table annotation that contains the table name
-     * @return delete statement
+     * @param values the list where the anchor value is added
+     * @return delete statement template
      */
-    protected String createDeleteStatement(final Object object, final Class<?> klass, final Data data, final Table table) {
+    protected String createDeleteStatement(final Object object, final Class<?> klass, final Data data, final Table table, final List<Object> values) {
         final StringBuilder sb = new StringBuilder();
         sb.append("DELETE FROM ").append(data.name()).append('.').append(table.name()).append(" WHERE ");
 
@@ -974,16 +2994,10 @@ public abstract class FlexDb {
 
                 field.setAccessible(true);
 
-                final Object value = field.get(object);
-                sb.append(field.getName()).append(" = ");
-
-                // @Note This condition makes the check about the string and character that represents that the value
-                // need be into "'", that represents the string or character in statement
-                if (value instanceof String || value instanceof Character) {
-                    sb.append("'").append(value).append("'");
-                } else {
-                    sb.append(value);
-                }
+                // @Note The column name is used instead of the field name, because the field name can be different
+                // from the column name in the table
+                sb.append(column.name()).append(" = ?");
+                values.add(field.get(object));
 
                 hasAnchor = true;
                 break;
@@ -1007,11 +3021,11 @@ public abstract class FlexDb {
      * @param data the data annotation that contains the database name
      * @param table the table anotation that contains the table name
      * @param columnCheck the column check that represents the column name that will be check
-     * @param columnValue the column value that will be check in the column check
-     * @return delete statement
+     * @param columnValue the column value that will be check in the column check, which is bound to the placeholder
+     * @return delete statement template
      */
     protected String createDeleteStatement(final Data data, final Table table, final String columnCheck, final Object columnValue) {
-        return "DELETE FROM " + data.name() + "." + table.name() + " WHERE " + columnCheck + " = " + columnValue;
+        return "DELETE FROM " + data.name() + "." + table.name() + " WHERE " + columnCheck + " = ?";
     }
 
     /**
@@ -52,6 +52,43 @@ public class FlexDbFactory {
         return new PoolFlexDb(host, username, password, port, connectionSize);
     }
 
+    /**
+     * Creates an instance of pooled flexible database, to handle operations about database, which this database has a
+     * fixed size of connections and opens the minimum idle connections in parallel before it is returned
+     *
+     * @param host the host name which is used to connect to the MySQL Storage
+     * @param username the username which is used to authenticate the username credential
+     * @param password the password which is used to authenticate the password credential
+     * @param port the port which is used to connect to the MySQL Storage, if the port is equals -1, the default port
+     *             is set that is 3306
+     * @param connectionSize this represents the pre-determined from pool of connections
+     * @param minimumIdle this represents the quantity of connections that are opened and validated before the pooled
+     *                    flexible database is returned
+     * @return Pooled Flexible Database object
+     * @throws SQLException this exception is thrown if Connection construct fails
+     * @since 0.2
+     */
+    public static PoolFlexDb newPooledDatabase(final String host, final String username, final String password, final int port, final int connectionSize, final int minimumIdle) throws SQLException {
+        return new PoolFlexDb(host, username, password, port, connectionSize, minimumIdle);
+    }
+
+    /**
+     * Creates an instance of thread-local flexible database, to handle operations about database, which this database
+     * binds a connection to each thread that make operations
+     *
+     * @param host the host name which is used to connect to the MySQL Storage
+     * @param username the username which is used to authenticate the username credential
+     * @param password the password which is used to authenticate the password credential
+     * @param port the port which is used to connect to the MySQL Storage, if the port is equals -1, the default port
+     *             is set that is 3306
+     * @param maximumConnections the maximum quantity of connections that can be bound to threads at the same time
+     * @return Thread-Local Flexible Database object
+     * @since 0.2
+     */
+    public static ThreadLocalFlexDb newThreadLocalDatabase(final String host, final String username, final String password, final int port, final int maximumConnections) {
+        return new ThreadLocalFlexDb(host, username, password, port, maximumConnections);
+    }
+
     /**
      * Creates an instance of single flexible database, to handle operations about database, which this database has a
      * single connection
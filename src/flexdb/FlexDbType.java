@@ -43,5 +43,12 @@ public enum FlexDbType {
      * of connections, this database type is recommended to database that make big quantity of operations by time
      * @since 0.1
      */
-    POOLED
+    POOLED,
+
+    /**
+     * Indicates the thread-local flexible database which represents that the database binds a connection to each
+     * thread, this database type is recommended to a fixed set of long-lived threads that make sequential operations
+     * @since 0.2
+     */
+    THREAD_LOCAL
 }
@@ -0,0 +1,203 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This represents the progress from a file import, which the counters are updated by the workers while the import
+ * runs, then the progress can be read from other thread to expose it to metrics or logs
+ *
+ * @author biologyiswell (19/10/2026 21:40)
+ * @since 0.2
+ */
+public class ImportProgress {
+
+    /**
+     * These represents the quantity of bytes from the file and the quantity of bytes that are read
+     * @since 0.2
+     */
+    private volatile long totalBytes;
+    private final AtomicLong bytesRead = new AtomicLong();
+
+    /**
+     * These represents the quantity of rows that are parsed, inserted and rejected to the quarantine file, and the
+     * quantity of batches that are committed
+     * @since 0.2
+     */
+    private final AtomicLong rowsParsed = new AtomicLong();
+    private final AtomicLong rowsInserted = new AtomicLong();
+    private final AtomicLong rowsRejected = new AtomicLong();
+    private final AtomicLong batchesCommitted = new AtomicLong();
+
+    /**
+     * These represents the time when the import starts and finishes, in milliseconds
+     * @since 0.2
+     */
+    private volatile long startedAt;
+    private volatile long finishedAt;
+
+    /**
+     * Marks the import as started
+     *
+     * @param totalBytes the quantity of bytes from the file
+     * @since 0.2
+     */
+    void start(final long totalBytes) { // package-private
+        this.totalBytes = totalBytes;
+        this.startedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * Marks the import as finished
+     *
+     * @since 0.2
+     */
+    void finish() { // package-private
+        this.finishedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * These methods update the counters
+     * @since 0.2
+     */
+    void addBytesRead(final long count) { // package-private
+        this.bytesRead.addAndGet(count);
+    }
+
+    void addRowsParsed(final long count) { // package-private
+        this.rowsParsed.addAndGet(count);
+    }
+
+    void addRowsInserted(final long count) { // package-private
+        this.rowsInserted.addAndGet(count);
+    }
+
+    void addRowsRejected(final long count) { // package-private
+        this.rowsRejected.addAndGet(count);
+    }
+
+    void addBatchCommitted() { // package-private
+        this.batchesCommitted.incrementAndGet();
+    }
+
+    /**
+     * Returns the quantity of bytes from the file
+     *
+     * @return the quantity of bytes
+     * @since 0.2
+     */
+    public long getTotalBytes() {
+        return this.totalBytes;
+    }
+
+    /**
+     * Returns the quantity of bytes that are read from the file
+     *
+     * @return the quantity of bytes
+     * @since 0.2
+     */
+    public long getBytesRead() {
+        return this.bytesRead.get();
+    }
+
+    /**
+     * Returns the quantity of rows that are parsed from the file
+     *
+     * @return the quantity of rows
+     * @since 0.2
+     */
+    public long getRowsParsed() {
+        return this.rowsParsed.get();
+    }
+
+    /**
+     * Returns the quantity of rows that are inserted to the table
+     *
+     * @return the quantity of rows
+     * @since 0.2
+     */
+    public long getRowsInserted() {
+        return this.rowsInserted.get();
+    }
+
+    /**
+     * Returns the quantity of rows that are written to the quarantine file, because they can not be parsed or inserted
+     *
+     * @return the quantity of rows
+     * @since 0.2
+     */
+    public long getRowsRejected() {
+        return this.rowsRejected.get();
+    }
+
+    /**
+     * Returns the quantity of batches that are committed
+     *
+     * @return the quantity of batches
+     * @since 0.2
+     */
+    public long getBatchesCommitted() {
+        return this.batchesCommitted.get();
+    }
+
+    /**
+     * Returns if the import is finished
+     *
+     * @return true if the import is finished, otherwise false
+     * @since 0.2
+     */
+    public boolean isFinished() {
+        return this.finishedAt != 0;
+    }
+
+    /**
+     * Returns the time that the import runs, or the time that is ran until now if the import is not finished
+     *
+     * @return the time in milliseconds
+     * @since 0.2
+     */
+    public long getElapsedMillis() {
+        if (this.startedAt == 0) return 0;
+
+        final long finishedAt = this.finishedAt;
+        return (finishedAt != 0 ? finishedAt : System.currentTimeMillis()) - this.startedAt;
+    }
+
+    /**
+     * Returns the quantity of rows that are inserted by second
+     *
+     * @return the rows by second
+     * @since 0.2
+     */
+    public double getRowsPerSecond() {
+        final long elapsed = this.getElapsedMillis();
+        return elapsed == 0 ? 0 : this.rowsInserted.get() * 1000.0 / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "ImportProgress{bytes=" + this.getBytesRead() + "/" + this.totalBytes + ", parsed=" + this.getRowsParsed() + ", inserted=" + this.getRowsInserted() + ", rejected=" + this.getRowsRejected() + ", batches=" + this.getBatchesCommitted() + ", elapsed=" + this.getElapsedMillis() + "ms}";
+    }
+}
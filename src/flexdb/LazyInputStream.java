@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * This represents the lazy handle from a binary column that is set on the stream fields from the objects that are
+ * read, which the column is not fetched with the row, the column is fetched when the stream is read by a single query
+ * with a streaming result set, then a big column never needs heap proportional to the size from it and the bytes are
+ * from the same version from the row, the query is closed when the stream is finished or closed
+ *
+ * @author biologyiswell (19/10/2026 18:25)
+ * @since 0.2
+ */
+final class LazyInputStream extends InputStream { // package-private
+
+    /**
+     * This represents the cursor from the column
+     * @since 0.2
+     */
+    private final ColumnCursor cursor;
+
+    /**
+     * These represents the stream from the column, that is opened by the first read, and if the stream is closed
+     * @since 0.2
+     */
+    private InputStream stream;
+    private boolean closed;
+
+    /**
+     * Creates an instance from lazy input stream
+     *
+     * @param db the flexible database where the column is fetched
+     * @param model the model from the class that contains the column
+     * @param index the index from the column
+     * @param anchor the value from the column anchor of the row
+     * @since 0.2
+     */
+    LazyInputStream(final FlexDb db, final EntityModel model, final int index, final Object anchor) {
+        this.cursor = new ColumnCursor(db, model, index, anchor);
+    }
+
+    @Override
+    public int read() throws IOException {
+        final InputStream stream = this.stream();
+        if (stream == null) return -1;
+
+        final int b = stream.read();
+        if (b == -1) this.close();
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        if (length == 0) return 0;
+
+        final InputStream stream = this.stream();
+        if (stream == null) return -1;
+
+        final int count = stream.read(buffer, offset, length);
+        if (count == -1) this.close();
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return this.stream == null || this.closed ? 0 : this.stream.available();
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        this.stream = null;
+        this.cursor.close();
+    }
+
+    /**
+     * Returns the stream from the column, which the query is executed by the first read
+     *
+     * @return the stream, or null if the stream is closed or the row is removed or the column is null
+     * @throws IOException this exception is thrown if the column can not be fetched
+     * @since 0.2
+     */
+    private InputStream stream() throws IOException {
+        if (this.closed) return null;
+
+        if (this.stream == null) {
+            this.stream = this.cursor.binary();
+            if (this.stream == null) this.close();
+        }
+        return this.stream;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * This represents the lazy handle from a text column that is set on the reader fields from the objects that are read,
+ * which the column is not fetched with the row, the column is fetched when the reader is read by a single query with a
+ * streaming result set, then a big column never needs heap proportional to the size from it and the characters are
+ * from the same version from the row, the query is closed when the reader is finished or closed
+ *
+ * @author biologyiswell (19/10/2026 18:31)
+ * @since 0.2
+ */
+final class LazyReader extends Reader { // package-private
+
+    /**
+     * This represents the cursor from the column
+     * @since 0.2
+     */
+    private final ColumnCursor cursor;
+
+    /**
+     * These represents the reader from the column, that is opened by the first read, and if the reader is closed
+     * @since 0.2
+     */
+    private Reader reader;
+    private boolean closed;
+
+    /**
+     * Creates an instance from lazy reader
+     *
+     * @param db the flexible database where the column is fetched
+     * @param model the model from the class that contains the column
+     * @param index the index from the column
+     * @param anchor the value from the column anchor of the row
+     * @since 0.2
+     */
+    LazyReader(final FlexDb db, final EntityModel model, final int index, final Object anchor) {
+        this.cursor = new ColumnCursor(db, model, index, anchor);
+    }
+
+    @Override
+    public int read(final char[] buffer, final int offset, final int length) throws IOException {
+        if (length == 0) return 0;
+
+        final Reader reader = this.reader();
+        if (reader == null) return -1;
+
+        final int count = reader.read(buffer, offset, length);
+        if (count == -1) this.close();
+        return count;
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        this.reader = null;
+        this.cursor.close();
+    }
+
+    /**
+     * Returns the reader from the column, which the query is executed by the first read
+     *
+     * @return the reader, or null if the reader is closed or the row is removed or the column is null
+     * @throws IOException this exception is thrown if the column can not be fetched
+     * @since 0.2
+     */
+    private Reader reader() throws IOException {
+        if (this.closed) return null;
+
+        if (this.reader == null) {
+            this.reader = this.cursor.character();
+            if (this.reader == null) this.close();
+        }
+        return this.reader;
+    }
+}
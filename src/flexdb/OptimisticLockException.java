@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+/**
+ * This exception is thrown when the update or delete from an object with a version column not finds the row with the
+ * version from the object, which happens when other writer changes or deletes the row after the object is read
+ *
+ * @author biologyiswell (20/10/2026 04:41)
+ * @since 0.2
+ */
+public class OptimisticLockException extends RuntimeException {
+
+    /**
+     * This represents the serial version from the class
+     * @since 0.2
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * These represents the qualified table name, the value from the column anchor and the version from the object
+     * @since 0.2
+     */
+    private final String table;
+    private final Object anchor;
+    private final Object version;
+
+    /**
+     * Creates an instance from optimistic lock exception
+     *
+     * @param table the qualified table name
+     * @param anchor the value from the column anchor
+     * @param version the version from the object
+     * @since 0.2
+     */
+    public OptimisticLockException(final String table, final Object anchor, final Object version) {
+        super("The row from the table \"" + table + "\" with the anchor \"" + anchor + "\" has not the version \"" + version + "\", then it is changed or deleted by other writer.");
+
+        this.table = table;
+        this.anchor = anchor;
+        this.version = version;
+    }
+
+    /**
+     * Returns the qualified table name
+     *
+     * @return the qualified table name
+     * @since 0.2
+     */
+    public String getTable() {
+        return this.table;
+    }
+
+    /**
+     * Returns the value from the column anchor
+     *
+     * @return the value from the column anchor
+     * @since 0.2
+     */
+    public Object getAnchor() {
+        return this.anchor;
+    }
+
+    /**
+     * Returns the version from the object, that the row has not
+     *
+     * @return the version
+     * @since 0.2
+     */
+    public Object getVersion() {
+        return this.version;
+    }
+}
@@ -0,0 +1,517 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.annotation.Data;
+import flexdb.annotation.Table;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.BatchUpdateException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * This represents the pipeline from the independent writes, which the writes are added to the pipeline and executed
+ * together on one connection by a statement batch, the driver sends the batch as multi-statement packets when the
+ * batched statements are rewritten, that the URL from the flexible database enables, and the batch has more than four
+ * statements, then the big pipelines take a few round trips instead of a round trip for each write, and a pipeline
+ * with four writes or less takes a round trip for each write
+ *
+ * The values are written in the statements as literals, the texts and the binary values are written as hexadecimal
+ * literals then they are not escaped, the streams and paths can not be written in a pipeline, each write is committed
+ * alone and the writes to the spooled tables are not spooled
+ *
+ * @author biologyiswell (20/10/2026 00:27)
+ * @since 0.2
+ */
+public class Pipeline {
+
+    /**
+     * This represents the hexadecimal digits from the literals
+     * @since 0.2
+     */
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * This represents the flexible database where the writes are executed
+     * @since 0.2
+     */
+    private final FlexDb db;
+
+    /**
+     * These represents the table names, the statement templates and the statements with the literals from the writes,
+     * which the statement is null when the write is skipped by the existence filter
+     * @since 0.2
+     */
+    private final List<String> tables = new ArrayList<>();
+    private final List<String> templates = new ArrayList<>();
+    private final List<String> statements = new ArrayList<>();
+
+    /**
+     * This represents the objects that are inserted, that are put in the existence filters after the execution
+     * @since 0.2
+     */
+    private final List<Object> inserted = new ArrayList<>();
+
+    /**
+     * This represents the objects with a version column that are updated with their next version, by the index from
+     * the write, that receive the next version after the execution if the row is updated
+     * @since 0.2
+     */
+    private final List<Object[]> versions = new ArrayList<>();
+
+    /**
+     * Creates an instance from pipeline
+     *
+     * @param db the flexible database where the writes are executed
+     * @since 0.2
+     */
+    Pipeline(final FlexDb db) { // package-private
+        this.db = db;
+    }
+
+    /**
+     * Adds the insert from the object
+     *
+     * @param object the object that contains the database name, table name and columns informations
+     * @return this pipeline
+     * @since 0.2
+     */
+    public Pipeline insert(final Object object) {
+        if (object == null) throw new NullPointerException("object");
+
+        final Class<?> klass = object.getClass();
+        final Data data = klass.getAnnotation(Data.class);
+        final Table table = klass.getAnnotation(Table.class);
+        this.db.checkDatabaseAndTable(klass, data, table);
+
+        final List<Object> values = new ArrayList<>();
+        this.add(table.name(), this.db.createInsertStatement(object, klass, data, table, values), values.toArray());
+        this.inserted.add(object);
+        return this;
+    }
+
+    /**
+     * Adds the insert from the values, that are in the order from the columns
+     *
+     * @param klass the class that contains the data annotation, table annotation and columns annotations
+     * @param objects the values from the columns
+     * @return this pipeline
+     * @since 0.2
+     */
+    public Pipeline insert(final Class<?> klass, final Object... objects) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (objects == null) throw new NullPointerException("objects");
+        if (objects.length == 0) throw new IllegalArgumentException("objects is empty");
+
+        final Data data = klass.getAnnotation(Data.class);
+        final Table table = klass.getAnnotation(Table.class);
+        this.db.checkDatabaseAndTable(klass, data, table);
+
+        this.add(table.name(), this.db.createInsertStatementWithArguments(klass, data, table, objects), objects);
+        return this;
+    }
+
+    /**
+     * Adds the update from the object
+     *
+     * @param object the object that contains the data, table and column annotations and the field values
+     * @return this pipeline
+     * @since 0.2
+     */
+    public Pipeline update(final Object object) {
+        if (object == null) throw new NullPointerException("object");
+
+        final Class<?> klass = object.getClass();
+        final Data data = klass.getAnnotation(Data.class);
+        final Table table = klass.getAnnotation(Table.class);
+        this.db.checkDatabaseAndTable(klass, data, table);
+
+        // @Note The object with a version column is updated only if the row has the version from the object, the
+        // conflict is the write with 0 rows in the results
+        final EntityModel model = EntityModel.of(klass);
+        if (model.version != -1) {
+            final Object current = model.get(object, model.version);
+            if (current == null) throw new NullPointerException("version from the object of the class \"" + klass.getSimpleName() + "\" is null");
+
+            final Object next = model.nextVersion(current);
+            this.add(table.name(), model.updateStatement, this.db.absent(object) ? null : model.updateValues(object, next));
+            this.versions.set(this.versions.size() - 1, new Object[] {object, next});
+            return this;
+        }
+
+        final List<Object> values = new ArrayList<>();
+        final String sql = this.db.createUpdateStatement(object, klass, data, table, values);
+        this.add(table.name(), sql, this.db.absent(object) ? null : values.toArray());
+        return this;
+    }
+
+    /**
+     * Adds the update from the columns and values in the rows that contain the argument value in the column
+     *
+     * @param klass the class that contains the data annotation, table annotation and columns annotations
+     * @param whereCheck the column name that will be check
+     * @param argCheck the argument value that will be check
+     * @param args the pairs from the column name and the value that will be update
+     * @return this pipeline
+     * @since 0.2
+     */
+    public Pipeline update(final Class<?> klass, final String whereCheck, final Object argCheck, final Object... args) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (whereCheck == null) throw new NullPointerException("whereCheck");
+        if (argCheck == null) throw new NullPointerException("argCheck");
+        if (args == null) throw new NullPointerException("args");
+
+        final Data data = klass.getAnnotation(Data.class);
+        final Table table = klass.getAnnotation(Table.class);
+        this.db.checkDatabaseAndTable(klass, data, table);
+
+        final List<Object> values = new ArrayList<>(args.length / 2 + 1);
+        final String sql = this.db.createUpdateStatement(klass, data, table, whereCheck, argCheck, values, args);
+        this.add(table.name(), sql, this.db.absent(klass, whereCheck, argCheck) ? null : values.toArray());
+        return this;
+    }
+
+    /**
+     * Adds the delete from the object
+     *
+     * @param object the object that will be delete from database table
+     * @return this pipeline
+     * @since 0.2
+     */
+    public Pipeline delete(final Object object) {
+        if (object == null) throw new NullPointerException("object");
+
+        final Class<?> klass = object.getClass();
+        final Data data = klass.getAnnotation(Data.class);
+        final Table table = klass.getAnnotation(Table.class);
+        this.db.checkDatabaseAndTable(klass, data, table);
+
+        // @Note The object with a version column is deleted only if the row has the version from the object
+        final EntityModel model = EntityModel.of(klass);
+        if (model.version != -1) {
+            if (model.get(object, model.version) == null) throw new NullPointerException("version from the object of the class \"" + klass.getSimpleName() + "\" is null");
+
+            this.add(table.name(), model.deleteStatement, this.db.absent(object) ? null : model.deleteValues(object));
+            return this;
+        }
+
+        final List<Object> values = new ArrayList<>(1);
+        final String sql = this.db.createDeleteStatement(object, klass, data, table, values);
+        this.add(table.name(), sql, this.db.absent(object) ? null : values.toArray());
+        return this;
+    }
+
+    /**
+     * Adds the delete from the rows that contain the argument value in the column
+     *
+     * @param klass the class that contains the data annotation and table annotation
+     * @param columnCheck the column name that will be check
+     * @param argCheck the argument value that will be check
+     * @return this pipeline
+     * @since 0.2
+     */
+    public Pipeline delete(final Class<?> klass, final String columnCheck, final Object argCheck) {
+        if (klass == null) throw new NullPointerException("klass");
+        if (columnCheck == null) throw new NullPointerException("columnCheck");
+        if (argCheck == null) throw new NullPointerException("argCheck");
+
+        final Data data = klass.getAnnotation(Data.class);
+        final Table table = klass.getAnnotation(Table.class);
+        this.db.checkDatabaseAndTable(klass, data, table);
+
+        final String sql = this.db.createDeleteStatement(data, table, columnCheck, argCheck);
+        this.add(table.name(), sql, this.db.absent(klass, columnCheck, argCheck) ? null : new Object[] {argCheck});
+        return this;
+    }
+
+    /**
+     * Adds the statement, which the tables that it mentions have their results evicted from the result cache
+     *
+     * @param operation the statement
+     * @return this pipeline
+     * @since 0.2
+     */
+    public Pipeline operation(final String operation) {
+        if (operation == null) throw new NullPointerException("operation");
+
+        this.tables.add(null);
+        this.templates.add(operation);
+        this.statements.add(operation);
+        return this;
+    }
+
+    /**
+     * Returns the quantity of writes that are added
+     *
+     * @return the quantity of writes
+     * @since 0.2
+     */
+    public int size() {
+        return this.templates.size();
+    }
+
+    /**
+     * Executes the writes together on one connection, the writes are executed in the order that they are added and
+     * the results are returned in the same order, the writes that are skipped by the existence filter have the count 0
+     *
+     * @return the results from the writes
+     * @since 0.2
+     */
+    public List<PipelineResult> execute() {
+        final int size = this.templates.size();
+        final List<String> batch = new ArrayList<>(size);
+        for (final String statement : this.statements) {
+            if (statement != null) batch.add(statement);
+        }
+
+        int[] counts = new int[0];
+        SQLException error = null;
+
+        if (!batch.isEmpty()) {
+            final AdmissionController admission = this.db.admission();
+            if (admission != null) admission.enter(null);
+
+            // @Note The statements are only joined if the flexible database has listeners
+            final StatementEvent event = this.db.listening() ? this.db.before(StatementEvent.Operation.BATCH, null, FlexDb.join(batch.toArray(new String[batch.size()])), null, 0, batch.size()) : null;
+
+            try {
+                final Connection connection = this.db.acquire();
+
+                try (final Statement statement = connection.createStatement()) {
+                    for (final String sql : batch) {
+                        statement.addBatch(sql);
+                    }
+
+                    counts = statement.executeBatch();
+
+                    if (event != null) {
+                        long count = 0;
+                        for (final int c : counts) {
+                            if (c > 0) count += c;
+                        }
+                        this.db.after(event, count);
+                    }
+                } finally {
+                    this.db.release(connection);
+                }
+            } catch (BatchUpdateException e) {
+                // @Note The counts from the statements that are executed before the error
+                counts = e.getUpdateCounts() != null ? e.getUpdateCounts() : new int[0];
+                error = e;
+                this.db.error(event, e);
+            } catch (SQLException e) {
+                error = e;
+                this.db.error(event, e);
+            } finally {
+                if (admission != null) admission.leave(null);
+
+                final ResultCache cache = this.db.cache();
+
+                for (int i = 0; cache != null && i < size; i++) {
+                    if (this.statements.get(i) == null) continue;
+
+                    final String table = this.tables.get(i);
+                    if (table != null) {
+                        cache.invalidate(table);
+                    } else {
+                        cache.invalidateMentioned(this.statements.get(i));
+                    }
+                }
+            }
+        }
+
+        if (error != null) error.printStackTrace();
+
+        final List<PipelineResult> results = new ArrayList<>(size);
+        int index = 0;
+
+        for (int i = 0; i < size; i++) {
+            final String table = this.tables.get(i);
+            final String template = this.templates.get(i);
+
+            if (this.statements.get(i) == null) {
+                results.add(new PipelineResult(template, table, 0, null));
+                continue;
+            }
+
+            final int count = index < counts.length ? counts[index] : Statement.EXECUTE_FAILED;
+            index++;
+
+            if (count == Statement.EXECUTE_FAILED) {
+                results.add(new PipelineResult(template, table, -1, error != null ? error : new SQLException("statement is not executed")));
+            } else {
+                results.add(new PipelineResult(template, table, count, null));
+
+                final Object[] version = this.versions.get(i);
+                if (version != null && count != 0) {
+                    final EntityModel model = EntityModel.of(version[0].getClass());
+                    model.set(version[0], model.version, version[1]);
+                }
+            }
+        }
+
+        for (final Object object : this.inserted) {
+            this.db.remember(object);
+        }
+
+        return results;
+    }
+
+    /**
+     * Adds the write with the values written as literals in the template
+     *
+     * @param table the table name
+     * @param sql the statement template
+     * @param values the values, or null if the write is skipped by the existence filter
+     * @since 0.2
+     */
+    private void add(final String table, final String sql, final Object[] values) {
+        this.tables.add(table);
+        this.templates.add(sql);
+        this.versions.add(null);
+        this.statements.add(values == null ? null : render(sql, values));
+    }
+
+    /**
+     * Returns the statement with the placeholders replaced by the literals from the values, the question marks inside
+     * the quoted texts and identifiers are not placeholders and are kept
+     *
+     * @param sql the statement template
+     * @param values the values
+     * @return the statement
+     * @since 0.2
+     */
+    static String render(final String sql, final Object[] values) { // package-private
+        final StringBuilder sb = new StringBuilder(sql.length() + values.length * 16);
+        int index = 0;
+        char quote = 0;
+
+        for (int i = 0; i < sql.length(); i++) {
+            final char c = sql.charAt(i);
+
+            if (quote != 0) {
+                sb.append(c);
+
+                // @Note The backslash escapes the next character inside the string literals
+                if (c == '\\' && quote != '`' && i + 1 < sql.length()) {
+                    sb.append(sql.charAt(++i));
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+
+            if (c != '?') {
+                if (c == '\'' || c == '"' || c == '`') quote = c;
+
+                sb.append(c);
+                continue;
+            }
+
+            if (index >= values.length) throw new IllegalArgumentException("statement has more placeholders than values");
+            literal(sb, values[index++]);
+        }
+
+        if (index != values.length) throw new IllegalArgumentException("statement has less placeholders than values");
+        return sb.toString();
+    }
+
+    /**
+     * Appends the literal from the value, the texts are written as hexadecimal with the utf8mb4 introducer then they
+     * can not change the statement
+     *
+     * @param sb the builder
+     * @param value the value
+     * @since 0.2
+     */
+    private static void literal(final StringBuilder sb, final Object value) {
+        if (value == null) {
+            sb.append("NULL");
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            sb.append(value);
+        } else if (value instanceof Double || value instanceof Float) {
+            final double number = ((Number) value).doubleValue();
+            if (Double.isNaN(number) || Double.isInfinite(number)) throw new IllegalArgumentException("number " + number + " can not be written to the database");
+
+            sb.append(BigDecimal.valueOf(number).toPlainString());
+        } else if (value instanceof BigDecimal) {
+            sb.append(((BigDecimal) value).toPlainString());
+        } else if (value instanceof Boolean) {
+            sb.append((Boolean) value ? "TRUE" : "FALSE");
+        } else if (value instanceof byte[]) {
+            hex(sb.append("X'"), (byte[]) value).append('\'');
+        } else if (value instanceof ByteBuffer) {
+            final ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            hex(sb.append("X'"), bytes).append('\'');
+        } else if (value instanceof Timestamp || (value instanceof Date && value.getClass() == Date.class)) {
+            // @Note The timestamps are written like the driver binds them, in the time zone from the virtual machine,
+            // then the text from Date.toString() that can not be converted by the MySQL Storage is not written
+            sb.append('\'').append(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS").format((Date) value)).append('\'');
+        } else if (value instanceof String || value instanceof Character || value instanceof Date) {
+            final byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+
+            // @Note The empty hexadecimal literal is not valid with the introducer
+            if (bytes.length == 0) {
+                sb.append("''");
+                return;
+            }
+
+            hex(sb.append("_utf8mb4 X'"), bytes).append('\'');
+        } else {
+            throw new IllegalArgumentException("value from the type \"" + value.getClass().getName() + "\" can not be written in a pipeline");
+        }
+    }
+
+    /**
+     * Appends the hexadecimal digits from the bytes
+     *
+     * @param sb the builder
+     * @param bytes the bytes
+     * @return the builder
+     * @since 0.2
+     */
+    private static StringBuilder hex(final StringBuilder sb, final byte[] bytes) {
+        for (final byte b : bytes) {
+            sb.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+        return sb;
+    }
+
+    @Override
+    public String toString() {
+        return "Pipeline{" + Arrays.toString(this.templates.toArray()) + "}";
+    }
+}
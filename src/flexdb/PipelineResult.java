@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.sql.SQLException;
+
+/**
+ * This represents the result from a statement that is executed by a pipeline, which contains the quantity of rows
+ * that are affected by the statement or the error from it
+ *
+ * @author biologyiswell (20/10/2026 00:21)
+ * @since 0.2
+ */
+public class PipelineResult {
+
+    /**
+     * These represents the statement template and the table name that it changes
+     * @since 0.2
+     */
+    private final String sql;
+    private final String table;
+
+    /**
+     * These represents the quantity of rows that are affected, or -1 if the statement fails, and the error
+     * @since 0.2
+     */
+    private final int count;
+    private final SQLException error;
+
+    /**
+     * Creates an instance from pipeline result
+     *
+     * @param sql the statement template
+     * @param table the table name, or null if the statement is an operation
+     * @param count the quantity of rows that are affected, or -1 if the statement fails
+     * @param error the error, or null if the statement is executed
+     * @since 0.2
+     */
+    PipelineResult(final String sql, final String table, final int count, final SQLException error) { // package-private
+        this.sql = sql;
+        this.table = table;
+        this.count = count;
+        this.error = error;
+    }
+
+    /**
+     * Returns the statement template
+     *
+     * @return the statement template
+     * @since 0.2
+     */
+    public String getSql() {
+        return this.sql;
+    }
+
+    /**
+     * Returns the table name that the statement changes
+     *
+     * @return the table name, or null if the statement is an operation
+     * @since 0.2
+     */
+    public String getTable() {
+        return this.table;
+    }
+
+    /**
+     * Returns the quantity of rows that are affected by the statement, the driver can answer
+     * {@link java.sql.Statement#SUCCESS_NO_INFO} when the quantity is not known
+     *
+     * @return the quantity of rows, or -1 if the statement fails
+     * @since 0.2
+     */
+    public int getCount() {
+        return this.count;
+    }
+
+    /**
+     * Returns the error from the statement, the statements after the statement that fails are not executed and have
+     * the same error
+     *
+     * @return the error, or null if the statement is executed
+     * @since 0.2
+     */
+    public SQLException getError() {
+        return this.error;
+    }
+
+    /**
+     * Returns if the statement is executed
+     *
+     * @return true if the statement is executed, otherwise false
+     * @since 0.2
+     */
+    public boolean isSuccess() {
+        return this.error == null;
+    }
+
+    @Override
+    public String toString() {
+        return "PipelineResult{sql=" + this.sql + ", count=" + this.count + (this.error != null ? ", error=" + this.error.getMessage() : "") + "}";
+    }
+}
@@ -23,9 +23,35 @@
  */
 package flexdb;
 
+import flexdb.util.NamedThreadFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This is a pooled database provided by flexible database factory which creates a database handler that contains a pool
@@ -44,16 +70,161 @@ public class PoolFlexDb extends FlexDb {
     private static final int MAX_CONNECTION_POOL = 128;
 
     /**
-     * Is the array of connection that has the pre-determined size defined by the constructor instatiation (by default)
-     * @since 0.1
+     * Is the timeout in seconds that the connection validation waits the ping response from MySQL Storage
+     * @since 0.2
+     */
+    private static final int VALIDATION_TIMEOUT = 5;
+
+    /**
+     * Is the priming query that is executed on the connections when the pool is warmed up, this query makes the first
+     * round trip from the connection to complete the session initialization before the traffic arrives
+     * @since 0.2
+     */
+    private static final String PRIMING_QUERY = "SELECT 1";
+
+    /**
+     * Is the period in milliseconds between the runs from the pool maintenance
+     * @since 0.2
+     */
+    private static final long HOUSEKEEPING_PERIOD = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * Is the period in milliseconds between the runs from the elastic sizing controller
+     * @since 0.2
+     */
+    private static final long SIZING_PERIOD = TimeUnit.SECONDS.toMillis(1);
+
+    /**
+     * Is the utilization from the pool, that is the peak from connections used divided by the target size, that makes
+     * the elastic sizing grow the pool
+     * @since 0.2
      */
-    private Connection[] connections;
+    private static final double GROW_UTILIZATION = 0.9d;
 
     /**
-     * This indicates the index from the connection that will be used on the next connection call
+     * Is the utilization from the pool that must be kept below along the idle timeout to make the elastic sizing shrink
+     * the pool
+     * @since 0.2
+     */
+    private static final double SHRINK_UTILIZATION = 0.5d;
+
+    /**
+     * Is the maximum size from pool of connections, that is the pre-determined size defined by the constructor
+     * instantiation
      * @since 0.1
      */
-    private int connectionIndex;
+    private final int connectionSize;
+
+    /**
+     * This indicates the minimum quantity of connections that are opened and validated before the traffic arrives,
+     * which these connections are opened in parallel by the warm up and are kept opened by the pool maintenance
+     * @since 0.2
+     */
+    private final int minimumIdle;
+
+    /**
+     * Is the deque of connections that are not used by an operation, the connections are given back at the head from
+     * the deque, then the head contains the connections used recently and the tail contains the connections that are
+     * idle for more time and that are checked by the pool maintenance
+     * @since 0.2
+     */
+    private final LinkedBlockingDeque<PooledConnection> idle = new LinkedBlockingDeque<>();
+
+    /**
+     * Is the map from the connections that are used by an operation to the pooled connections that handle them
+     * @since 0.2
+     */
+    private final ConcurrentHashMap<Connection, PooledConnection> borrowed = new ConcurrentHashMap<>();
+
+    /**
+     * Is the quantity of connections that are opened or are being opened by the pool
+     * @since 0.2
+     */
+    private final AtomicInteger total = new AtomicInteger();
+
+    /**
+     * Is the quantity of connections that are used by an operation, and the peak from this quantity since the last
+     * run from the elastic sizing controller
+     * @since 0.2
+     */
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peakActive = new AtomicInteger();
+
+    /**
+     * Is the sum of the time in nanoseconds that the checkouts wait a connection and the quantity of checkouts that
+     * wait, since the last run from the elastic sizing controller, these are only measured when the elastic sizing is
+     * enabled
+     * @since 0.2
+     */
+    private final AtomicLong waitTime = new AtomicLong();
+    private final AtomicLong waitCount = new AtomicLong();
+
+    /**
+     * Is the listeners that receive the sizing decisions
+     * @since 0.2
+     */
+    private final List<PoolListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Is the quantity of connections that the pool can open, which is the connection size when the elastic sizing is
+     * disabled, otherwise this size is changed by the elastic sizing controller between the minimum idle and the
+     * connection size
+     * @since 0.2
+     */
+    private volatile int targetSize;
+
+    /**
+     * These represents the configurations from the elastic sizing, the wait threshold is the average time in
+     * nanoseconds that the checkouts wait that makes the pool grow, and the growth rate is the maximum quantity of
+     * connections that are opened by second when the pool grows
+     * @since 0.2
+     */
+    private volatile long waitThreshold;
+    private volatile int growthRate;
+
+    /**
+     * Is the average time in nanoseconds that the checkouts wait in the last run from the elastic sizing controller
+     * @since 0.2
+     */
+    private volatile long averageWait;
+
+    /**
+     * Is the time in nanoseconds since the utilization from the pool is below the shrink utilization, or 0 if the
+     * utilization is above, this is only handled by the elastic sizing controller
+     * @since 0.2
+     */
+    private long lowUtilizationSince;
+
+    /**
+     * Is the executor that runs the pool maintenance in background, out of the checkout from connections
+     * @since 0.2
+     */
+    private final ScheduledExecutorService housekeeper;
+
+    /**
+     * Is the executor that opens the connections from the warm up in parallel, which the executor is shared by the all
+     * warm ups, then the pool maintenance not creates threads on each run, the threads that are idle are finished
+     * @since 0.2
+     */
+    private final ExecutorService warmer;
+
+    /**
+     * These represents the timeouts in nanoseconds that are used by the pool, the max lifetime is the time that a
+     * connection is retired, the keepalive time is the time that an idle connection is validated by a ping, the idle
+     * timeout is the time that an idle connection above the minimum idle is closed and the checkout timeout is the
+     * time that the checkout waits a connection when the pool is exhausted
+     * @since 0.2
+     */
+    private volatile long maxLifetime = TimeUnit.MINUTES.toNanos(30);
+    private volatile long keepaliveTime = TimeUnit.MINUTES.toNanos(2);
+    private volatile long idleTimeout = TimeUnit.MINUTES.toNanos(10);
+    private volatile long checkoutTimeout = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * This indicates if the pool is closed
+     * @since 0.2
+     */
+    private volatile boolean closed;
 
     /**
      * Creates an instance from Pooled Flexible Database which this database is recommended to make big quantity of
@@ -68,6 +239,25 @@ public class PoolFlexDb extends FlexDb {
      * @throws SQLException this exception is thrown if Connection construct fails
      */
     PoolFlexDb(final String host, final String username, final String password, final int port, final int connectionSize) throws SQLException { // package-private
+        this(host, username, password, port, connectionSize, 0);
+    }
+
+    /**
+     * Creates an instance from Pooled Flexible Database which this database is recommended to make big quantity of
+     * operations about database by time, and that opens the minimum idle connections in parallel on the construction
+     *
+     * @param host the host name which is used to connect to the MySQL Storage
+     * @param username the username which is used to authenticate the username credential
+     * @param password the password which is used to authenticate the password credential
+     * @param port the port which is used to connect to the MySQL Storage, if the port is equals -1, the default port
+     *             is set that is 3306
+     * @param connectionSize this represents the pre-determined from pool of connections
+     * @param minimumIdle this represents the quantity of connections that are opened and validated on the
+     *                    construction, if the minimum idle is 0 the connections are opened lazily
+     * @throws SQLException this exception is thrown if Connection construct fails
+     * @since 0.2
+     */
+    PoolFlexDb(final String host, final String username, final String password, final int port, final int connectionSize, final int minimumIdle) throws SQLException { // package-private
         super(host, username, password, port);
 
         // @Note Check if the connection size from argument-list is bigger than MAX_CONNECTION_POOL
@@ -75,34 +265,655 @@ public class PoolFlexDb extends FlexDb {
             throw new IllegalArgumentException("connection size can not be bigger than maximum connection pool that is (" + MAX_CONNECTION_POOL + ")");
         }
 
-        // @Note Initialize the connection array
-        this.connections = new Connection[connectionSize];
+        // @Note Check if the minimum idle from argument-list is between 0 and the connection size
+        if (minimumIdle < 0 || minimumIdle > connectionSize) {
+            throw new IllegalArgumentException("minimum idle must be between 0 and connection size that is (" + connectionSize + ")");
+        }
+
+        this.connectionSize = connectionSize;
+        this.minimumIdle = minimumIdle;
+        this.targetSize = connectionSize;
+        this.warmer = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(), new NamedThreadFactory("FlexDb-warmup"));
+
+        // @Note Warm up the pool before the instance is returned to the caller, then the first operations not pay the
+        // handshake latency from the connections, if the warm up fails the connections that are opened are closed
+        // because the instance is not returned and can not be closed by the caller
+        if (minimumIdle > 0) {
+            try {
+                this.warmUp();
+            } catch (SQLException | RuntimeException e) {
+                this.closed = true;
+                this.warmer.shutdownNow();
+
+                PooledConnection pooled;
+                while ((pooled = this.idle.pollFirst()) != null) {
+                    this.discard(pooled);
+                }
+                throw e;
+            }
+        }
+
+        // @Note Start the pool maintenance, that runs in a single background thread
+        this.housekeeper = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("FlexDb-housekeeper"));
+        this.housekeeper.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                PoolFlexDb.this.housekeep();
+            }
+        }, HOUSEKEEPING_PERIOD, HOUSEKEEPING_PERIOD, TimeUnit.MILLISECONDS);
     }
 
     /**
-     * Gets the next connection indicates by connection index that is handled, which the connection that is get is
-     * provided by connection array pre-determined by the constructor instantiation (by default), which this make the
-     * check about if the connection is closed, in this case open the connection, the connection index is handle by the
-     * increase from this index based on the call of connection methods
+     * Warm Up, method,
+     * This method opens the connections that are missing until the minimum idle size, which the connections are
+     * opened in parallel, then the time from the warm up is near to the time from a single connection handshake instead
+     * of grow linearly with the pool size, each connection is validated by a ping and primed by a query before it is
+     * put into the pool
      *
-     * @return the connection indicates by connection index
+     * @throws SQLException this exception is thrown if a connection can not be opened or validated
+     * @since 0.2
+     */
+    public void warmUp() throws SQLException {
+        // @Note Reserve the connections that are missing, the reservation is made on the total that the checkouts that
+        // happen at the same time not open more connections than the connection size
+        int missing = 0;
+        while (true) {
+            final int current = this.total.get();
+            missing = this.minimumIdle - current;
+
+            if (missing <= 0) return;
+            if (this.total.compareAndSet(current, this.minimumIdle)) break;
+        }
+
+        final List<Future<Connection>> futures = new ArrayList<>(missing);
+        SQLException failure = null;
+
+        // @Note Submit the opening from each connection, that the handshakes happen at the same time, the executor
+        // rejects the submits when the pool is closed, then the connections that are not submitted are not reserved
+        for (int i = 0; i < missing; i++) {
+            try {
+                futures.add(this.warmer.submit(new Callable<Connection>() {
+                    @Override
+                    public Connection call() throws Exception {
+                        return PoolFlexDb.this.openValidated();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                this.total.addAndGet(futures.size() - missing);
+                failure = new SQLException("pool is closed", e);
+                break;
+            }
+        }
+
+        // @Note Wait the all connections, the connections that are opened successfully are put into the pool even that
+        // other connection fails, and the first failure is thrown after the all connections are handled
+        for (final Future<Connection> future : futures) {
+            try {
+                this.idle.offerLast(new PooledConnection(future.get(), this.maxLifetime));
+            } catch (ExecutionException e) {
+                this.total.decrementAndGet();
+
+                if (failure == null) {
+                    failure = e.getCause() instanceof SQLException ? (SQLException) e.getCause() : new SQLException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                this.total.decrementAndGet();
+                Thread.currentThread().interrupt();
+
+                if (failure == null) {
+                    failure = new SQLException("warm up interrupted", e);
+                }
+            }
+        }
+
+        if (failure != null) throw failure;
+    }
+
+    /**
+     * Returns a connection that is borrowed from the pool, which the connection is used only by the caller until it is
+     * closed, the close from the connection gives it back to the pool instead of close it, then the caller must close
+     * the connection when it finish, otherwise the connection is never given back
+     *
+     * @Note Since 0.2 this method has a different contract from 0.1, in the 0.1 the connections were shared by the
+     * callers and were never closed, now each call holds a connection from the pool until the connection is closed,
+     * then the callers from 0.1 that not close the connection exhaust the pool, the operations from the flexible
+     * database not use this method
+     *
+     * @return a connection that is borrowed from the pool
      * @throws SQLException this exception is thrown if method call from Connection method fails
      * @since 0.1
      */
     @Override
     public Connection connection() throws SQLException {
-        // @Note Check if the connection index is equals length from the connection array minus 1, then this represents
-        // that represents that the connection index set to the 0
-        if (this.connectionIndex == this.connections.length - 1) {
-            this.connectionIndex = 0;
+        final Connection connection = this.acquire();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class}, new BorrowedConnection(connection));
+    }
+
+    /**
+     * Checkouts an idle connection from the pool, if the pool has not idle connection and the quantity of connections
+     * is less than the connection size a new connection is opened, otherwise the checkout waits a connection that is
+     * given back until the checkout timeout, the checkout not validates the connection because the validation is made by
+     * the pool maintenance in background
+     *
+     * @return the connection that is checked out
+     * @throws SQLException this exception is thrown if the connection can not be opened or if the checkout timeout
+     * @since 0.2
+     */
+    @Override
+    protected Connection acquire() throws SQLException {
+        if (this.closed) throw new SQLException("pool is closed");
+
+        PooledConnection pooled = this.idle.pollFirst();
+
+        if (pooled == null) {
+            pooled = this.openIfBelowSize();
+        }
+
+        if (pooled == null) {
+            // @Note The wait time is only measured when the checkout waits and the elastic sizing is enabled, that is
+            // the only reader from it, then the other checkouts not pay the time measure
+            final boolean measured = this.growthRate > 0;
+            final long start = measured ? System.nanoTime() : 0L;
+
+            try {
+                pooled = this.idle.pollFirst(this.checkoutTimeout, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLException("checkout interrupted", e);
+            } finally {
+                if (measured) {
+                    this.waitTime.addAndGet(System.nanoTime() - start);
+                    this.waitCount.incrementAndGet();
+                }
+            }
+
+            if (pooled == null) {
+                throw new SQLTimeoutException("checkout timeout, the all connections from the pool (" + this.targetSize + ") are used");
+            }
+        }
+
+        // @Note Update the peak from the connections that are used, that is read by the elastic sizing controller
+        final int used = this.active.incrementAndGet();
+        int peak;
+        while (used > (peak = this.peakActive.get()) && !this.peakActive.compareAndSet(peak, used)) {
+            // @Note Retry until the peak is updated or other checkout set a bigger peak
+        }
+
+        this.borrowed.put(pooled.connection, pooled);
+        return pooled.connection;
+    }
+
+    /**
+     * Gives back the connection to the pool, the connection is put at the head from idle deque
+     *
+     * @param connection the connection that is given back
+     * @since 0.2
+     */
+    @Override
+    protected void release(final Connection connection) {
+        final PooledConnection pooled = this.borrowed.remove(connection);
+
+        // @Note This condition makes the check if the connection is not from this pool
+        if (pooled == null) return;
+
+        this.active.decrementAndGet();
+
+        if (this.closed) {
+            this.discard(pooled);
+            return;
+        }
+
+        pooled.lastUsedAt = System.nanoTime();
+        this.idle.offerFirst(pooled);
+    }
+
+    /**
+     * Closes the pool, which the pool maintenance is stopped and the idle connections are closed, the connections that
+     * are used are closed when are given back
+     *
+     * @since 0.2
+     */
+    public void close() {
+        this.closed = true;
+        this.housekeeper.shutdownNow();
+        this.warmer.shutdownNow();
+
+        PooledConnection pooled;
+        while ((pooled = this.idle.pollFirst()) != null) {
+            this.discard(pooled);
+        }
+    }
+
+    /**
+     * Enables the elastic sizing from the pool, which the pool starts with the minimum idle size (or 1 if the minimum
+     * idle is 0) and a controller grows the pool when the average wait from the checkouts is bigger than the wait
+     * threshold or when the utilization from the pool is near to the target size, and shrinks the pool when the
+     * utilization is low along the idle timeout, the sizing decisions are sent to the pool listeners
+     *
+     * @param waitThreshold the average wait from the checkouts that makes the pool grow
+     * @param unit the time unit from wait threshold
+     * @param growthRate the maximum quantity of connections that are opened by second when the pool grows, that avoids
+     *                   that the pool opens a lot of connections at the same time to the MySQL Storage
+     * @since 0.2
+     */
+    public void enableElasticSizing(final long waitThreshold, final TimeUnit unit, final int growthRate) {
+        if (unit == null) throw new NullPointerException("unit");
+        if (growthRate <= 0) throw new IllegalArgumentException("growth rate must be bigger than 0");
+
+        synchronized (this) {
+            // @Note This condition makes the check if the elastic sizing is already enabled
+            if (this.growthRate > 0) return;
+
+            this.waitThreshold = unit.toNanos(waitThreshold);
+            this.growthRate = growthRate;
+        }
+
+        this.resize(Math.max(this.minimumIdle, 1), "elastic sizing enabled");
+
+        this.housekeeper.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                PoolFlexDb.this.adjustSize();
+            }
+        }, SIZING_PERIOD, SIZING_PERIOD, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds a listener that receives the sizing decisions from the pool
+     *
+     * @param listener the listener
+     * @since 0.2
+     */
+    public void addPoolListener(final PoolListener listener) {
+        if (listener == null) throw new NullPointerException("listener");
+
+        this.listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener that receives the sizing decisions from the pool
+     *
+     * @param listener the listener
+     * @since 0.2
+     */
+    public void removePoolListener(final PoolListener listener) {
+        this.listeners.remove(listener);
+    }
+
+    /**
+     * Returns the quantity of connections that are opened by the pool
+     *
+     * @return the quantity of connections
+     * @since 0.2
+     */
+    public int getTotalConnections() {
+        return this.total.get();
+    }
+
+    /**
+     * Returns the quantity of connections that are used by an operation
+     *
+     * @return the quantity of connections that are used
+     * @since 0.2
+     */
+    public int getActiveConnections() {
+        return this.active.get();
+    }
+
+    /**
+     * Returns the quantity of connections that are idle in the pool
+     *
+     * @return the quantity of connections that are idle
+     * @since 0.2
+     */
+    public int getIdleConnections() {
+        return this.idle.size();
+    }
+
+    /**
+     * Returns the quantity of connections that the pool can open
+     *
+     * @return the target size from the pool
+     * @since 0.2
+     */
+    public int getTargetSize() {
+        return this.targetSize;
+    }
+
+    /**
+     * Returns the average time that the checkouts wait a connection in the last second, which is only measured when the
+     * elastic sizing is enabled
+     *
+     * @param unit the time unit from the average wait
+     * @return the average wait
+     * @since 0.2
+     */
+    public long getAverageWait(final TimeUnit unit) {
+        return unit.convert(this.averageWait, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Sets the maximum lifetime from the connections, which the connections are retired by the pool maintenance after
+     * this time minus a random jitter
+     *
+     * @param time the maximum lifetime
+     * @param unit the time unit from maximum lifetime
+     * @since 0.2
+     */
+    public void setMaxLifetime(final long time, final TimeUnit unit) {
+        if (unit == null) throw new NullPointerException("unit");
+
+        this.maxLifetime = unit.toNanos(time);
+    }
+
+    /**
+     * Sets the keepalive time from the connections, which the idle connections are validated by a ping after this time
+     * that must be less than the "wait_timeout" from MySQL Storage
+     *
+     * @param time the keepalive time
+     * @param unit the time unit from keepalive time
+     * @since 0.2
+     */
+    public void setKeepaliveTime(final long time, final TimeUnit unit) {
+        if (unit == null) throw new NullPointerException("unit");
+
+        this.keepaliveTime = unit.toNanos(time);
+    }
+
+    /**
+     * Sets the idle timeout from the connections, which the connections that are idle for this time are closed by the
+     * pool maintenance when the quantity of connections is bigger than the minimum idle
+     *
+     * @param time the idle timeout
+     * @param unit the time unit from idle timeout
+     * @since 0.2
+     */
+    public void setIdleTimeout(final long time, final TimeUnit unit) {
+        if (unit == null) throw new NullPointerException("unit");
+
+        this.idleTimeout = unit.toNanos(time);
+    }
+
+    /**
+     * Sets the checkout timeout, which is the time that the checkout waits a connection when the pool is exhausted
+     *
+     * @param time the checkout timeout
+     * @param unit the time unit from checkout timeout
+     * @since 0.2
+     */
+    public void setCheckoutTimeout(final long time, final TimeUnit unit) {
+        if (unit == null) throw new NullPointerException("unit");
+
+        this.checkoutTimeout = unit.toNanos(time);
+    }
+
+    /**
+     * Housekeep, method,
+     * This method makes the pool maintenance, which retires the connections that pass the maximum lifetime, closes the
+     * idle connections above the minimum idle, validates the idle connections that pass the keepalive time and opens
+     * the connections that are missing until the minimum idle, the connections that are handled are removed from the
+     * idle deque before, then a checkout never gets a connection that is handled by this method
+     *
+     * @since 0.2
+     */
+    private void housekeep() {
+        final long now = System.nanoTime();
+
+        for (final PooledConnection pooled : this.idle) {
+            final boolean retire = now - pooled.retireAt >= 0;
+            final boolean evict = now - pooled.lastUsedAt >= this.idleTimeout && this.total.get() > this.minimumIdle;
+            final boolean validate = now - pooled.lastValidatedAt >= this.keepaliveTime;
+
+            if (!retire && !evict && !validate) continue;
+
+            // @Note This condition makes the check if the connection is checked out after the iteration get it
+            if (!this.idle.removeFirstOccurrence(pooled)) continue;
+
+            if (retire || evict) {
+                this.discard(pooled);
+                continue;
+            }
+
+            // @Note Validate the connection by a ping, this keeps the connection alive before the server timeouts and
+            // detects the connections that are dead after a failover
+            boolean valid;
+            try {
+                valid = pooled.connection.isValid(VALIDATION_TIMEOUT);
+            } catch (SQLException e) {
+                e.printStackTrace();
+                valid = false;
+            }
+
+            if (!valid) {
+                this.discard(pooled);
+                continue;
+            }
+
+            pooled.lastValidatedAt = System.nanoTime();
+            this.idle.offerLast(pooled);
+        }
+
+        // @Note Replace the connections that are closed until the minimum idle
+        try {
+            this.warmUp();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Adjust Size, method,
+     * This method is the elastic sizing controller, which reads the wait and utilization from the pool since the last
+     * run, and grows or shrinks the target size from the pool, when the pool grows the new connections are opened by
+     * this method until the growth rate, then the checkouts not open a lot of connections at the same time
+     *
+     * @since 0.2
+     */
+    private void adjustSize() {
+        final long now = System.nanoTime();
+        final long waits = this.waitCount.getAndSet(0);
+        final long wait = this.waitTime.getAndSet(0);
+        final int peak = this.peakActive.getAndSet(this.active.get());
+        final int target = this.targetSize;
+
+        this.averageWait = waits == 0 ? 0 : wait / waits;
+
+        final double utilization = (double) peak / target;
+
+        if ((waits > 0 && this.averageWait >= this.waitThreshold) || utilization >= GROW_UTILIZATION) {
+            this.lowUtilizationSince = 0;
+
+            // @Note This condition makes the check if the pool is already at the connection size
+            if (target >= this.connectionSize) return;
+
+            this.resize(Math.min(this.connectionSize, target + this.growthRate), waits > 0 ? "average wait " + TimeUnit.NANOSECONDS.toMicros(this.averageWait) + "us" : "utilization " + Math.round(utilization * 100) + "%");
+
+            // @Note Open the connections until the growth rate, then the checkouts that wait get the new connections
+            for (int i = 0; i < this.growthRate; i++) {
+                try {
+                    final PooledConnection pooled = this.openIfBelowSize();
+
+                    if (pooled == null) break;
+
+                    this.idle.offerFirst(pooled);
+                } catch (SQLException e) {
+                    e.printStackTrace();
+                    break;
+                }
+            }
+        } else if (utilization < SHRINK_UTILIZATION) {
+            if (this.lowUtilizationSince == 0) {
+                this.lowUtilizationSince = now;
+                return;
+            }
+
+            // @Note This condition makes the check if the utilization is low along the idle timeout
+            if (now - this.lowUtilizationSince < this.idleTimeout || target <= Math.max(this.minimumIdle, 1)) return;
+
+            this.lowUtilizationSince = now;
+            this.resize(target - 1, "utilization " + Math.round(utilization * 100) + "%");
+
+            // @Note Close the idle connections that are above the new target size, starting from the connections that
+            // are idle for more time
+            PooledConnection pooled;
+            while (this.total.get() > this.targetSize && (pooled = this.idle.pollLast()) != null) {
+                this.discard(pooled);
+            }
+        } else {
+            this.lowUtilizationSince = 0;
+        }
+    }
+
+    /**
+     * Changes the target size from the pool and sends the decision to the pool listeners
+     *
+     * @param size the new target size
+     * @param reason the reason from the decision
+     * @since 0.2
+     */
+    private void resize(final int size, final String reason) {
+        final int previousSize = this.targetSize;
+
+        if (previousSize == size) return;
+
+        this.targetSize = size;
+
+        for (final PoolListener listener : this.listeners) {
+            listener.onResize(this, previousSize, size, reason);
+        }
+    }
+
+    /**
+     * Opens a new connection if the quantity of connections is less than the target size
+     *
+     * @return the pooled connection or null if the pool is full
+     * @throws SQLException this exception is thrown if the connection can not be opened
+     * @since 0.2
+     */
+    private PooledConnection openIfBelowSize() throws SQLException {
+        while (true) {
+            final int current = this.total.get();
+
+            if (current >= this.targetSize) return null;
+            if (this.total.compareAndSet(current, current + 1)) break;
+        }
+
+        try {
+            return new PooledConnection(this.open(), this.maxLifetime);
+        } catch (SQLException e) {
+            this.total.decrementAndGet();
+            throw e;
         }
+    }
+
+    /**
+     * Closes the pooled connection and removes it from the quantity of connections
+     *
+     * @param pooled the pooled connection that will be closed
+     * @since 0.2
+     */
+    private void discard(final PooledConnection pooled) {
+        this.total.decrementAndGet();
 
-        // @Note Check if the connection from the current index is null or closed then, open it
-        if (this.connections[this.connectionIndex] == null || this.connections[this.connectionIndex].isClosed()) {
-            this.connections[this.connectionIndex] = DriverManager.getConnection("jdbc:mysql://" + host + ":" + port, username, password);
+        try {
+            pooled.connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
         }
+    }
 
-        // @Note Get the current connection handled, and increase the index from connection index
-        return this.connections[this.connectionIndex++];
+    /**
+     * Opens a connection to the MySQL Storage
+     *
+     * @return the opened connection
+     * @throws SQLException this exception is thrown if the connection can not be opened
+     * @since 0.2
+     */
+    private Connection open() throws SQLException {
+        return DriverManager.getConnection(this.url(), username, password);
+    }
+
+    /**
+     * Open Validated, method,
+     * This method opens a connection to the MySQL Storage, validates the connection by a ping and executes the priming
+     * query, if the validation fails the connection is closed
+     *
+     * @return the opened connection
+     * @throws SQLException this exception is thrown if the connection can not be opened or validated
+     * @since 0.2
+     */
+    private Connection openValidated() throws SQLException {
+        final Connection connection = this.open();
+
+        try {
+            // @Note Ping the MySQL Storage, this checks that the socket is alive and the authentication is done
+            if (!connection.isValid(VALIDATION_TIMEOUT)) {
+                throw new SQLException("connection is not valid after opened");
+            }
+
+            // @Note Execute the priming query, this makes the first round trip from the connection
+            try (final Statement statement = connection.createStatement()) {
+                statement.execute(PRIMING_QUERY);
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+
+        return connection;
+    }
+
+    /**
+     * This represents the connection that is borrowed by the connection method, which the close gives back the
+     * connection to the pool once, and the connection can not be used after it is given back
+     *
+     * @since 0.2
+     */
+    private final class BorrowedConnection implements InvocationHandler {
+
+        private final Connection connection;
+        private final AtomicBoolean returned = new AtomicBoolean();
+
+        BorrowedConnection(final Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!this.returned.getAndSet(true)) {
+                        // @Note The auto-commit is restored before the connection is given back, and the connection is
+                        // given back even if the restore fails
+                        try {
+                            if (!this.connection.getAutoCommit()) {
+                                this.connection.rollback();
+                                this.connection.setAutoCommit(true);
+                            }
+                        } finally {
+                            PoolFlexDb.this.release(this.connection);
+                        }
+                    }
+                    return null;
+                case "isClosed":
+                    return this.returned.get() || this.connection.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "BorrowedConnection[" + this.connection + "]";
+                default:
+                    break;
+            }
+
+            if (this.returned.get()) throw new SQLException("connection is given back to the pool");
+
+            try {
+                return method.invoke(this.connection, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.sql.Connection;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * This represents a connection that is handled by the pooled flexible database, which contains the timestamps that are
+ * used by the pool maintenance to validate, keep alive and retire the connection
+ *
+ * @author biologyiswell (19/10/2026 14:02)
+ * @since 0.2
+ */
+class PooledConnection { // package-private
+
+    /**
+     * This represents the connection that is handled
+     * @since 0.2
+     */
+    final Connection connection;
+
+    /**
+     * This represents the time in nanoseconds when the connection is opened
+     * @since 0.2
+     */
+    final long createdAt;
+
+    /**
+     * This represents the time in nanoseconds when the connection must be retired from the pool
+     * @since 0.2
+     */
+    final long retireAt;
+
+    /**
+     * This represents the time in nanoseconds when the connection is given back to the pool at last time
+     * @since 0.2
+     */
+    volatile long lastUsedAt;
+
+    /**
+     * This represents the time in nanoseconds when the connection is validated at last time
+     * @since 0.2
+     */
+    volatile long lastValidatedAt;
+
+    /**
+     * Creates an instance from pooled connection
+     *
+     * @param connection the connection that is handled
+     * @param maxLifetime the maximum lifetime in nanoseconds from the connection, which a jitter up to 1/40 from this
+     *                    value is subtracted that the connections opened at the same time are not retired at the same
+     *                    time
+     * @since 0.2
+     */
+    PooledConnection(final Connection connection, final long maxLifetime) {
+        this.connection = connection;
+        this.createdAt = System.nanoTime();
+        this.lastUsedAt = this.createdAt;
+        this.lastValidatedAt = this.createdAt;
+
+        final long jitter = maxLifetime > 40 ? ThreadLocalRandom.current().nextLong(maxLifetime / 40) : 0;
+        this.retireAt = this.createdAt + maxLifetime - jitter;
+    }
+}
@@ -0,0 +1,979 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.util.NamedThreadFactory;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * This represents the in-memory replica from a table, that is used to the reference tables that are read by each
+ * request and changed rarely, the rows are kept in columns from primitive arrays and the texts are encoded by a
+ * dictionary, then each row has no object, the rows are found by an index from the column anchor value and the
+ * lookups and filters are answered without the database
+ *
+ * The replica is refreshed by polling the version column, that must be a number or a timestamp that increases when
+ * the row is inserted or updated, the rows that have the version bigger or equals than the last version are read and
+ * replaced in the replica, the deleted rows are only removed by the reload method, that reads the all rows again
+ *
+ * @author biologyiswell (19/10/2026 23:18)
+ * @since 0.2
+ */
+public class Replica<T> {
+
+    /**
+     * This represents the quantity of rows from each page that is read when the replica is loaded
+     * @since 0.2
+     */
+    private static final int PAGE_SIZE = 10000;
+
+    /**
+     * These represents the flexible database, the model from the class and the class
+     * @since 0.2
+     */
+    private final FlexDb db;
+    private final EntityModel model;
+    private final Class<T> klass;
+
+    /**
+     * This represents the field index from the version column, or -1 if the replica is not refreshed by polling
+     * @since 0.2
+     */
+    private final int version;
+
+    /**
+     * These represents the lock from the replica, the columns, the index from the column anchor values, the quantity
+     * of rows and the last version that is read
+     * @since 0.2
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Column[] columns;
+    private Index index;
+    private int size;
+    private Object lastVersion;
+
+    /**
+     * This represents the scheduler that polls the version column, or null if the replica is not refreshed by polling
+     * @since 0.2
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Creates an instance from replica, which the all rows are loaded before it is returned
+     *
+     * @param db the flexible database
+     * @param klass the class
+     * @param versionColumn the version column, or null to not refresh by polling
+     * @param period the period from the polling
+     * @param unit the unit from the period
+     * @since 0.2
+     */
+    Replica(final FlexDb db, final Class<T> klass, final String versionColumn, final long period, final TimeUnit unit) { // package-private
+        this.db = db;
+        this.model = EntityModel.of(klass);
+        this.klass = klass;
+        this.model.requireAnchor();
+        this.version = versionColumn == null ? -1 : this.model.requireColumn(versionColumn);
+
+        this.reload();
+
+        if (this.version == -1) {
+            this.scheduler = null;
+            return;
+        }
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new NamedThreadFactory("FlexDb-replica"));
+        this.scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    Replica.this.refresh();
+                } catch (RuntimeException e) {
+                    // @Note The exception is caught, otherwise the scheduler stops to poll
+                    e.printStackTrace();
+                }
+            }
+        }, period, period, unit);
+    }
+
+    /**
+     * Returns the object from the row that contains the column anchor value
+     *
+     * @param anchor the column anchor value
+     * @return the object, or null if the replica has not the row
+     * @since 0.2
+     */
+    public T get(final Object anchor) {
+        if (anchor == null) throw new NullPointerException("anchor");
+
+        this.lock.readLock().lock();
+        try {
+            final int row = this.index.get(anchor);
+            return row == -1 ? null : this.create(row);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns if the replica contains the row that contains the column anchor value
+     *
+     * @param anchor the column anchor value
+     * @return true if the replica contains the row, otherwise false
+     * @since 0.2
+     */
+    public boolean contains(final Object anchor) {
+        if (anchor == null) throw new NullPointerException("anchor");
+
+        this.lock.readLock().lock();
+        try {
+            return this.index.get(anchor) != -1;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the value from the column in the row that contains the column anchor value, without creating the object
+     *
+     * @param anchor the column anchor value
+     * @param column the column name
+     * @return the value, or null if the replica has not the row
+     * @since 0.2
+     */
+    public Object getValue(final Object anchor, final String column) {
+        if (anchor == null) throw new NullPointerException("anchor");
+        if (column == null) throw new NullPointerException("column");
+
+        final int field = this.model.requireColumn(column);
+
+        this.lock.readLock().lock();
+        try {
+            final int row = this.index.get(anchor);
+            return row == -1 ? null : this.columns[field].get(row);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the objects from the rows that contain the value in the column, the texts are compared by the dictionary
+     * code then the rows are compared without the texts
+     *
+     * @param column the column name
+     * @param value the value, or null to find the rows that have null in the column
+     * @return the objects
+     * @since 0.2
+     */
+    public List<T> select(final String column, final Object value) {
+        if (column == null) throw new NullPointerException("column");
+
+        final int field = this.model.requireColumn(column);
+        final List<T> objects = new ArrayList<>();
+
+        this.lock.readLock().lock();
+        try {
+            final Column values = this.columns[field];
+            final Object key = values.key(value);
+            if (key == Column.ABSENT) return objects;
+
+            for (int row = 0; row < this.size; row++) {
+                if (values.matches(row, key)) objects.add(this.create(row));
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        return objects;
+    }
+
+    /**
+     * Returns the quantity of rows that contain the value in the column
+     *
+     * @param column the column name
+     * @param value the value, or null to count the rows that have null in the column
+     * @return the quantity of rows
+     * @since 0.2
+     */
+    public int count(final String column, final Object value) {
+        if (column == null) throw new NullPointerException("column");
+
+        final int field = this.model.requireColumn(column);
+        int count = 0;
+
+        this.lock.readLock().lock();
+        try {
+            final Column values = this.columns[field];
+            final Object key = values.key(value);
+            if (key == Column.ABSENT) return 0;
+
+            for (int row = 0; row < this.size; row++) {
+                if (values.matches(row, key)) count++;
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the objects from the rows that have the value in the number column between the minimum and the maximum,
+     * inclusive
+     *
+     * @param column the column name from a number column
+     * @param minimum the minimum value
+     * @param maximum the maximum value
+     * @return the objects
+     * @since 0.2
+     */
+    public List<T> range(final String column, final Number minimum, final Number maximum) {
+        if (column == null) throw new NullPointerException("column");
+        if (minimum == null) throw new NullPointerException("minimum");
+        if (maximum == null) throw new NullPointerException("maximum");
+
+        final int field = this.model.requireColumn(column);
+        final List<T> objects = new ArrayList<>();
+
+        this.lock.readLock().lock();
+        try {
+            final Column values = this.columns[field];
+
+            for (int row = 0; row < this.size; row++) {
+                if (values.between(row, minimum, maximum)) objects.add(this.create(row));
+            }
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        return objects;
+    }
+
+    /**
+     * Returns the quantity of rows from the replica
+     *
+     * @return the quantity of rows
+     * @since 0.2
+     */
+    public int size() {
+        this.lock.readLock().lock();
+        try {
+            return this.size;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the rows that have the version bigger or equals than the last version and replaces them in the replica,
+     * if the replica has no version column the all rows are read again
+     *
+     * @since 0.2
+     */
+    public void refresh() {
+        if (this.version == -1) {
+            this.reload();
+            return;
+        }
+
+        final Object lastVersion;
+        this.lock.readLock().lock();
+        try {
+            lastVersion = this.lastVersion;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+
+        final String column = this.model.columns[this.version].name();
+        final List<Object[]> rows = lastVersion == null
+                ? this.db.fetch(this.model.table.name(), "SELECT " + this.model.selectList + " FROM " + this.model.qualifiedName + " ORDER BY " + column, new Object[0])
+                : this.db.fetch(this.model.table.name(), "SELECT " + this.model.selectList + " FROM " + this.model.qualifiedName + " WHERE " + column + " >= ? ORDER BY " + column, new Object[] {lastVersion});
+
+        if (rows == null || rows.isEmpty()) return;
+
+        this.lock.writeLock().lock();
+        try {
+            for (final Object[] row : rows) {
+                this.put(this.columns, this.index, row);
+            }
+
+            this.lastVersion = rows.get(rows.size() - 1)[this.version];
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads the all rows again by keyset pages and replaces the replica, which removes the rows that are deleted
+     *
+     * @since 0.2
+     */
+    public void reload() {
+        // @Note The version is read before the rows, then the rows that change while the rows are read are read
+        // again by the next refresh
+        Object lastVersion = null;
+        if (this.version != -1) {
+            final String column = this.model.columns[this.version].name();
+            final List<Object[]> rows = this.db.fetch(this.model.table.name(), "SELECT MAX(" + column + ") FROM " + this.model.qualifiedName, new Object[0]);
+            if (rows == null) throw new IllegalStateException("version from the table \"" + this.model.qualifiedName + "\" can not be read");
+
+            lastVersion = rows.isEmpty() ? null : rows.get(0)[0];
+        }
+
+        final Column[] columns = new Column[this.model.fields.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Column.of(this.model.fields[i].getType());
+        }
+
+        final Index index = Index.of(this.model.fields[this.model.anchor].getType());
+        final String anchor = this.model.columns[this.model.anchor].name();
+        final String firstQuery = "SELECT " + this.model.selectList + " FROM " + this.model.qualifiedName + " ORDER BY " + anchor + " LIMIT ?";
+        final String nextQuery = "SELECT " + this.model.selectList + " FROM " + this.model.qualifiedName + " WHERE " + anchor + " > ? ORDER BY " + anchor + " LIMIT ?";
+
+        final int previousSize = this.size;
+        int size = 0;
+        Object after = null;
+
+        while (true) {
+            final List<Object[]> rows = after == null
+                    ? this.db.fetch(this.model.table.name(), firstQuery, new Object[] {PAGE_SIZE})
+                    : this.db.fetch(this.model.table.name(), nextQuery, new Object[] {after, PAGE_SIZE});
+
+            if (rows == null) throw new IllegalStateException("rows from the table \"" + this.model.qualifiedName + "\" can not be read");
+
+            for (final Object[] row : rows) {
+                for (int i = 0; i < columns.length; i++) {
+                    columns[i].ensure(size + 1);
+                    columns[i].set(size, EntityModel.convert(row[i], this.model.fields[i].getType()));
+                }
+
+                index.put(row[this.model.anchor], size);
+                size++;
+            }
+
+            if (rows.size() < PAGE_SIZE) break;
+            after = rows.get(rows.size() - 1)[this.model.anchor];
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            // @Note The rows that are refreshed while the rows are read are older than the rows that are read
+            this.columns = columns;
+            this.index = index;
+            this.size = size;
+            this.lastVersion = lastVersion;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Closes the replica, which the polling is stopped
+     *
+     * @since 0.2
+     */
+    public void close() {
+        if (this.scheduler != null) this.scheduler.shutdownNow();
+    }
+
+    /**
+     * Puts the row in the columns, which replaces the row that has the same column anchor value
+     *
+     * @param columns the columns
+     * @param index the index
+     * @param row the values from the row
+     * @since 0.2
+     */
+    private void put(final Column[] columns, final Index index, final Object[] row) {
+        int position = index.get(row[this.model.anchor]);
+
+        if (position == -1) {
+            position = this.size++;
+            index.put(row[this.model.anchor], position);
+        }
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].ensure(position + 1);
+            columns[i].set(position, EntityModel.convert(row[i], this.model.fields[i].getType()));
+        }
+    }
+
+    /**
+     * Creates the object from the row, the lock must be held
+     *
+     * @param row the row
+     * @return the object
+     * @since 0.2
+     */
+    private T create(final int row) {
+        final Object[] values = new Object[this.columns.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = this.columns[i].get(row);
+        }
+
+        return this.klass.cast(this.model.create(this.db, values));
+    }
+
+    /**
+     * This represents a column from the replica, which keeps the values from the all rows in an array
+     *
+     * @since 0.2
+     */
+    private static abstract class Column {
+
+        /**
+         * This represents the key from a value that no row contains
+         * @since 0.2
+         */
+        static final Object ABSENT = new Object();
+
+        /**
+         * Creates the column from the field type
+         *
+         * @param type the field type
+         * @return the column
+         * @since 0.2
+         */
+        static Column of(final Class<?> type) {
+            if (type == int.class || type == Integer.class || type == short.class || type == Short.class || type == byte.class || type == Byte.class || type == boolean.class || type == Boolean.class || type == char.class || type == Character.class) {
+                return new IntColumn(type);
+            }
+
+            if (type == long.class || type == Long.class) return new LongColumn();
+            if (type == double.class || type == Double.class || type == float.class || type == Float.class) return new DoubleColumn(type);
+            if (type == String.class) return new StringColumn();
+
+            return new ObjectColumn();
+        }
+
+        /**
+         * These represents the nulls from the rows, that are used by the primitive columns
+         * @since 0.2
+         */
+        final BitSet nulls = new BitSet();
+
+        /**
+         * Ensures that the column has the capacity to the rows
+         *
+         * @param capacity the quantity of rows
+         * @since 0.2
+         */
+        abstract void ensure(int capacity);
+
+        /**
+         * Sets the value in the row
+         *
+         * @param row the row
+         * @param value the value
+         * @since 0.2
+         */
+        abstract void set(int row, Object value);
+
+        /**
+         * Returns the value from the row
+         *
+         * @param row the row
+         * @return the value
+         * @since 0.2
+         */
+        abstract Object get(int row);
+
+        /**
+         * Returns the key that is compared to the rows by the matches method, or absent if no row can contain the value
+         *
+         * @param value the value
+         * @return the key
+         * @since 0.2
+         */
+        Object key(final Object value) {
+            return value;
+        }
+
+        /**
+         * Returns if the row contains the key
+         *
+         * @param row the row
+         * @param key the key that is returned by the key method
+         * @return true if the row contains the key, otherwise false
+         * @since 0.2
+         */
+        boolean matches(final int row, final Object key) {
+            final Object value = this.get(row);
+            return key == null ? value == null : key.equals(value);
+        }
+
+        /**
+         * Returns if the number from the row is between the minimum and maximum, inclusive
+         *
+         * @param row the row
+         * @param minimum the minimum
+         * @param maximum the maximum
+         * @return true if the number is between the minimum and maximum, otherwise false
+         * @since 0.2
+         */
+        boolean between(final int row, final Number minimum, final Number maximum) {
+            throw new IllegalArgumentException("column is not a number column");
+        }
+
+        /**
+         * Returns the integral value from the number, or absent if the number has a fraction or is out of the range from
+         * the long numbers, then the number is never truncated or wrapped to other value
+         *
+         * @param number the number
+         * @return the long value, or absent
+         * @since 0.2
+         */
+        static Object integral(final Number number) {
+            if (number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte || number instanceof AtomicInteger || number instanceof AtomicLong) {
+                return number.longValue();
+            }
+
+            if (number instanceof BigInteger) {
+                return ((BigInteger) number).bitLength() < 64 ? (Object) number.longValue() : ABSENT;
+            }
+
+            if (number instanceof BigDecimal) {
+                try {
+                    return ((BigDecimal) number).longValueExact();
+                } catch (ArithmeticException e) {
+                    return ABSENT;
+                }
+            }
+
+            // @Note The 2^63 is exactly a double, which is the first value that is out of the range from the long numbers
+            final double value = number.doubleValue();
+            if (value != Math.rint(value) || value < -0x1p63 || value >= 0x1p63) return ABSENT;
+            return (long) value;
+        }
+
+        /**
+         * Returns the capacity that fits the quantity of rows
+         *
+         * @param length the current capacity
+         * @param capacity the quantity of rows
+         * @return the new capacity
+         * @since 0.2
+         */
+        static int grow(final int length, final int capacity) {
+            return Math.max(capacity, Math.max(16, length + (length >> 1)));
+        }
+    }
+
+    /**
+     * This represents the column from the integer numbers, the booleans and the characters
+     *
+     * @since 0.2
+     */
+    private static final class IntColumn extends Column {
+
+        private final Class<?> type;
+        private int[] values = new int[0];
+
+        IntColumn(final Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        void ensure(final int capacity) {
+            if (capacity > this.values.length) this.values = Arrays.copyOf(this.values, grow(this.values.length, capacity));
+        }
+
+        @Override
+        void set(final int row, final Object value) {
+            this.nulls.set(row, value == null);
+            this.values[row] = value == null ? 0 : value instanceof Boolean ? ((Boolean) value ? 1 : 0) : value instanceof Character ? (Character) value : ((Number) value).intValue();
+        }
+
+        @Override
+        Object get(final int row) {
+            if (this.nulls.get(row)) return null;
+            if (this.type == char.class || this.type == Character.class) return (char) this.values[row];
+            return EntityModel.convert(this.values[row], this.type);
+        }
+
+        @Override
+        Object key(final Object value) {
+            if (value == null) return null;
+            if (value instanceof Boolean) return (Boolean) value ? 1 : 0;
+            if (value instanceof Character) return (int) (Character) value;
+            if (!(value instanceof Number)) return ABSENT;
+
+            // @Note The numbers that have a fraction or are out of the range from the integer numbers are not in any row
+            final Object integral = integral((Number) value);
+            if (integral == ABSENT) return ABSENT;
+
+            final long number = (Long) integral;
+            return number < Integer.MIN_VALUE || number > Integer.MAX_VALUE ? ABSENT : (Object) (int) number;
+        }
+
+        @Override
+        boolean matches(final int row, final Object key) {
+            if (key == null) return this.nulls.get(row);
+            return this.values[row] == (Integer) key && !this.nulls.get(row);
+        }
+
+        @Override
+        boolean between(final int row, final Number minimum, final Number maximum) {
+            final int value = this.values[row];
+            return !this.nulls.get(row) && value >= minimum.doubleValue() && value <= maximum.doubleValue();
+        }
+    }
+
+    /**
+     * This represents the column from the long numbers
+     *
+     * @since 0.2
+     */
+    private static final class LongColumn extends Column {
+
+        private long[] values = new long[0];
+
+        @Override
+        void ensure(final int capacity) {
+            if (capacity > this.values.length) this.values = Arrays.copyOf(this.values, grow(this.values.length, capacity));
+        }
+
+        @Override
+        void set(final int row, final Object value) {
+            this.nulls.set(row, value == null);
+            this.values[row] = value == null ? 0 : ((Number) value).longValue();
+        }
+
+        @Override
+        Object get(final int row) {
+            return this.nulls.get(row) ? null : this.values[row];
+        }
+
+        @Override
+        Object key(final Object value) {
+            if (value == null) return null;
+            return value instanceof Number ? integral((Number) value) : ABSENT;
+        }
+
+        @Override
+        boolean matches(final int row, final Object key) {
+            if (key == null) return this.nulls.get(row);
+            return this.values[row] == (Long) key && !this.nulls.get(row);
+        }
+
+        @Override
+        boolean between(final int row, final Number minimum, final Number maximum) {
+            final long value = this.values[row];
+            return !this.nulls.get(row) && value >= minimum.longValue() && value <= maximum.longValue();
+        }
+    }
+
+    /**
+     * This represents the column from the decimal numbers
+     *
+     * @since 0.2
+     */
+    private static final class DoubleColumn extends Column {
+
+        private final Class<?> type;
+        private double[] values = new double[0];
+
+        DoubleColumn(final Class<?> type) {
+            this.type = type;
+        }
+
+        @Override
+        void ensure(final int capacity) {
+            if (capacity > this.values.length) this.values = Arrays.copyOf(this.values, grow(this.values.length, capacity));
+        }
+
+        @Override
+        void set(final int row, final Object value) {
+            this.nulls.set(row, value == null);
+            this.values[row] = value == null ? 0 : ((Number) value).doubleValue();
+        }
+
+        @Override
+        Object get(final int row) {
+            return this.nulls.get(row) ? null : EntityModel.convert(this.values[row], this.type);
+        }
+
+        @Override
+        Object key(final Object value) {
+            if (value == null) return null;
+            return value instanceof Number ? ((Number) value).doubleValue() : ABSENT;
+        }
+
+        @Override
+        boolean matches(final int row, final Object key) {
+            if (key == null) return this.nulls.get(row);
+            return this.values[row] == (Double) key && !this.nulls.get(row);
+        }
+
+        @Override
+        boolean between(final int row, final Number minimum, final Number maximum) {
+            final double value = this.values[row];
+            return !this.nulls.get(row) && value >= minimum.doubleValue() && value <= maximum.doubleValue();
+        }
+    }
+
+    /**
+     * This represents the column from the texts, which each distinct text is kept once in the dictionary and the rows
+     * keep the code from the text
+     *
+     * @since 0.2
+     */
+    private static final class StringColumn extends Column {
+
+        private int[] codes = new int[0];
+        private final List<String> dictionary = new ArrayList<>();
+        private final Map<String, Integer> dictionaryCodes = new HashMap<>();
+
+        @Override
+        void ensure(final int capacity) {
+            if (capacity > this.codes.length) this.codes = Arrays.copyOf(this.codes, grow(this.codes.length, capacity));
+        }
+
+        @Override
+        void set(final int row, final Object value) {
+            if (value == null) {
+                this.codes[row] = -1;
+                return;
+            }
+
+            final String text = value.toString();
+            Integer code = this.dictionaryCodes.get(text);
+
+            if (code == null) {
+                code = this.dictionary.size();
+                this.dictionary.add(text);
+                this.dictionaryCodes.put(text, code);
+            }
+
+            this.codes[row] = code;
+        }
+
+        @Override
+        Object get(final int row) {
+            final int code = this.codes[row];
+            return code == -1 ? null : this.dictionary.get(code);
+        }
+
+        @Override
+        Object key(final Object value) {
+            if (value == null) return -1;
+
+            final Integer code = this.dictionaryCodes.get(value.toString());
+            return code == null ? ABSENT : code;
+        }
+
+        @Override
+        boolean matches(final int row, final Object key) {
+            return this.codes[row] == (Integer) key;
+        }
+    }
+
+    /**
+     * This represents the column from the other types
+     *
+     * @since 0.2
+     */
+    private static final class ObjectColumn extends Column {
+
+        private Object[] values = new Object[0];
+
+        @Override
+        void ensure(final int capacity) {
+            if (capacity > this.values.length) this.values = Arrays.copyOf(this.values, grow(this.values.length, capacity));
+        }
+
+        @Override
+        void set(final int row, final Object value) {
+            this.values[row] = copy(value);
+        }
+
+        @Override
+        Object get(final int row) {
+            return copy(this.values[row]);
+        }
+
+        /**
+         * Returns a copy from the dates and the timestamps, that are mutable, then the objects that are read not change
+         * the values from the replica and the replica not shares the values from the objects that are put
+         *
+         * @param value the value
+         * @return the copy from the value, or the value if it is not mutable
+         * @since 0.2
+         */
+        private static Object copy(final Object value) {
+            return value instanceof Date ? ((Date) value).clone() : value;
+        }
+    }
+
+    /**
+     * This represents the index from the column anchor values to the rows
+     *
+     * @since 0.2
+     */
+    private static abstract class Index {
+
+        /**
+         * Creates the index from the column anchor type, the integer numbers are kept in an open-addressing table
+         * without an object for each row
+         *
+         * @param type the column anchor type
+         * @return the index
+         * @since 0.2
+         */
+        static Index of(final Class<?> type) {
+            if (type == int.class || type == Integer.class || type == long.class || type == Long.class || type == short.class || type == Short.class || type == byte.class || type == Byte.class) {
+                return new LongIndex();
+            }
+
+            return new ObjectIndex();
+        }
+
+        /**
+         * Returns the row from the column anchor value
+         *
+         * @param key the column anchor value
+         * @return the row, or -1 if no row contains the value
+         * @since 0.2
+         */
+        abstract int get(Object key);
+
+        /**
+         * Puts the row of the column anchor value
+         *
+         * @param key the column anchor value
+         * @param row the row
+         * @since 0.2
+         */
+        abstract void put(Object key, int row);
+    }
+
+    /**
+     * This represents the index from the integer column anchor values, by linear probing
+     *
+     * @since 0.2
+     */
+    private static final class LongIndex extends Index {
+
+        private long[] keys = new long[16];
+        private int[] rows = new int[16];
+        private int size;
+
+        {
+            Arrays.fill(this.rows, -1);
+        }
+
+        @Override
+        int get(final Object key) {
+            if (!(key instanceof Number)) return -1;
+
+            final Object integral = Column.integral((Number) key);
+            if (integral == Column.ABSENT) return -1;
+
+            final long value = (Long) integral;
+            final int mask = this.keys.length - 1;
+
+            for (int slot = hash(value) & mask; ; slot = (slot + 1) & mask) {
+                if (this.rows[slot] == -1) return -1;
+                if (this.keys[slot] == value) return this.rows[slot];
+            }
+        }
+
+        @Override
+        void put(final Object key, final int row) {
+            if ((this.size + 1) * 2 > this.keys.length) this.resize();
+            if (this.insert(((Number) key).longValue(), row)) this.size++;
+        }
+
+        private boolean insert(final long key, final int row) {
+            final int mask = this.keys.length - 1;
+
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                if (this.rows[slot] == -1) {
+                    this.keys[slot] = key;
+                    this.rows[slot] = row;
+                    return true;
+                }
+
+                if (this.keys[slot] == key) {
+                    this.rows[slot] = row;
+                    return false;
+                }
+            }
+        }
+
+        private void resize() {
+            final long[] keys = this.keys;
+            final int[] rows = this.rows;
+
+            this.keys = new long[keys.length * 2];
+            this.rows = new int[rows.length * 2];
+            Arrays.fill(this.rows, -1);
+
+            for (int i = 0; i < keys.length; i++) {
+                if (rows[i] != -1) this.insert(keys[i], rows[i]);
+            }
+        }
+
+        private static int hash(final long key) {
+            final long h = key * 0x9E3779B97F4A7C15L;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /**
+     * This represents the index from the other column anchor values
+     *
+     * @since 0.2
+     */
+    private static final class ObjectIndex extends Index {
+
+        private final Map<Object, Integer> rows = new HashMap<>();
+
+        @Override
+        int get(final Object key) {
+            final Integer row = this.rows.get(key);
+            return row == null ? -1 : row;
+        }
+
+        @Override
+        void put(final Object key, final int row) {
+            this.rows.put(key, row);
+        }
+    }
+}
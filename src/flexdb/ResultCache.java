@@ -0,0 +1,454 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This represents the cache from the results of the read queries from a flexible database, which the results are kept
+ * by the normalized statement with the bound values, and each result is tagged with the table name that the query
+ * reads and with the known table names that the query mentions, like the tables from a join or a subquery, then the
+ * insert, update, delete and operations that change a table through the flexible database evict the results from this
+ * table, the cache has a maximum size and the results expire after the time to live, the rows are copied when they are
+ * put and get, then the callers can change them
+ *
+ * @author biologyiswell (19/10/2026 17:42)
+ * @since 0.2
+ */
+public class ResultCache {
+
+    /**
+     * This represents the maximum quantity of results that are kept
+     * @since 0.2
+     */
+    private final int maximumSize;
+
+    /**
+     * This represents the time to live in nanoseconds from the results
+     * @since 0.2
+     */
+    private final long timeToLive;
+
+    /**
+     * This represents the results by key, that is ordered by the access, which the result that is used less recently
+     * is removed when the cache is full
+     * @since 0.2
+     */
+    private final LinkedHashMap<Key, CachedResult> entries;
+
+    /**
+     * This represents the keys from the results by table name
+     * @since 0.2
+     */
+    private final Map<String, Set<Key>> tags = new HashMap<>();
+
+    /**
+     * This represents the generation from each known table name, that is increased when the table is changed, then a
+     * query that starts before a change not puts the stale result into the cache
+     * @since 0.2
+     */
+    private final Map<String, Long> generations = new HashMap<>();
+
+    /**
+     * Creates an instance from result cache
+     *
+     * @param maximumSize the maximum quantity of results that are kept
+     * @param timeToLive the time that a result is kept
+     * @param unit the time unit from time to live
+     * @since 0.2
+     */
+    public ResultCache(final int maximumSize, final long timeToLive, final TimeUnit unit) {
+        if (maximumSize <= 0) throw new IllegalArgumentException("maximum size must be bigger than 0");
+        if (unit == null) throw new NullPointerException("unit");
+
+        this.maximumSize = maximumSize;
+        this.timeToLive = unit.toNanos(timeToLive);
+        this.entries = new LinkedHashMap<Key, CachedResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, CachedResult> eldest) {
+                if (this.size() <= ResultCache.this.maximumSize) return false;
+
+                ResultCache.this.untag(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the quantity of results that are kept
+     *
+     * @return the quantity of results
+     * @since 0.2
+     */
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Evicts the results that are tagged with the table name
+     *
+     * @param table the table name, like is defined by the table annotation
+     * @since 0.2
+     */
+    public synchronized void invalidate(final String table) {
+        final String tag = table.toLowerCase(Locale.ROOT);
+        final Long generation = this.generations.get(tag);
+
+        this.generations.put(tag, generation == null ? 1 : generation + 1);
+
+        // @Note The table that is not known is not in the tags from the results that mention it, then the results
+        // that mention it are found by the statements
+        if (generation == null) {
+            final Iterator<Map.Entry<Key, CachedResult>> iterator = this.entries.entrySet().iterator();
+
+            while (iterator.hasNext()) {
+                final CachedResult entry = iterator.next().getValue();
+                if (!mentions(entry.key.sql.toLowerCase(Locale.ROOT), tag)) continue;
+
+                iterator.remove();
+                this.untag(entry);
+            }
+        }
+
+        final Set<Key> keys = this.tags.remove(tag);
+        if (keys == null) return;
+
+        for (final Key key : keys) {
+            final CachedResult entry = this.entries.remove(key);
+            if (entry != null) this.untag(entry);
+        }
+    }
+
+    /**
+     * Evicts the all results
+     *
+     * @since 0.2
+     */
+    public synchronized void invalidateAll() {
+        for (final Map.Entry<String, Long> entry : this.generations.entrySet()) {
+            entry.setValue(entry.getValue() + 1);
+        }
+
+        this.entries.clear();
+        this.tags.clear();
+    }
+
+    /**
+     * Evicts the results that are tagged with a table name that is mentioned by the statement, this is used to the
+     * operations that are executed like a statement without the class that represents the table
+     *
+     * @param sql the statement
+     * @since 0.2
+     */
+    synchronized void invalidateMentioned(final String sql) { // package-private
+        final String statement = sql.toLowerCase(Locale.ROOT);
+
+        // @Note The generations are increased from the all known tables that are mentioned, whether the table has
+        // results or not, then a query that gets the generation before this statement not puts the stale result
+        for (final Map.Entry<String, Long> entry : this.generations.entrySet()) {
+            final String tag = entry.getKey();
+
+            if (!mentions(statement, tag)) continue;
+
+            entry.setValue(entry.getValue() + 1);
+
+            final Set<Key> keys = this.tags.get(tag);
+            if (keys == null) continue;
+
+            for (final Key key : new ArrayList<>(keys)) {
+                final CachedResult removed = this.entries.remove(key);
+                if (removed != null) this.untag(removed);
+            }
+        }
+    }
+
+    /**
+     * Returns the generation from the table name and the known table names that the statement mentions, that must be
+     * get before the query is executed and given to the put method, the generation is changed when one of these tables
+     * is changed
+     *
+     * @param table the table name
+     * @param sql the statement
+     * @return the generation from the tables
+     * @since 0.2
+     */
+    synchronized long generation(final String table, final String sql) { // package-private
+        final String tag = table.toLowerCase(Locale.ROOT);
+
+        // @Note The table is known after its first query, then the statements that mention it increase the generation
+        if (!this.generations.containsKey(tag)) this.generations.put(tag, 0L);
+
+        return this.stamp(tag, sql.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the result from the statement with the bound values, or null if the result is not kept or is expired
+     *
+     * @param sql the statement
+     * @param values the bound values
+     * @return the result or null
+     * @since 0.2
+     */
+    synchronized List<Object[]> get(final String sql, final Object[] values) { // package-private
+        final Key key = new Key(sql, values);
+        final CachedResult entry = this.entries.get(key);
+
+        if (entry == null) return null;
+
+        // @Note This condition makes the check if the result is expired
+        if (System.nanoTime() - entry.expiresAt >= 0) {
+            this.entries.remove(key);
+            this.untag(entry);
+            return null;
+        }
+
+        return copy(entry.rows);
+    }
+
+    /**
+     * Puts the result from the statement with the bound values, if the table is changed after the generation is get
+     * the result is not put because it can be stale
+     *
+     * @param table the table name that the statement reads
+     * @param generation the generation from the table name that is get before the query is executed
+     * @param sql the statement
+     * @param values the bound values
+     * @param rows the result
+     * @since 0.2
+     */
+    synchronized void put(final String table, final long generation, final String sql, final Object[] values, final List<Object[]> rows) { // package-private
+        final String tag = table.toLowerCase(Locale.ROOT);
+        final String statement = sql.toLowerCase(Locale.ROOT);
+
+        if (!this.generations.containsKey(tag) || this.stamp(tag, statement) != generation) return;
+
+        // @Note The result is tagged with the table and with the known tables that the statement mentions
+        final List<String> mentioned = new ArrayList<>();
+        mentioned.add(tag);
+        for (final String other : this.generations.keySet()) {
+            if (!other.equals(tag) && mentions(statement, other)) mentioned.add(other);
+        }
+
+        final Key key = new Key(sql, values.clone());
+        final CachedResult entry = new CachedResult(key, mentioned.toArray(new String[mentioned.size()]), Collections.unmodifiableList(copy(rows)), System.nanoTime() + this.timeToLive);
+
+        final CachedResult previous = this.entries.put(key, entry);
+        if (previous != null) this.untag(previous);
+
+        for (final String name : entry.tags) {
+            Set<Key> keys = this.tags.get(name);
+            if (keys == null) {
+                keys = new HashSet<>();
+                this.tags.put(name, keys);
+            }
+            keys.add(key);
+        }
+    }
+
+    /**
+     * Returns the sum from the generations of the table and the known tables that the statement mentions, which the
+     * generations are only increased then the sum is changed when one of the generations is changed
+     *
+     * @param tag the table name in lower case
+     * @param statement the statement in lower case
+     * @return the sum from the generations
+     * @since 0.2
+     */
+    private long stamp(final String tag, final String statement) {
+        long stamp = 0;
+
+        for (final Map.Entry<String, Long> entry : this.generations.entrySet()) {
+            if (entry.getKey().equals(tag) || mentions(statement, entry.getKey())) stamp += entry.getValue();
+        }
+
+        return stamp;
+    }
+
+    /**
+     * Returns the copy from the rows, which the arrays from the rows are copied
+     *
+     * @param rows the rows
+     * @return the copy from the rows
+     * @since 0.2
+     */
+    private static List<Object[]> copy(final List<Object[]> rows) {
+        final List<Object[]> copy = new ArrayList<>(rows.size());
+        for (final Object[] row : rows) {
+            copy.add(row.clone());
+        }
+        return copy;
+    }
+
+    /**
+     * Removes the key from the entry of the tag index
+     *
+     * @param entry the entry
+     * @since 0.2
+     */
+    private void untag(final CachedResult entry) {
+        for (final String tag : entry.tags) {
+            final Set<Key> keys = this.tags.get(tag);
+            if (keys == null) continue;
+
+            keys.remove(entry.key);
+            if (keys.isEmpty()) this.tags.remove(tag);
+        }
+    }
+
+    /**
+     * Returns if the statement mentions the table name like a word, the statement and the table name must be in lower
+     * case
+     *
+     * @param statement the statement
+     * @param table the table name
+     * @return if the statement mentions the table name
+     * @since 0.2
+     */
+    private static boolean mentions(final String statement, final String table) {
+        int index = statement.indexOf(table);
+
+        while (index != -1) {
+            final int end = index + table.length();
+            final boolean startsWord = index == 0 || !isIdentifierPart(statement.charAt(index - 1));
+            final boolean endsWord = end == statement.length() || !isIdentifierPart(statement.charAt(end));
+
+            if (startsWord && endsWord) return true;
+
+            index = statement.indexOf(table, index + 1);
+        }
+
+        return false;
+    }
+
+    private static boolean isIdentifierPart(final char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    /**
+     * Normalizes the statement, which the sequences of whitespaces outside the quotes are replaced by a single space,
+     * then the statements that differ only by the formatting are the same key, the literals are kept like they are
+     *
+     * @param sql the statement
+     * @return the normalized statement
+     * @since 0.2
+     */
+    private static String normalize(final String sql) {
+        final StringBuilder sb = new StringBuilder(sql.length());
+        boolean whitespace = false;
+        char quote = 0;
+
+        for (int i = 0; i < sql.length(); i++) {
+            final char c = sql.charAt(i);
+
+            if (quote != 0) {
+                sb.append(c);
+
+                // @Note The backslash escapes the next character inside the string literals
+                if (c == '\\' && quote != '`' && i + 1 < sql.length()) {
+                    sb.append(sql.charAt(++i));
+                } else if (c == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+                whitespace = true;
+                continue;
+            }
+
+            if (whitespace && sb.length() > 0) sb.append(' ');
+
+            whitespace = false;
+            sb.append(c);
+
+            if (c == '\'' || c == '"' || c == '`') quote = c;
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * This represents the key from a result, that is the normalized statement with the bound values
+     *
+     * @since 0.2
+     */
+    private static final class Key {
+
+        private final String sql;
+        private final Object[] values;
+        private final int hash;
+
+        Key(final String sql, final Object[] values) {
+            this.sql = normalize(sql);
+            this.values = values;
+            this.hash = 31 * this.sql.hashCode() + Arrays.deepHashCode(values);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object object) {
+            if (this == object) return true;
+            if (!(object instanceof Key)) return false;
+
+            final Key other = (Key) object;
+            return this.hash == other.hash && this.sql.equals(other.sql) && Arrays.deepEquals(this.values, other.values);
+        }
+    }
+
+    /**
+     * This represents a result that is kept, with the tags and the expiration time
+     *
+     * @since 0.2
+     */
+    private static final class CachedResult {
+
+        private final Key key;
+        private final String[] tags;
+        private final List<Object[]> rows;
+        private final long expiresAt;
+
+        CachedResult(final Key key, final String[] tags, final List<Object[]> rows, final long expiresAt) {
+            this.key = key;
+            this.tags = tags;
+            this.rows = rows;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
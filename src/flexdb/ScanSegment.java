@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This represents a segment from the column anchor range that is scanned by the parallel scan, the segment is split
+ * in halves while the fork-join pool has idle workers, and while the segment is scanned the remaining range is split
+ * again if no task is queued, then the workers that finish a sparse segment steal the remaining range from the dense
+ * segments
+ *
+ * @author biologyiswell (19/10/2026 20:34)
+ * @since 0.2
+ */
+final class ScanSegment<T> extends RecursiveAction { // package-private
+
+    /**
+     * This represents the serial version from the class
+     * @since 0.2
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * These represents the flexible database, the model from the class, the class and the consumer from the rows
+     * @since 0.2
+     */
+    private final FlexDb db;
+    private final EntityModel model;
+    private final Class<T> klass;
+    private final RowConsumer<? super T> consumer;
+
+    /**
+     * This represents the query that reads a page from the segment, which the arguments are the lower column anchor
+     * value, the higher column anchor value and the page size
+     * @since 0.2
+     */
+    private final String query;
+
+    /**
+     * This represents the quantity of rows from each page, and the minimum range that is split
+     * @since 0.2
+     */
+    private final int pageSize;
+
+    /**
+     * These represents the lower and higher column anchor values from the segment, inclusive
+     * @since 0.2
+     */
+    private long low;
+    private long high;
+
+    /**
+     * Creates an instance from scan segment
+     *
+     * @param db the flexible database
+     * @param model the model from the class
+     * @param klass the class
+     * @param consumer the consumer from the rows
+     * @param query the query that reads a page from the segment
+     * @param pageSize the quantity of rows from each page
+     * @param low the lower column anchor value, inclusive
+     * @param high the higher column anchor value, inclusive
+     * @since 0.2
+     */
+    ScanSegment(final FlexDb db, final EntityModel model, final Class<T> klass, final RowConsumer<? super T> consumer, final String query, final int pageSize, final long low, final long high) { // package-private
+        this.db = db;
+        this.model = model;
+        this.klass = klass;
+        this.consumer = consumer;
+        this.query = query;
+        this.pageSize = pageSize;
+        this.low = low;
+        this.high = high;
+    }
+
+    @Override
+    protected void compute() {
+        final List<ScanSegment<T>> forks = new ArrayList<>();
+
+        // @Note This loop splits the segment before the scan while there are workers without tasks
+        while (this.splittable() && getSurplusQueuedTaskCount() < 1) {
+            forks.add(this.split());
+        }
+
+        final String table = this.model.table.name();
+        final AdmissionController admission = this.db.admission();
+        if (admission != null) admission.enter(table);
+
+        try {
+            final Connection connection = this.db.acquire();
+
+            try {
+                final PreparedStatement statement = this.db.prepare(connection, this.query);
+
+                try {
+                    while (this.low <= this.high) {
+                        final int count = this.page(statement);
+                        if (count < this.pageSize) break;
+
+                        // @Note This condition gives the remaining range to be stolen if no task is queued
+                        if (this.splittable() && getSurplusQueuedTaskCount() < 1) {
+                            forks.add(this.split());
+                        }
+                    }
+                } finally {
+                    this.db.close(statement);
+                }
+            } finally {
+                this.db.release(connection);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("segment from the table \"" + this.model.qualifiedName + "\" can not be scanned at " + this.low, e);
+        } finally {
+            if (admission != null) admission.leave(table);
+        }
+
+        // @Note The forked segments are joined after the connection is released, then the joined segments that are
+        // executed by this worker acquire their own connection
+        for (final ScanSegment<T> fork : forks) {
+            fork.join();
+        }
+    }
+
+    /**
+     * Reads the next page from the segment and gives the rows to the consumer, then the lower column anchor value is
+     * moved after the last row
+     *
+     * @param statement the prepared statement from the query
+     * @return the quantity of rows that are read
+     * @throws SQLException this exception is thrown if the page can not be read
+     * @since 0.2
+     */
+    private int page(final PreparedStatement statement) throws SQLException {
+        final Object[] values = new Object[] {this.low, this.high, this.pageSize};
+        this.db.bind(statement, values);
+
+        final StatementEvent event = this.db.before(StatementEvent.Operation.QUERY, this.model.table.name(), this.query, values, values.length, 1);
+
+        int count = 0;
+        try (final ResultSet resultSet = statement.executeQuery()) {
+            final int columnCount = resultSet.getMetaData().getColumnCount();
+
+            while (resultSet.next()) {
+                final Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = resultSet.getObject(i + 1);
+                }
+
+                this.low = ((Number) row[this.model.anchor]).longValue() + 1;
+                this.consumer.accept(this.klass.cast(this.model.create(this.db, row)));
+                count++;
+            }
+        } catch (SQLException e) {
+            this.db.error(event, e);
+            throw e;
+        }
+
+        this.db.after(event, count);
+        return count;
+    }
+
+    /**
+     * Returns if the remaining range from the segment is bigger than two pages
+     *
+     * @return true if the segment can be split, otherwise false
+     * @since 0.2
+     */
+    private boolean splittable() {
+        return this.high - this.low > 2L * this.pageSize;
+    }
+
+    /**
+     * Splits the higher half from the segment to a new segment that is forked
+     *
+     * @return the forked segment
+     * @since 0.2
+     */
+    private ScanSegment<T> split() {
+        final long middle = this.low + (this.high - this.low) / 2;
+        final ScanSegment<T> fork = new ScanSegment<>(this.db, this.model, this.klass, this.consumer, this.query, this.pageSize, middle + 1, this.high);
+        this.high = middle;
+        fork.fork();
+        return fork;
+    }
+}
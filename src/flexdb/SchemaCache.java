@@ -0,0 +1,168 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This represents the cache from the schema fingerprints, that is kept in a local file, which each table has the
+ * fingerprint from the model of the class and the digest from the columns of the table in the server after the last
+ * check, then the table check that finds the same fingerprint and the same digest skips the comparison and the changes
+ * from the table, that makes the check a single metadata query
+ *
+ * @author biologyiswell (20/10/2026 02:14)
+ * @since 0.2
+ */
+public class SchemaCache {
+
+    /**
+     * This represents the file where the fingerprints are kept
+     * @since 0.2
+     */
+    private final Path file;
+
+    /**
+     * This represents the entries by qualified table name, which each entry has the model fingerprint and the server
+     * digest
+     * @since 0.2
+     */
+    private final Map<String, String[]> entries = new HashMap<>();
+
+    /**
+     * Creates an instance of schema cache, the fingerprints that are kept in the file are read
+     *
+     * @param file the file where the fingerprints are kept, that is created at the first store if not exists
+     * @throws IOException this exception is thrown if the file exists and can not be read
+     * @since 0.2
+     */
+    public SchemaCache(final Path file) throws IOException {
+        if (file == null) throw new NullPointerException("file");
+
+        this.file = file;
+
+        if (!Files.exists(file)) return;
+
+        try (final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] parts = line.split("\t");
+
+                // @Note The lines that are not complete, are ignored, then the tables from them are checked again
+                if (parts.length != 3) continue;
+
+                this.entries.put(parts[0], new String[] { parts[1], parts[2] });
+            }
+        }
+    }
+
+    /**
+     * Returns the file where the fingerprints are kept
+     *
+     * @return the file
+     * @since 0.2
+     */
+    public Path getFile() {
+        return this.file;
+    }
+
+    /**
+     * Returns if the table has the same model fingerprint and the same server digest from the last check
+     *
+     * @param table the qualified table name
+     * @param fingerprint the model fingerprint
+     * @param digest the server digest
+     * @return true if the table not needs to be checked
+     * @since 0.2
+     */
+    synchronized boolean matches(final String table, final String fingerprint, final String digest) { // package-private
+        final String[] entry = this.entries.get(table);
+        return entry != null && entry[0].equals(fingerprint) && entry[1].equals(digest);
+    }
+
+    /**
+     * Stores the model fingerprint and the server digest from the table, and writes the file, the file is replaced
+     * atomically, then a failure never leaves a partial file
+     *
+     * @param table the qualified table name
+     * @param fingerprint the model fingerprint
+     * @param digest the server digest
+     * @since 0.2
+     */
+    synchronized void store(final String table, final String fingerprint, final String digest) { // package-private
+        final String[] entry = this.entries.get(table);
+        if (entry != null && entry[0].equals(fingerprint) && entry[1].equals(digest)) return;
+
+        this.entries.put(table, new String[] { fingerprint, digest });
+        this.write();
+    }
+
+    /**
+     * Removes the fingerprints from all tables, then the tables are checked again
+     *
+     * @since 0.2
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.write();
+    }
+
+    /**
+     * Writes the entries to the file
+     *
+     * @since 0.2
+     */
+    private void write() {
+        try {
+            final Path parent = this.file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+
+            final Path temporary = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+
+            try (final BufferedWriter writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                for (final Map.Entry<String, String[]> entry : this.entries.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('\t');
+                    writer.write(entry.getValue()[0]);
+                    writer.write('\t');
+                    writer.write(entry.getValue()[1]);
+                    writer.newLine();
+                }
+            }
+
+            Files.move(temporary, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // @Note The cache is only an optimization, then the failure to write the file makes the tables checked
+            // again at the next start
+            e.printStackTrace();
+        }
+    }
+}
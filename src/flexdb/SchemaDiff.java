@@ -0,0 +1,454 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.annotation.Column;
+import flexdb.annotation.Data;
+import flexdb.annotation.Table;
+import flexdb.util.SqlType;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This represents the comparison from the columns of a class with the columns of its table, that are read from the
+ * INFORMATION_SCHEMA, which finds the columns that are added, dropped and changed by type, size or nullability, and
+ * creates the plan with a combined ALTER TABLE statement, that uses the online algorithm that the server allows to the
+ * changes
+ *
+ * @author biologyiswell (20/10/2026 01:06)
+ * @since 0.2
+ */
+final class SchemaDiff { // package-private
+
+    /**
+     * These represents the data types from the text and blob families, which the server chooses the smallest type from
+     * the family that fits the size from the column
+     * @since 0.2
+     */
+    private static final List<String> TEXTS = Arrays.asList("tinytext", "text", "mediumtext", "longtext");
+    private static final List<String> BLOBS = Arrays.asList("tinyblob", "blob", "mediumblob", "longblob");
+
+    /**
+     * This represents the queries that read the columns and the indexed columns from the table
+     * @since 0.2
+     */
+    private static final String COLUMNS_QUERY = "SELECT COLUMN_NAME, DATA_TYPE, CHARACTER_MAXIMUM_LENGTH, CHARACTER_OCTET_LENGTH, NUMERIC_PRECISION, IS_NULLABLE FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? ORDER BY ORDINAL_POSITION";
+    private static final String INDEXES_QUERY = "SELECT DISTINCT COLUMN_NAME FROM INFORMATION_SCHEMA.STATISTICS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ?";
+
+    /**
+     * This represents the query that reads the column definitions from the table to the server digest
+     * @since 0.2
+     */
+    private static final String DIGEST_QUERY = "SELECT COLUMN_NAME, COLUMN_TYPE, IS_NULLABLE FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? ORDER BY ORDINAL_POSITION";
+
+    /**
+     * This represents the version from the comparison, that is part of the model fingerprint, then the fingerprints
+     * from a previous comparison are not matched when the comparison changes
+     * @since 0.2
+     */
+    private static final int VERSION = 1;
+
+    /**
+     * This represents the hexadecimal digits from the fingerprints
+     * @since 0.2
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Creates the plan from the table
+     *
+     * @param db the flexible database that creates the CREATE TABLE statement
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @param data the data annotation
+     * @param table the table annotation
+     * @param connection the connection where the schema is read
+     * @return the plan
+     * @throws SQLException this exception is thrown if the schema can not be read
+     * @since 0.2
+     */
+    static SchemaPlan plan(final FlexDb db, final Class<?> klass, final Data data, final Table table, final Connection connection) throws SQLException { // package-private
+        final EntityModel model = EntityModel.of(klass);
+        final Map<String, ServerColumn> existing = new LinkedHashMap<>();
+        final Set<String> indexed = new HashSet<>();
+
+        try (final PreparedStatement statement = connection.prepareStatement(COLUMNS_QUERY)) {
+            statement.setString(1, data.name());
+            statement.setString(2, table.name());
+
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    final ServerColumn column = new ServerColumn(resultSet);
+                    existing.put(column.name.toLowerCase(Locale.ROOT), column);
+                }
+            }
+        }
+
+        // @Note The table not exists, then the plan creates the table
+        if (existing.isEmpty()) {
+            final String create = db.createTableStatement(klass, data, table);
+            return new SchemaPlan(model.qualifiedName, true, Arrays.asList("create table " + model.qualifiedName), null, create, create);
+        }
+
+        try (final PreparedStatement statement = connection.prepareStatement(INDEXES_QUERY)) {
+            statement.setString(1, data.name());
+            statement.setString(2, table.name());
+
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    indexed.add(resultSet.getString(1).toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        final ServerVersion version = ServerVersion.of(connection);
+        final List<String> clauses = new ArrayList<>();
+        final List<String> changes = new ArrayList<>();
+        SchemaPlan.Algorithm algorithm = SchemaPlan.Algorithm.INSTANT;
+
+        for (final Column column : model.columns) {
+            final ServerColumn current = existing.remove(column.name().toLowerCase(Locale.ROOT));
+
+            if (current == null) {
+                clauses.add("ADD COLUMN " + definition(column));
+                changes.add("add column " + column.name());
+
+                // @Note The columns are added at the end from the table, that the server can add instantly
+                algorithm = max(algorithm, version.instantAdd ? SchemaPlan.Algorithm.INSTANT : SchemaPlan.Algorithm.INPLACE);
+                continue;
+            }
+
+            final SchemaPlan.Algorithm change = compare(column, current, changes);
+            if (change == null) continue;
+
+            clauses.add("MODIFY COLUMN " + definition(column));
+            algorithm = max(algorithm, change);
+        }
+
+        for (final ServerColumn current : existing.values()) {
+            clauses.add("DROP COLUMN " + current.name);
+            changes.add("drop column " + current.name);
+
+            algorithm = max(algorithm, version.instantDrop && !indexed.contains(current.name.toLowerCase(Locale.ROOT)) ? SchemaPlan.Algorithm.INSTANT : SchemaPlan.Algorithm.INPLACE);
+        }
+
+        if (clauses.isEmpty()) return new SchemaPlan(model.qualifiedName, false, changes, null, null, null);
+
+        final StringBuilder sb = new StringBuilder("ALTER TABLE ").append(model.qualifiedName).append(' ');
+        for (int i = 0; i < clauses.size(); i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(clauses.get(i));
+        }
+
+        final String fallback = sb.toString();
+
+        // @Note The servers before 5.6 have not the online changes
+        if (!version.online) return new SchemaPlan(model.qualifiedName, false, changes, null, fallback, fallback);
+
+        switch (algorithm) {
+            case INSTANT: sb.append(", ALGORITHM=INSTANT"); break;
+            case INPLACE: sb.append(", ALGORITHM=INPLACE, LOCK=NONE"); break;
+            default: sb.append(", ALGORITHM=COPY, LOCK=SHARED");
+        }
+
+        return new SchemaPlan(model.qualifiedName, false, changes, algorithm, sb.toString(), fallback);
+    }
+
+    /**
+     * Returns the fingerprint from the model of the class, that contains the database name, table name and the name,
+     * type, size and nullability from each column
+     *
+     * @param klass the class that contains the data annotation, table annotation and column annotations
+     * @return the model fingerprint
+     * @since 0.2
+     */
+    static String fingerprint(final Class<?> klass) { // package-private
+        final EntityModel model = EntityModel.of(klass);
+        final StringBuilder sb = new StringBuilder().append(VERSION).append('|').append(model.qualifiedName);
+
+        for (final Column column : model.columns) {
+            sb.append('|').append(definition(column));
+        }
+
+        return sha256(sb.toString());
+    }
+
+    /**
+     * Returns the digest from the columns of the table in the server, that is read by a single metadata query
+     *
+     * @param data the data annotation
+     * @param table the table annotation
+     * @param connection the connection where the columns are read
+     * @return the server digest
+     * @throws SQLException this exception is thrown if the columns can not be read
+     * @since 0.2
+     */
+    static String digest(final Data data, final Table table, final Connection connection) throws SQLException { // package-private
+        final StringBuilder sb = new StringBuilder();
+
+        try (final PreparedStatement statement = connection.prepareStatement(DIGEST_QUERY)) {
+            statement.setString(1, data.name());
+            statement.setString(2, table.name());
+
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    sb.append(resultSet.getString(1)).append(' ').append(resultSet.getString(2)).append(' ').append(resultSet.getString(3)).append('|');
+                }
+            }
+        }
+
+        return sha256(sb.toString());
+    }
+
+    /**
+     * Returns the hexadecimal SHA-256 from the text
+     *
+     * @param text the text
+     * @return the hexadecimal digest
+     * @since 0.2
+     */
+    private static String sha256(final String text) {
+        final byte[] bytes;
+        try {
+            bytes = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // @Note Every platform has the SHA-256
+            throw new IllegalStateException(e);
+        }
+
+        final StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (final byte b : bytes) {
+            sb.append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Compares the column from the class with the column from the table, and adds the descriptions from the changes
+     *
+     * @param column the column from the class
+     * @param current the column from the table
+     * @param changes the descriptions from the changes
+     * @return the algorithm that the changes need, or null if the column has no changes
+     * @since 0.2
+     */
+    private static SchemaPlan.Algorithm compare(final Column column, final ServerColumn current, final List<String> changes) {
+        final SqlType type = column.type();
+        final int size = column.size();
+        final String expected = dataType(type, size);
+        SchemaPlan.Algorithm algorithm = null;
+
+        final boolean family = size > 0 && (type == SqlType.TEXT || type == SqlType.BLOB);
+        final boolean typeMatches = family
+                ? (type == SqlType.TEXT ? TEXTS : BLOBS).contains(current.dataType) && current.octetLength >= size
+                : expected.equals(current.dataType);
+
+        if (!typeMatches) {
+            changes.add("change column " + column.name() + " type from " + current.dataType + " to " + expected + (size > 0 ? "(" + size + ")" : ""));
+            algorithm = SchemaPlan.Algorithm.COPY;
+        } else {
+            final long expectedSize;
+            final long currentSize;
+
+            switch (type) {
+                case CHAR:
+                case BINARY:
+                    expectedSize = size > 0 ? size : 1;
+                    currentSize = current.length;
+                    break;
+                case VARCHAR:
+                case VARBINARY:
+                    expectedSize = size;
+                    currentSize = current.length;
+                    break;
+                case BIT:
+                    expectedSize = size > 0 ? size : 1;
+                    currentSize = current.precision;
+                    break;
+                case DECIMAL:
+                    expectedSize = size > 0 ? size : 10;
+                    currentSize = current.precision;
+                    break;
+                default:
+                    expectedSize = currentSize = 0;
+            }
+
+            if (expectedSize != currentSize) {
+                changes.add("change column " + column.name() + " size from " + currentSize + " to " + expectedSize);
+
+                // @Note The variable-length column that grows and keeps the quantity of bytes from its length prefix
+                // is changed in place without a copy
+                final long bytesPerChar = current.length > 0 ? Math.max(1, current.octetLength / current.length) : 1;
+                final boolean samePrefix = (current.octetLength <= 255) == (expectedSize * bytesPerChar <= 255);
+                algorithm = (type == SqlType.VARCHAR || type == SqlType.VARBINARY) && expectedSize > currentSize && samePrefix ? SchemaPlan.Algorithm.INPLACE : SchemaPlan.Algorithm.COPY;
+            }
+        }
+
+        if (column.nonNull() == current.nullable) {
+            changes.add("change column " + column.name() + " to " + (column.nonNull() ? "NOT NULL" : "NULL"));
+            algorithm = max(algorithm == null ? SchemaPlan.Algorithm.INPLACE : algorithm, SchemaPlan.Algorithm.INPLACE);
+        }
+
+        return algorithm;
+    }
+
+    /**
+     * Returns the column definition from the CREATE TABLE and ALTER TABLE statements
+     *
+     * @param column the column
+     * @return the column definition
+     * @since 0.2
+     */
+    static String definition(final Column column) { // package-private
+        final StringBuilder sb = new StringBuilder(column.name()).append(' ').append(column.type().name());
+        if (column.size() > 0) sb.append('(').append(column.size()).append(')');
+        if (column.nonNull()) sb.append(" NOT NULL");
+        return sb.toString();
+    }
+
+    /**
+     * Returns the data type that the server reports to the column type
+     *
+     * @param type the column type
+     * @param size the column size
+     * @return the data type
+     * @since 0.2
+     */
+    private static String dataType(final SqlType type, final int size) {
+        switch (type) {
+            case BOOLEAN: return "tinyint";
+            case INTEGER: return "int";
+            case FLOAT: return size > 24 ? "double" : "float";
+            default: return type.name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Returns the slowest from the algorithms
+     *
+     * @param first the first algorithm
+     * @param second the second algorithm
+     * @return the slowest algorithm
+     * @since 0.2
+     */
+    private static SchemaPlan.Algorithm max(final SchemaPlan.Algorithm first, final SchemaPlan.Algorithm second) {
+        return first.ordinal() >= second.ordinal() ? first : second;
+    }
+
+    /**
+     * This represents a column that is read from the INFORMATION_SCHEMA
+     *
+     * @since 0.2
+     */
+    private static final class ServerColumn {
+
+        final String name;
+        final String dataType;
+        final long length;
+        final long octetLength;
+        final long precision;
+        final boolean nullable;
+
+        ServerColumn(final ResultSet resultSet) throws SQLException {
+            this.name = resultSet.getString(1);
+            this.dataType = resultSet.getString(2).toLowerCase(Locale.ROOT);
+            this.length = resultSet.getLong(3);
+            this.octetLength = resultSet.getLong(4);
+            this.precision = resultSet.getLong(5);
+            this.nullable = "YES".equalsIgnoreCase(resultSet.getString(6));
+        }
+    }
+
+    /**
+     * This represents the version from the server and the online changes that it allows
+     *
+     * @since 0.2
+     */
+    private static final class ServerVersion {
+
+        /**
+         * These represents if the server allows the online changes, the instant add and the instant drop from columns
+         * @since 0.2
+         */
+        final boolean online;
+        final boolean instantAdd;
+        final boolean instantDrop;
+
+        private ServerVersion(final boolean online, final boolean instantAdd, final boolean instantDrop) {
+            this.online = online;
+            this.instantAdd = instantAdd;
+            this.instantDrop = instantDrop;
+        }
+
+        /**
+         * Reads the version from the server
+         *
+         * @param connection the connection
+         * @return the server version
+         * @throws SQLException this exception is thrown if the version can not be read
+         * @since 0.2
+         */
+        static ServerVersion of(final Connection connection) throws SQLException {
+            final String version;
+            try (final Statement statement = connection.createStatement(); final ResultSet resultSet = statement.executeQuery("SELECT VERSION()")) {
+                version = resultSet.next() ? resultSet.getString(1) : "";
+            }
+
+            final int[] numbers = new int[3];
+            int index = 0;
+            for (int i = 0; i < version.length() && index < 3; i++) {
+                final char c = version.charAt(i);
+
+                if (Character.isDigit(c)) {
+                    numbers[index] = numbers[index] * 10 + (c - '0');
+                } else if (c == '.') {
+                    index++;
+                } else {
+                    break;
+                }
+            }
+
+            final int number = numbers[0] * 10000 + numbers[1] * 100 + numbers[2];
+
+            // @Note The MariaDB adds the columns instantly since 10.3 and drops since 10.4
+            if (version.contains("MariaDB")) return new ServerVersion(true, number >= 100300, number >= 100400);
+
+            return new ServerVersion(number >= 50600, number >= 80012, number >= 80029);
+        }
+    }
+}
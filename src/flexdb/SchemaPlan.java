@@ -0,0 +1,181 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This represents the plan from the reconciliation of a table with its class, which contains the changes that are
+ * found between the columns from the class and the columns from the table, and the statement that applies them, the
+ * plan is created without changing the table then it can be reviewed before the table is checked
+ *
+ * @author biologyiswell (20/10/2026 00:58)
+ * @since 0.2
+ */
+public class SchemaPlan {
+
+    /**
+     * This enumeration contains the algorithms from the ALTER TABLE statement, from the fastest to the slowest
+     * @since 0.2
+     */
+    public enum Algorithm {
+
+        /**
+         * Indicates that the changes only change the metadata from the table, the table is not copied and not locked
+         * @since 0.2
+         */
+        INSTANT,
+
+        /**
+         * Indicates that the table is rebuilt in place, the table receives writes while it is rebuilt
+         * @since 0.2
+         */
+        INPLACE,
+
+        /**
+         * Indicates that the table is copied, the table does not receive writes while it is copied
+         * @since 0.2
+         */
+        COPY
+    }
+
+    /**
+     * This represents the qualified table name
+     * @since 0.2
+     */
+    private final String table;
+
+    /**
+     * These represents if the table is created, the changes that are found and the algorithm from the changes
+     * @since 0.2
+     */
+    private final boolean create;
+    private final List<String> changes;
+    private final Algorithm algorithm;
+
+    /**
+     * These represents the statement that applies the changes, and the statement without the algorithm and lock that
+     * is executed if the server refuses the algorithm
+     * @since 0.2
+     */
+    private final String statement;
+    private final String fallbackStatement;
+
+    /**
+     * Creates an instance from schema plan
+     *
+     * @param table the qualified table name
+     * @param create true if the table not exists and is created
+     * @param changes the changes that are found
+     * @param algorithm the algorithm, or null if the server does not support the online changes
+     * @param statement the statement that applies the changes, or null if the table has no changes
+     * @param fallbackStatement the statement without the algorithm and lock
+     * @since 0.2
+     */
+    SchemaPlan(final String table, final boolean create, final List<String> changes, final Algorithm algorithm, final String statement, final String fallbackStatement) { // package-private
+        this.table = table;
+        this.create = create;
+        this.changes = Collections.unmodifiableList(changes);
+        this.algorithm = algorithm;
+        this.statement = statement;
+        this.fallbackStatement = fallbackStatement;
+    }
+
+    /**
+     * Returns the qualified table name
+     *
+     * @return the table name
+     * @since 0.2
+     */
+    public String getTable() {
+        return this.table;
+    }
+
+    /**
+     * Returns if the table not exists and is created
+     *
+     * @return true if the table is created, otherwise false
+     * @since 0.2
+     */
+    public boolean isCreate() {
+        return this.create;
+    }
+
+    /**
+     * Returns the descriptions from the changes that are found between the class and the table
+     *
+     * @return the changes
+     * @since 0.2
+     */
+    public List<String> getChanges() {
+        return this.changes;
+    }
+
+    /**
+     * Returns the algorithm from the changes
+     *
+     * @return the algorithm, or null if the table is created, has no changes, or the server does not support the
+     *         online changes
+     * @since 0.2
+     */
+    public Algorithm getAlgorithm() {
+        return this.algorithm;
+    }
+
+    /**
+     * Returns the statement that applies the changes
+     *
+     * @return the statement, or null if the table has no changes
+     * @since 0.2
+     */
+    public String getStatement() {
+        return this.statement;
+    }
+
+    /**
+     * Returns the statement without the algorithm and lock, that is executed if the server refuses the algorithm
+     *
+     * @return the statement, or null if the table has no changes
+     * @since 0.2
+     */
+    String getFallbackStatement() { // package-private
+        return this.fallbackStatement;
+    }
+
+    /**
+     * Returns if the table has no changes
+     *
+     * @return true if the table has no changes, otherwise false
+     * @since 0.2
+     */
+    public boolean isEmpty() {
+        return this.statement == null;
+    }
+
+    @Override
+    public String toString() {
+        return "SchemaPlan{table=" + this.table + ", changes=" + this.changes + ", statement=" + this.statement + "}";
+    }
+}
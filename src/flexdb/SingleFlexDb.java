@@ -57,7 +57,7 @@ public class SingleFlexDb extends FlexDb {
      */
     SingleFlexDb(final String host, final String username, final String password, final int port) throws SQLException { // package-private
         super(host, username, password, port);
-        this.connection = DriverManager.getConnection("jdbc:mysql://" + host + ":" + port, username, password);
+        this.connection = DriverManager.getConnection(this.url(), username, password);
     }
 
     /**
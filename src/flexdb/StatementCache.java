@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This represents the cache from prepared statements of a single connection, which the statements are kept by the
+ * statement template and the statement that is used less recently is closed when the cache is full, this cache is not
+ * thread-safe and must be used by a single thread at time, that is the thread that uses the connection
+ *
+ * @author biologyiswell (19/10/2026 15:20)
+ * @since 0.2
+ */
+class StatementCache { // package-private
+
+    /**
+     * This represents the connection where the statements are prepared
+     * @since 0.2
+     */
+    private final Connection connection;
+
+    /**
+     * This represents the map from statement templates to prepared statements, that is ordered by the access
+     * @since 0.2
+     */
+    private final LinkedHashMap<String, PreparedStatement> statements;
+
+    /**
+     * Creates an instance from statement cache
+     *
+     * @param connection the connection where the statements are prepared
+     * @param maximumSize the maximum quantity of statements that are kept
+     * @since 0.2
+     */
+    StatementCache(final Connection connection, final int maximumSize) {
+        this.connection = connection;
+        this.statements = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, PreparedStatement> eldest) {
+                if (this.size() <= maximumSize) return false;
+
+                StatementCache.closeQuietly(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Returns the prepared statement from the statement template, if the statement is not cached it is prepared
+     *
+     * @param sql the statement template
+     * @return the prepared statement
+     * @throws SQLException this exception is thrown if the statement can not be prepared
+     * @since 0.2
+     */
+    PreparedStatement get(final String sql) throws SQLException {
+        PreparedStatement statement = this.statements.get(sql);
+
+        if (statement == null || statement.isClosed()) {
+            statement = this.connection.prepareStatement(sql);
+            this.statements.put(sql, statement);
+        }
+
+        return statement;
+    }
+
+    /**
+     * Closes the all prepared statements that are cached
+     *
+     * @since 0.2
+     */
+    void clear() {
+        final Iterator<PreparedStatement> iterator = this.statements.values().iterator();
+
+        while (iterator.hasNext()) {
+            StatementCache.closeQuietly(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Closes the prepared statement, the error is printed because the statement that is closed is not used anymore
+     *
+     * @param statement the prepared statement
+     * @since 0.2
+     */
+    private static void closeQuietly(final PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+/**
+ * This represents an execution from a statement, that is sent to the statement listeners, the event is only created
+ * when the flexible database has listeners
+ *
+ * @author biologyiswell (20/10/2026 02:51)
+ * @since 0.2
+ */
+public final class StatementEvent {
+
+    /**
+     * This represents the type from the operation that executes the statement
+     *
+     * @since 0.2
+     */
+    public enum Operation {
+
+        /**
+         * The read query, that includes the scans and the exports
+         * @since 0.2
+         */
+        QUERY,
+
+        /**
+         * The statement that changes the rows from a table, or an operation
+         * @since 0.2
+         */
+        UPDATE,
+
+        /**
+         * The batch from statements that are executed in a single round trip
+         * @since 0.2
+         */
+        BATCH,
+
+        /**
+         * The statement that changes the schema from a table
+         * @since 0.2
+         */
+        SCHEMA
+    }
+
+    /**
+     * These represents the listeners that receive the event, that are the listeners when the statement starts
+     * @since 0.2
+     */
+    final StatementListener[] listeners; // package-private
+
+    /**
+     * These represents the informations from the statement
+     * @since 0.2
+     */
+    private final Operation operation;
+    private final String table;
+    private final String sql;
+    private final Object[] values;
+    private final int bindCount;
+    private final int batchSize;
+    private final long startTime;
+
+    /**
+     * These represents the results from the execution, that are set when the statement finish
+     * @since 0.2
+     */
+    private long elapsedTime = -1;
+    private long rowCount = -1;
+
+    /**
+     * This represents the object that a listener attaches to the event, like a span from a trace
+     * @since 0.2
+     */
+    private Object attachment;
+
+    /**
+     * Creates an instance of statement event
+     *
+     * @param listeners the listeners that receive the event
+     * @param operation the type from the operation
+     * @param table the table name, or null if the statement has not a single table
+     * @param sql the statement template
+     * @param values the values that are bound to the placeholders, or null if the statement is a batch
+     * @param bindCount the quantity of values that are bound to each execution
+     * @param batchSize the quantity of executions from the statement
+     * @since 0.2
+     */
+    StatementEvent(final StatementListener[] listeners, final Operation operation, final String table, final String sql, final Object[] values, final int bindCount, final int batchSize) { // package-private
+        this.listeners = listeners;
+        this.operation = operation;
+        this.table = table;
+        this.sql = sql;
+        this.values = values;
+        this.bindCount = bindCount;
+        this.batchSize = batchSize;
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Returns the type from the operation
+     *
+     * @return the operation
+     * @since 0.2
+     */
+    public Operation getOperation() {
+        return this.operation;
+    }
+
+    /**
+     * Returns the table name
+     *
+     * @return the table name, or null if the statement has not a single table
+     * @since 0.2
+     */
+    public String getTable() {
+        return this.table;
+    }
+
+    /**
+     * Returns the statement template, that contains the placeholders
+     *
+     * @return the statement template
+     * @since 0.2
+     */
+    public String getSql() {
+        return this.sql;
+    }
+
+    /**
+     * Returns the values that are bound to the placeholders, the array must not be changed
+     *
+     * @return the values, or null if the statement is a batch or has not placeholders
+     * @since 0.2
+     */
+    public Object[] getValues() {
+        return this.values;
+    }
+
+    /**
+     * Returns the quantity of values that are bound to each execution
+     *
+     * @return the bind count
+     * @since 0.2
+     */
+    public int getBindCount() {
+        return this.bindCount;
+    }
+
+    /**
+     * Returns the quantity of executions from the statement, that is 1 if the statement is not a batch
+     *
+     * @return the batch size
+     * @since 0.2
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Returns the time when the statement starts, from the {@link System#nanoTime()}
+     *
+     * @return the start time in nanoseconds
+     * @since 0.2
+     */
+    public long getStartTime() {
+        return this.startTime;
+    }
+
+    /**
+     * Returns the elapsed time from the execution
+     *
+     * @return the elapsed time in nanoseconds, or -1 if the statement is not finished
+     * @since 0.2
+     */
+    public long getElapsedTime() {
+        return this.elapsedTime;
+    }
+
+    /**
+     * Returns the quantity of rows that are read or affected by the statement
+     *
+     * @return the row count, or -1 if the statement is not finished or fails
+     * @since 0.2
+     */
+    public long getRowCount() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the object that a listener attaches to the event
+     *
+     * @return the attachment, or null
+     * @since 0.2
+     */
+    public Object getAttachment() {
+        return this.attachment;
+    }
+
+    /**
+     * Sets the object that a listener attaches to the event, that is received by the methods "after" and "error"
+     *
+     * @param attachment the attachment
+     * @since 0.2
+     */
+    public void setAttachment(final Object attachment) {
+        this.attachment = attachment;
+    }
+
+    /**
+     * Finishes the event
+     *
+     * @param rowCount the quantity of rows, or -1 if the statement fails
+     * @since 0.2
+     */
+    void finish(final long rowCount) { // package-private
+        this.elapsedTime = System.nanoTime() - this.startTime;
+        this.rowCount = rowCount;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementEvent{operation=" + this.operation + ", table=" + this.table + ", sql=" + this.sql + ", bindCount=" + this.bindCount + ", batchSize=" + this.batchSize + ", elapsedTime=" + this.elapsedTime + ", rowCount=" + this.rowCount + "}";
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.sql.SQLException;
+
+/**
+ * This listener receives the executions from the statements of a flexible database, which each execution calls the
+ * method "before" when the statement starts, and the method "after" when the statement finish or the method "error"
+ * when the statement fails, with the same event, that can be used to tracing, auditing or metrics
+ *
+ * The methods are called on the thread that executes the statement, then the listeners must be fast and thread-safe,
+ * the exceptions from the listeners are printed and not change the operation
+ *
+ * @author biologyiswell (20/10/2026 02:51)
+ * @since 0.2
+ */
+public interface StatementListener {
+
+    /**
+     * This method is called before the statement is executed
+     *
+     * @param event the event from the execution
+     * @since 0.2
+     */
+    void before(StatementEvent event);
+
+    /**
+     * This method is called after the statement is executed, the event has the elapsed time and the quantity of rows
+     *
+     * @param event the event from the execution
+     * @since 0.2
+     */
+    void after(StatementEvent event);
+
+    /**
+     * This method is called when the statement fails, the event has the elapsed time
+     *
+     * @param event the event from the execution
+     * @param exception the exception that makes the statement fails
+     * @since 0.2
+     */
+    void error(StatementEvent event, SQLException exception);
+}
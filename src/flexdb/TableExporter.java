@@ -0,0 +1,454 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.util.DirectBufferPool;
+import flexdb.util.FileFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * This represents the encoder from the rows that are exported to a file, the values are encoded directly in a direct
+ * buffer that is acquired from a pool and the buffer is written to the file channel when it is full, then the memory
+ * that is used does not depend from the quantity of rows, the values that are input streams or readers are copied by
+ * chunks then the large objects are not read to the memory
+ *
+ * @author biologyiswell (19/10/2026 21:11)
+ * @since 0.2
+ */
+final class TableExporter implements Closeable { // package-private
+
+    /**
+     * This represents the magic and the version that start the files from the binary format
+     * @since 0.2
+     */
+    static final byte[] MAGIC = "FLEXDB".getBytes(StandardCharsets.US_ASCII); // package-private
+    static final byte VERSION = 1; // package-private
+
+    /**
+     * This represents the hexadecimal digits that are used to write the binary values in the text formats
+     * @since 0.2
+     */
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * This represents the value that is written for the null values in the text formats
+     * @since 0.2
+     */
+    private static final byte[] NULL = {'\\', 'N'};
+
+    /**
+     * These represents the channel where the bytes are written, the format, the pool from the buffer and the buffer
+     * @since 0.2
+     */
+    private final FileChannel channel;
+    private final FileFormat format;
+    private final DirectBufferPool pool;
+    private ByteBuffer buffer;
+
+    /**
+     * These represents the chunks that are used to copy the input streams and the readers
+     * @since 0.2
+     */
+    private final byte[] bytes = new byte[8192];
+    private final char[] chars = new char[8192];
+
+    /**
+     * Creates an instance from table exporter
+     *
+     * @param channel the channel where the bytes are written
+     * @param format the format
+     * @param pool the pool from the buffer
+     * @since 0.2
+     */
+    TableExporter(final FileChannel channel, final FileFormat format, final DirectBufferPool pool) { // package-private
+        this.channel = channel;
+        this.format = format;
+        this.pool = pool;
+        this.buffer = pool.acquire();
+    }
+
+    /**
+     * Writes the header from the file with the column names
+     *
+     * @param columns the column names
+     * @throws IOException this exception is thrown if the bytes can not be written
+     * @since 0.2
+     */
+    void header(final String[] columns) throws IOException { // package-private
+        if (this.format == FileFormat.BINARY) {
+            this.put(MAGIC, 0, MAGIC.length);
+            this.ensure(5);
+            this.buffer.put(VERSION);
+            this.buffer.putInt(columns.length);
+
+            for (final String column : columns) {
+                final byte[] bytes = column.getBytes(StandardCharsets.UTF_8);
+                this.ensure(4);
+                this.buffer.putInt(bytes.length);
+                this.put(bytes, 0, bytes.length);
+            }
+            return;
+        }
+
+        this.row(columns);
+    }
+
+    /**
+     * Writes a row
+     *
+     * @param values the values from the row
+     * @throws IOException this exception is thrown if the bytes can not be written
+     * @since 0.2
+     */
+    void row(final Object[] values) throws IOException { // package-private
+        if (this.format == FileFormat.BINARY) {
+            for (final Object value : values) {
+                this.binary(value);
+            }
+            return;
+        }
+
+        final byte separator = this.format == FileFormat.CSV ? (byte) ',' : (byte) '\t';
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) this.put(separator);
+            this.text(values[i]);
+        }
+
+        this.put((byte) '\n');
+    }
+
+    /**
+     * Writes the value in the binary format
+     *
+     * @param value the value
+     * @throws IOException this exception is thrown if the bytes can not be written
+     * @since 0.2
+     */
+    private void binary(final Object value) throws IOException {
+        this.ensure(12);
+
+        if (value instanceof InputStream || value instanceof Reader) {
+            this.binaryStream(value);
+        } else if (value == null) {
+            this.buffer.putInt(-1);
+        } else if (value instanceof Long) {
+            this.buffer.putInt(8).putLong((Long) value);
+        } else if (value instanceof Integer) {
+            this.buffer.putInt(4).putInt((Integer) value);
+        } else if (value instanceof Short) {
+            this.buffer.putInt(2).putShort((Short) value);
+        } else if (value instanceof Byte) {
+            this.buffer.putInt(1).put((Byte) value);
+        } else if (value instanceof Boolean) {
+            this.buffer.putInt(1).put((Boolean) value ? (byte) 1 : (byte) 0);
+        } else if (value instanceof Double) {
+            this.buffer.putInt(8).putDouble((Double) value);
+        } else if (value instanceof Float) {
+            this.buffer.putInt(4).putFloat((Float) value);
+        } else {
+            final byte[] bytes = value instanceof byte[] ? (byte[]) value : string(value).getBytes(StandardCharsets.UTF_8);
+            this.buffer.putInt(bytes.length);
+            this.put(bytes, 0, bytes.length);
+        }
+    }
+
+    /**
+     * Writes the input stream or the reader in the binary format, which the length is not known before the value is
+     * copied, then the length is written after the value at the position that is reserved before it
+     *
+     * @param value the input stream or the reader
+     * @throws IOException this exception is thrown if the bytes can not be written
+     * @since 0.2
+     */
+    private void binaryStream(final Object value) throws IOException {
+        final long offset = this.channel.position() + this.buffer.position();
+        this.buffer.putInt(0);
+
+        long length = 0;
+        for (int count; (count = this.read(value)) != -1; ) {
+            this.put(this.bytes, 0, count);
+            length += count;
+        }
+
+        if (length > Integer.MAX_VALUE) throw new IOException("value with " + length + " bytes can not be written in the binary format");
+
+        // @Note The reserved position is in the buffer if the buffer is not written after it, otherwise the length is
+        // written at the position from the file
+        if (offset >= this.channel.position()) {
+            this.buffer.putInt((int) (offset - this.channel.position()), (int) length);
+            return;
+        }
+
+        final ByteBuffer slot = ByteBuffer.allocate(4);
+        slot.putInt((int) length).flip();
+        while (slot.hasRemaining()) {
+            this.channel.write(slot, offset + slot.position());
+        }
+    }
+
+    /**
+     * Reads the next chunk from the input stream, or from the reader that is encoded in UTF-8, to the byte chunk, the
+     * value is closed when it is finished
+     *
+     * @param value the input stream or the reader
+     * @return the quantity of bytes that are read, or -1 if the value is finished
+     * @throws IOException this exception is thrown if the value can not be read
+     * @since 0.2
+     */
+    private int read(final Object value) throws IOException {
+        if (value instanceof InputStream) {
+            final InputStream stream = (InputStream) value;
+            final int count = stream.read(this.bytes, 0, this.bytes.length);
+            if (count == -1) stream.close();
+            return count;
+        }
+
+        final Reader reader = (Reader) value;
+
+        // @Note The chunk from the chars is a quarter from the bytes, that is the maximum from the UTF-8 encoding, and
+        // a high surrogate at the end from the chunk is read with the next char
+        int count = reader.read(this.chars, 0, this.chars.length / 4 - 1);
+        if (count == -1) {
+            reader.close();
+            return -1;
+        }
+
+        if (Character.isHighSurrogate(this.chars[count - 1])) {
+            final int next = reader.read();
+            if (next != -1) this.chars[count++] = (char) next;
+        }
+
+        final byte[] encoded = new String(this.chars, 0, count).getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(encoded, 0, this.bytes, 0, encoded.length);
+        return encoded.length;
+    }
+
+    /**
+     * Writes the value in the text format
+     *
+     * @param value the value
+     * @throws IOException this exception is thrown if the bytes can not be written
+     * @since 0.2
+     */
+    private void text(final Object value) throws IOException {
+        if (value == null) {
+            this.put(NULL, 0, NULL.length);
+            return;
+        }
+
+        if (value instanceof byte[]) {
+            final byte[] bytes = (byte[]) value;
+            this.hex(bytes, bytes.length);
+            return;
+        }
+
+        if (value instanceof InputStream) {
+            for (int count; (count = this.read(value)) != -1; ) {
+                this.hex(this.bytes, count);
+            }
+            return;
+        }
+
+        // @Note The text from the reader is always quoted in the CSV format, because it is not known before it is
+        // copied if the text must be quoted
+        if (value instanceof Reader) {
+            if (this.format == FileFormat.CSV) this.put((byte) '"');
+
+            for (int count; (count = this.read(value)) != -1; ) {
+                this.escape(this.bytes, count);
+            }
+
+            if (this.format == FileFormat.CSV) this.put((byte) '"');
+            return;
+        }
+
+        if (value instanceof Boolean) {
+            this.put((Boolean) value ? (byte) '1' : (byte) '0');
+            return;
+        }
+
+        final byte[] bytes = string(value).getBytes(StandardCharsets.UTF_8);
+
+        if (this.format == FileFormat.CSV) {
+            // @Note The empty text is quoted to not be confused with the null value
+            boolean quote = bytes.length == 0 || (bytes.length == 2 && bytes[0] == '\\' && bytes[1] == 'N');
+
+            for (int i = 0; i < bytes.length && !quote; i++) {
+                final byte b = bytes[i];
+                quote = b == ',' || b == '"' || b == '\n' || b == '\r';
+            }
+
+            if (!quote) {
+                this.put(bytes, 0, bytes.length);
+                return;
+            }
+
+            this.put((byte) '"');
+            this.escape(bytes, bytes.length);
+            this.put((byte) '"');
+            return;
+        }
+
+        this.escape(bytes, bytes.length);
+    }
+
+    /**
+     * Writes the bytes from a text with the escapes from the format, the quotes are doubled in the CSV format that
+     * is quoted, and the separators are escaped in the TSV format
+     *
+     * @param bytes the bytes
+     * @param length the length from the bytes
+     * @throws IOException this exception is thrown if the bytes can not be written
+     * @since 0.2
+     */
+    private void escape(final byte[] bytes, final int length) throws IOException {
+        for (int i = 0; i < length; i++) {
+            final byte b = bytes[i];
+
+            if (this.format == FileFormat.CSV) {
+                if (b == '"') this.put((byte) '"');
+                this.put(b);
+                continue;
+            }
+
+            switch (b) {
+                case '\t': this.put((byte) '\\'); this.put((byte) 't'); break;
+                case '\n': this.put((byte) '\\'); this.put((byte) 'n'); break;
+                case '\r': this.put((byte) '\\'); this.put((byte) 'r'); break;
+                case '\\': this.put((byte) '\\'); this.put((byte) '\\'); break;
+                default: this.put(b);
+            }
+        }
+    }
+
+    /**
+     * Writes the bytes as hexadecimal digits
+     *
+     * @param bytes the bytes
+     * @param length the length from the bytes
+     * @throws IOException this exception is thrown if the bytes can not be written
+     * @since 0.2
+     */
+    private void hex(final byte[] bytes, final int length) throws IOException {
+        for (int i = 0; i < length; i++) {
+            this.put(HEX[(bytes[i] >> 4) & 0xF]);
+            this.put(HEX[bytes[i] & 0xF]);
+        }
+    }
+
+    /**
+     * Returns the text from the value, the decimals are written without exponent
+     *
+     * @param value the value
+     * @return the text
+     * @since 0.2
+     */
+    private static String string(final Object value) {
+        return value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString();
+    }
+
+    /**
+     * Puts the byte in the buffer
+     *
+     * @param b the byte
+     * @throws IOException this exception is thrown if the buffer can not be written
+     * @since 0.2
+     */
+    private void put(final byte b) throws IOException {
+        if (!this.buffer.hasRemaining()) this.flush();
+        this.buffer.put(b);
+    }
+
+    /**
+     * Puts the bytes in the buffer, which the buffer is written when it is full
+     *
+     * @param bytes the bytes
+     * @param offset the offset from the bytes
+     * @param length the length from the bytes
+     * @throws IOException this exception is thrown if the buffer can not be written
+     * @since 0.2
+     */
+    private void put(final byte[] bytes, int offset, int length) throws IOException {
+        while (length > 0) {
+            if (!this.buffer.hasRemaining()) this.flush();
+
+            final int count = Math.min(length, this.buffer.remaining());
+            this.buffer.put(bytes, offset, count);
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Ensures that the buffer has the remaining bytes, which the buffer is written if it has not
+     *
+     * @param remaining the remaining bytes
+     * @throws IOException this exception is thrown if the buffer can not be written
+     * @since 0.2
+     */
+    private void ensure(final int remaining) throws IOException {
+        if (this.buffer.remaining() < remaining) this.flush();
+    }
+
+    /**
+     * Writes the bytes from the buffer to the channel
+     *
+     * @throws IOException this exception is thrown if the buffer can not be written
+     * @since 0.2
+     */
+    private void flush() throws IOException {
+        this.buffer.flip();
+        while (this.buffer.hasRemaining()) {
+            this.channel.write(this.buffer);
+        }
+        this.buffer.clear();
+    }
+
+    /**
+     * Writes the remaining bytes and releases the buffer to the pool, the channel is not closed
+     *
+     * @throws IOException this exception is thrown if the buffer can not be written
+     * @since 0.2
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.buffer == null) return;
+
+        try {
+            this.flush();
+        } finally {
+            this.pool.release(this.buffer);
+            this.buffer = null;
+        }
+    }
+}
@@ -0,0 +1,684 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.util.FileFormat;
+import flexdb.util.NamedThreadFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This represents the import from a file to a table, which the file is read by chunks from the file channel and each
+ * chunk is split at the last record boundary, then the chunks are parsed by parallel workers that insert the rows by
+ * batches on their own connection, the rows that can not be parsed or inserted are written to the quarantine file in
+ * the same format from the file to be fixed and imported again
+ *
+ * @author biologyiswell (19/10/2026 21:52)
+ * @since 0.2
+ */
+final class TableImporter { // package-private
+
+    /**
+     * This represents the initial size from the chunks that are read from the file, a chunk grows when a record is
+     * bigger than it
+     * @since 0.2
+     */
+    private static final int CHUNK_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * These represents the flexible database, the model from the class, the path and the format from the file
+     * @since 0.2
+     */
+    private final FlexDb db;
+    private final EntityModel model;
+    private final Path path;
+    private final FileFormat format;
+
+    /**
+     * These represents the quantity of workers, the quantity of rows from each batch and the progress
+     * @since 0.2
+     */
+    private final int parallelism;
+    private final int commitInterval;
+    private final ImportProgress progress;
+
+    /**
+     * This represents the path from the quarantine file
+     * @since 0.2
+     */
+    private final Path quarantinePath;
+
+    /**
+     * These represents the field indexes from the columns of the file, the insert statement from the columns and the
+     * bytes from the header that are written to the quarantine file, which are set when the header is read
+     * @since 0.2
+     */
+    private int[] indexes;
+    private String insertStatement;
+    private byte[] header;
+
+    /**
+     * These represents the quarantine file that is opened at the first rejected row, and the first failure from the
+     * workers that stops the import
+     * @since 0.2
+     */
+    private FileChannel quarantine;
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * Creates an instance from table importer
+     *
+     * @param db the flexible database
+     * @param model the model from the class
+     * @param path the path from the file
+     * @param format the format from the file
+     * @param parallelism the quantity of workers
+     * @param commitInterval the quantity of rows from each batch
+     * @param progress the progress
+     * @since 0.2
+     */
+    TableImporter(final FlexDb db, final EntityModel model, final Path path, final FileFormat format, final int parallelism, final int commitInterval, final ImportProgress progress) { // package-private
+        this.db = db;
+        this.model = model;
+        this.path = path;
+        this.format = format;
+        this.parallelism = parallelism;
+        this.commitInterval = commitInterval;
+        this.progress = progress;
+        this.quarantinePath = path.resolveSibling(path.getFileName() + ".rejected");
+    }
+
+    /**
+     * Runs the import, which returns when the all rows are inserted or rejected
+     *
+     * @throws IOException this exception is thrown if the file can not be read or is corrupted
+     * @since 0.2
+     */
+    void run() throws IOException { // package-private
+        Files.deleteIfExists(this.quarantinePath);
+
+        final ExecutorService workers = Executors.newFixedThreadPool(this.parallelism, new NamedThreadFactory("FlexDb-import"));
+
+        // @Note The semaphore limits the chunks that are read and not processed, then the memory that is used depends
+        // from the quantity of workers and not from the size from the file
+        final Semaphore chunks = new Semaphore(this.parallelism * 2);
+
+        try (final FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            this.progress.start(channel.size());
+
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+            boolean headerRead = false;
+
+            while (this.failure.get() == null) {
+                // @Note This condition grows the buffer when the record is bigger than the buffer
+                if (!buffer.hasRemaining()) {
+                    final ByteBuffer grown = ByteBuffer.allocate(buffer.capacity() * 2);
+                    buffer.flip();
+                    grown.put(buffer);
+                    buffer = grown;
+                }
+
+                final int read = channel.read(buffer);
+                final boolean eof = read == -1;
+                if (read > 0) this.progress.addBytesRead(read);
+
+                final byte[] array = buffer.array();
+                final int length = buffer.position();
+                int start = 0;
+
+                if (!headerRead) {
+                    start = this.header(array, length, eof);
+
+                    if (start < 0) {
+                        if (eof) throw new IOException("header from the file \"" + this.path + "\" is incomplete");
+                        continue;
+                    }
+
+                    headerRead = true;
+                }
+
+                final int boundary = eof ? length : this.boundary(array, start, length);
+
+                if (boundary > start) {
+                    final byte[] chunk = Arrays.copyOfRange(array, start, boundary);
+                    chunks.acquire();
+
+                    workers.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                            try {
+                                TableImporter.this.process(chunk);
+                            } catch (IOException | RuntimeException e) {
+                                TableImporter.this.failure.compareAndSet(null, e);
+                            } finally {
+                                chunks.release();
+                            }
+                        }
+                    });
+                }
+
+                if (eof) break;
+
+                // @Note The incomplete record is moved to the start from the buffer to be completed by the next read
+                System.arraycopy(array, boundary, array, 0, length - boundary);
+                buffer.position(length - boundary);
+            }
+
+            workers.shutdown();
+            workers.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("import from the file \"" + this.path + "\" is interrupted");
+        } finally {
+            workers.shutdownNow();
+
+            synchronized (this) {
+                if (this.quarantine != null) this.quarantine.close();
+            }
+
+            this.progress.finish();
+        }
+
+        final Throwable failure = this.failure.get();
+        if (failure instanceof IOException) throw (IOException) failure;
+        if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+    }
+
+    /**
+     * Reads the header from the file and resolves the columns from the file to the fields
+     *
+     * @param array the bytes that are read
+     * @param length the quantity of bytes that are read
+     * @param eof true if the file has no more bytes
+     * @return the index after the header, or -1 if the header is incomplete
+     * @throws IOException this exception is thrown if the header is corrupted
+     * @since 0.2
+     */
+    private int header(final byte[] array, final int length, final boolean eof) throws IOException {
+        final String[] names;
+        int end;
+
+        if (this.format == FileFormat.BINARY) {
+            final byte[] magic = TableExporter.MAGIC;
+            if (length < magic.length + 5) return -1;
+
+            if (!Arrays.equals(Arrays.copyOf(array, magic.length), magic) || array[magic.length] != TableExporter.VERSION) {
+                throw new IOException("file \"" + this.path + "\" is not a binary table file");
+            }
+
+            end = magic.length + 1;
+            names = new String[ByteBuffer.wrap(array, end, 4).getInt()];
+            end += 4;
+
+            for (int i = 0; i < names.length; i++) {
+                if (end + 4 > length) return -1;
+                final int size = ByteBuffer.wrap(array, end, 4).getInt();
+                end += 4;
+
+                if (size < 0) throw new IOException("file \"" + this.path + "\" has a corrupted header");
+                if (end + size > length) return -1;
+
+                names[i] = new String(array, end, size, StandardCharsets.UTF_8);
+                end += size;
+            }
+        } else {
+            end = this.next(array, 0, length);
+
+            if (end == length) {
+                if (!eof) return -1;
+            } else {
+                end++;
+            }
+
+            final Object[] values = this.line(array, 0, end);
+            names = new String[values.length];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = String.valueOf(values[i]);
+            }
+        }
+
+        this.indexes = new int[names.length];
+        final StringBuilder columns = new StringBuilder();
+        final StringBuilder placeholders = new StringBuilder();
+
+        for (int i = 0; i < names.length; i++) {
+            this.indexes[i] = this.model.requireColumn(names[i]);
+
+            if (i > 0) {
+                columns.append(", ");
+                placeholders.append(", ");
+            }
+
+            columns.append(this.model.columns[this.indexes[i]].name());
+            placeholders.append('?');
+        }
+
+        this.insertStatement = "INSERT INTO " + this.model.qualifiedName + " (" + columns + ") VALUES (" + placeholders + ")";
+        this.header = Arrays.copyOf(array, end);
+        return end;
+    }
+
+    /**
+     * Returns the index after the last complete record between the indexes, the start index must be the start from a
+     * record
+     *
+     * @param array the bytes
+     * @param start the start index
+     * @param end the end index, exclusive
+     * @return the index after the last complete record, or the start index if no record is complete
+     * @throws IOException this exception is thrown if the binary record is corrupted
+     * @since 0.2
+     */
+    private int boundary(final byte[] array, final int start, final int end) throws IOException {
+        if (this.format == FileFormat.BINARY) {
+            int position = start;
+
+            while (position < end) {
+                final int record = position;
+
+                for (int i = 0; i < this.indexes.length; i++) {
+                    if (position + 4 > end) return record;
+                    final int size = ByteBuffer.wrap(array, position, 4).getInt();
+                    position += 4;
+
+                    if (size < -1) throw new IOException("file \"" + this.path + "\" has a corrupted record");
+                    if (size > 0) {
+                        if (position + size > end || position + size < 0) return record;
+                        position += size;
+                    }
+                }
+            }
+
+            return position;
+        }
+
+        // @Note The line breaks that are inside the quotes from the comma-separated values are not boundaries
+        final boolean csv = this.format == FileFormat.CSV;
+        boolean quoted = false;
+        int last = start;
+
+        for (int i = start; i < end; i++) {
+            final byte b = array[i];
+
+            if (b == '"' && csv) {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                last = i + 1;
+            }
+        }
+
+        return last;
+    }
+
+    /**
+     * Parses the chunk and inserts the rows by batches
+     *
+     * @param chunk the chunk that contains the complete records
+     * @throws IOException this exception is thrown if the quarantine file can not be written
+     * @since 0.2
+     */
+    private void process(final byte[] chunk) throws IOException {
+        final List<Object[]> rows = new ArrayList<>(this.commitInterval);
+        final List<int[]> spans = new ArrayList<>(this.commitInterval);
+        int position = 0;
+
+        while (position < chunk.length && this.failure.get() == null) {
+            final int start = position;
+            final int end;
+
+            if (this.format == FileFormat.BINARY) {
+                end = skip(chunk, start, this.indexes.length);
+                if (end < 0) throw new IOException("file \"" + this.path + "\" has a truncated record");
+                position = end;
+            } else {
+                end = this.next(chunk, start, chunk.length);
+                position = end < chunk.length ? end + 1 : end;
+
+                // @Note The empty lines are skipped
+                if (end == start || (end == start + 1 && chunk[start] == '\r')) continue;
+            }
+
+            final Object[] values;
+
+            try {
+                values = this.format == FileFormat.BINARY ? this.record(chunk, start) : this.line(chunk, start, end);
+                if (values.length != this.indexes.length) throw new IllegalArgumentException("record has " + values.length + " values, expected " + this.indexes.length);
+
+                if (this.format != FileFormat.BINARY) {
+                    for (int i = 0; i < values.length; i++) {
+                        if (values[i] != null && binary(this.model.fields[this.indexes[i]].getType())) {
+                            values[i] = hex((String) values[i]);
+                        }
+                    }
+                }
+            } catch (IllegalArgumentException e) {
+                this.reject(chunk, start, end);
+                continue;
+            }
+
+            this.progress.addRowsParsed(1);
+            rows.add(values);
+            spans.add(new int[] {start, end});
+
+            if (rows.size() >= this.commitInterval) {
+                this.flush(chunk, rows, spans);
+            }
+        }
+
+        if (!rows.isEmpty()) this.flush(chunk, rows, spans);
+    }
+
+    /**
+     * Inserts the rows in a batch, if the batch fails the rows are inserted one by one and the rows that fail are
+     * written to the quarantine file
+     *
+     * @param chunk the chunk that contains the records
+     * @param rows the rows
+     * @param spans the start and end indexes from the records of the rows
+     * @throws IOException this exception is thrown if the quarantine file can not be written
+     * @since 0.2
+     */
+    private void flush(final byte[] chunk, final List<Object[]> rows, final List<int[]> spans) throws IOException {
+        final String table = this.model.table.name();
+        final int[] counts = this.db.executeBatch(table, this.insertStatement, rows);
+
+        if (counts.length == 0 || counts[0] != Statement.EXECUTE_FAILED) {
+            this.progress.addRowsInserted(rows.size());
+            this.progress.addBatchCommitted();
+        } else {
+            // @Note The batch is rolled back, then each row is inserted alone to find the rows that fail
+            for (int i = 0; i < rows.size(); i++) {
+                if (this.db.executeUpdate(table, this.insertStatement, rows.get(i)) < 0) {
+                    this.reject(chunk, spans.get(i)[0], spans.get(i)[1]);
+                } else {
+                    this.progress.addRowsInserted(1);
+                }
+            }
+        }
+
+        rows.clear();
+        spans.clear();
+    }
+
+    /**
+     * Writes the record to the quarantine file, which is created with the header from the file at the first record
+     *
+     * @param chunk the chunk that contains the record
+     * @param start the start index from the record
+     * @param end the end index from the record, exclusive of the line break
+     * @throws IOException this exception is thrown if the quarantine file can not be written
+     * @since 0.2
+     */
+    private synchronized void reject(final byte[] chunk, final int start, final int end) throws IOException {
+        if (this.quarantine == null) {
+            this.quarantine = FileChannel.open(this.quarantinePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            write(this.quarantine, ByteBuffer.wrap(this.header));
+        }
+
+        write(this.quarantine, ByteBuffer.wrap(chunk, start, end - start));
+        if (this.format != FileFormat.BINARY) write(this.quarantine, ByteBuffer.wrap(new byte[] {'\n'}));
+
+        this.progress.addRowsRejected(1);
+    }
+
+    /**
+     * Returns the index from the line break that ends the text record, or the end index if the record has no line break
+     *
+     * @param array the bytes
+     * @param start the start index from the record
+     * @param end the end index, exclusive
+     * @return the index from the line break
+     * @since 0.2
+     */
+    private int next(final byte[] array, final int start, final int end) {
+        boolean quoted = false;
+
+        for (int i = start; i < end; i++) {
+            final byte b = array[i];
+
+            if (b == '"' && this.format == FileFormat.CSV) {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                return i;
+            }
+        }
+
+        return end;
+    }
+
+    /**
+     * Parses the values from the text record, which the unquoted \N is the null value
+     *
+     * @param array the bytes
+     * @param start the start index from the record
+     * @param end the end index from the record, exclusive of the line break
+     * @return the values as texts or null
+     * @since 0.2
+     */
+    private Object[] line(final byte[] array, final int start, int end) {
+        if (end > start && array[end - 1] == '\n') end--;
+        if (end > start && array[end - 1] == '\r') end--;
+
+        final List<Object> values = new ArrayList<>();
+        final ByteArrayOutputStream value = new ByteArrayOutputStream();
+        final boolean csv = this.format == FileFormat.CSV;
+        final byte separator = csv ? (byte) ',' : (byte) '\t';
+        int i = start;
+
+        while (true) {
+            value.reset();
+            boolean quoted = false;
+
+            if (csv && i < end && array[i] == '"') {
+                quoted = true;
+                i++;
+
+                while (i < end) {
+                    if (array[i] == '"') {
+                        if (i + 1 < end && array[i + 1] == '"') {
+                            value.write('"');
+                            i += 2;
+                            continue;
+                        }
+
+                        i++;
+                        break;
+                    }
+
+                    value.write(array[i++]);
+                }
+            }
+
+            final int from = i;
+            while (i < end && array[i] != separator) {
+                if (!csv && array[i] == '\\' && i + 1 < end) {
+                    final byte escaped = array[++i];
+                    value.write(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+                } else {
+                    value.write(array[i]);
+                }
+                i++;
+            }
+
+            // @Note The \N that is not quoted represents the null value
+            final boolean nil = !quoted && i - from == 2 && array[from] == '\\' && array[from + 1] == 'N';
+            values.add(nil ? null : new String(value.toByteArray(), StandardCharsets.UTF_8));
+
+            if (i >= end) break;
+            i++;
+        }
+
+        return values.toArray();
+    }
+
+    /**
+     * Parses the values from the binary record
+     *
+     * @param array the bytes
+     * @param position the start index from the record
+     * @return the values
+     * @since 0.2
+     */
+    private Object[] record(final byte[] array, int position) {
+        final Object[] values = new Object[this.indexes.length];
+
+        for (int i = 0; i < values.length; i++) {
+            final int size = ByteBuffer.wrap(array, position, 4).getInt();
+            position += 4;
+
+            if (size >= 0) {
+                values[i] = this.decode(array, position, size, this.model.fields[this.indexes[i]].getType());
+                position += size;
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Decodes the value from the binary record to the field type
+     *
+     * @param array the bytes
+     * @param offset the offset from the value
+     * @param size the size from the value
+     * @param type the field type
+     * @return the value
+     * @since 0.2
+     */
+    private Object decode(final byte[] array, final int offset, final int size, final Class<?> type) {
+        if (binary(type)) return Arrays.copyOfRange(array, offset, offset + size);
+
+        final ByteBuffer buffer = ByteBuffer.wrap(array, offset, size);
+
+        if (type == int.class || type == Integer.class || type == long.class || type == Long.class || type == short.class || type == Short.class || type == byte.class || type == Byte.class) {
+            switch (size) {
+                case 1: return buffer.get();
+                case 2: return buffer.getShort();
+                case 4: return buffer.getInt();
+                case 8: return buffer.getLong();
+                default: throw new IllegalArgumentException("integer value has " + size + " bytes");
+            }
+        }
+
+        if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+            switch (size) {
+                case 4: return buffer.getFloat();
+                case 8: return buffer.getDouble();
+                default: throw new IllegalArgumentException("decimal value has " + size + " bytes");
+            }
+        }
+
+        if ((type == boolean.class || type == Boolean.class) && size == 1) return buffer.get() != 0;
+
+        return new String(array, offset, size, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the index after the binary record
+     *
+     * @param array the bytes
+     * @param position the start index from the record
+     * @param columns the quantity of columns
+     * @return the index after the record, or -1 if the record is incomplete
+     * @since 0.2
+     */
+    private static int skip(final byte[] array, int position, final int columns) {
+        for (int i = 0; i < columns; i++) {
+            if (position + 4 > array.length) return -1;
+
+            final int size = ByteBuffer.wrap(array, position, 4).getInt();
+            position += 4 + Math.max(size, 0);
+
+            if (position > array.length || position < 0) return -1;
+        }
+
+        return position;
+    }
+
+    /**
+     * Returns if the field type is written as binary value
+     *
+     * @param type the field type
+     * @return true if the field type is binary, otherwise false
+     * @since 0.2
+     */
+    private static boolean binary(final Class<?> type) {
+        return type == byte[].class || ByteBuffer.class.isAssignableFrom(type) || Path.class.isAssignableFrom(type) || InputStream.class.isAssignableFrom(type) || ReadableByteChannel.class.isAssignableFrom(type);
+    }
+
+    /**
+     * Decodes the hexadecimal text
+     *
+     * @param text the hexadecimal text
+     * @return the bytes
+     * @since 0.2
+     */
+    private static byte[] hex(final String text) {
+        if ((text.length() & 1) != 0) throw new IllegalArgumentException("hexadecimal value has odd length");
+
+        final byte[] bytes = new byte[text.length() / 2];
+        for (int i = 0; i < bytes.length; i++) {
+            final int high = Character.digit(text.charAt(i * 2), 16);
+            final int low = Character.digit(text.charAt(i * 2 + 1), 16);
+            if (high < 0 || low < 0) throw new IllegalArgumentException("hexadecimal value has invalid digit");
+
+            bytes[i] = (byte) ((high << 4) | low);
+        }
+
+        return bytes;
+    }
+
+    /**
+     * Writes the all bytes from the buffer to the channel
+     *
+     * @param channel the channel
+     * @param buffer the buffer
+     * @throws IOException this exception is thrown if the bytes can not be written
+     * @since 0.2
+     */
+    private static void write(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * This represents the iterator from the rows of a table by pages that are ordered by the column anchor, which each
+ * page is fetched by the keyset from the last column anchor value, then the pages are fetched in the same time not
+ * matters the position from the table and no transaction is kept opened between the pages, the next page is fetched
+ * in background while the current page is consumed, and the scan can be resumed from the checkpoint that is the last
+ * column anchor value consumed
+ *
+ * @author biologyiswell (19/10/2026 19:48)
+ * @since 0.2
+ */
+public class TableScanner<T> implements Iterator<T>, Closeable {
+
+    /**
+     * These represents the flexible database where the pages are fetched, the model from the class and the class
+     * @since 0.2
+     */
+    private final FlexDb db;
+    private final EntityModel model;
+    private final Class<T> klass;
+
+    /**
+     * This represents the size from the pages
+     * @since 0.2
+     */
+    private final int pageSize;
+
+    /**
+     * These represents the queries from the first page and the next pages
+     * @since 0.2
+     */
+    private final String firstQuery;
+    private final String nextQuery;
+
+    /**
+     * These represents the current page, the index from the next row in the current page and the next page that is
+     * fetched in background, or null if the current page is the last page
+     * @since 0.2
+     */
+    private List<Object[]> page;
+    private int index;
+    private Future<List<Object[]>> next;
+
+    /**
+     * This represents the column anchor value from the last row that is consumed
+     * @since 0.2
+     */
+    private Object checkpoint;
+
+    /**
+     * Creates an instance from table scanner, that starts to fetch the first page in background
+     *
+     * @param db the flexible database where the pages are fetched
+     * @param klass the class that represents the table
+     * @param pageSize the size from the pages
+     * @param checkpoint the column anchor value where the scan starts after it, or null to start from the first row
+     * @since 0.2
+     */
+    TableScanner(final FlexDb db, final Class<T> klass, final int pageSize, final Object checkpoint) { // package-private
+        this.db = db;
+        this.model = EntityModel.of(klass);
+        this.klass = klass;
+        this.pageSize = pageSize;
+        this.checkpoint = checkpoint;
+
+        final String anchor = this.model.columns[this.model.requireAnchor()].name();
+        this.firstQuery = "SELECT " + this.model.selectList + " FROM " + this.model.qualifiedName + " ORDER BY " + anchor + " LIMIT ?";
+        this.nextQuery = "SELECT " + this.model.selectList + " FROM " + this.model.qualifiedName + " WHERE " + anchor + " > ? ORDER BY " + anchor + " LIMIT ?";
+
+        this.next = this.prefetch(checkpoint);
+    }
+
+    /**
+     * Returns the column anchor value from the last row that is consumed, that can be given to the scan method to
+     * resume the scan after this row
+     *
+     * @return the column anchor value, or null if no row is consumed and the scan starts from the first row
+     * @since 0.2
+     */
+    public Object getCheckpoint() {
+        return this.checkpoint;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.page != null && this.index < this.page.size()) return true;
+
+        // @Note This condition makes the check if the current page is the last page
+        if (this.next == null) return false;
+
+        try {
+            this.page = this.next.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("scan interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("page from the table \"" + this.model.qualifiedName + "\" can not be fetched after the checkpoint \"" + this.checkpoint + "\"", e.getCause());
+        }
+
+        this.index = 0;
+
+        // @Note Start to fetch the next page while the current page is consumed, if the current page is full
+        this.next = this.page.size() < this.pageSize ? null : this.prefetch(this.page.get(this.page.size() - 1)[this.model.anchor]);
+
+        return !this.page.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) throw new NoSuchElementException();
+
+        final Object[] row = this.page.get(this.index++);
+        this.checkpoint = row[this.model.anchor];
+        return this.klass.cast(this.model.create(this.db, row));
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    /**
+     * Closes the scanner, which the page that is fetched in background is cancelled
+     *
+     * @since 0.2
+     */
+    @Override
+    public void close() {
+        if (this.next != null) {
+            this.next.cancel(true);
+            this.next = null;
+        }
+
+        this.page = null;
+    }
+
+    /**
+     * Starts to fetch the page after the column anchor value in background
+     *
+     * @param after the column anchor value, or null to fetch the first page
+     * @return the page that is fetched
+     * @since 0.2
+     */
+    private Future<List<Object[]>> prefetch(final Object after) {
+        return this.db.executor().submit(new Callable<List<Object[]>>() {
+            @Override
+            public List<Object[]> call() throws Exception {
+                final TableScanner<T> scanner = TableScanner.this;
+                final List<Object[]> rows = after == null
+                        ? scanner.db.fetch(scanner.model.table.name(), scanner.firstQuery, new Object[] {scanner.pageSize})
+                        : scanner.db.fetch(scanner.model.table.name(), scanner.nextQuery, new Object[] {after, scanner.pageSize});
+
+                if (rows == null) throw new IllegalStateException("query failed");
+                return rows;
+            }
+        });
+    }
+}
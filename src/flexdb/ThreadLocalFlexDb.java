@@ -0,0 +1,303 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.util.NamedThreadFactory;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is a thread-local database provided by flexible database factory which creates a database handler that binds a
+ * connection to each thread that make operations, which the connection is used only by this thread until the thread
+ * dies, this database is recommended to a fixed set of long-lived threads that make sequential operations, because the
+ * checkout from the connection not make a pool checkout and return
+ *
+ * @author biologyiswell (19/10/2026 15:34)
+ * @since 0.2
+ */
+public class ThreadLocalFlexDb extends FlexDb {
+
+    /**
+     * Is the maximum quantity of prepared statements that are cached by each thread
+     * @since 0.2
+     */
+    private static final int STATEMENT_CACHE_SIZE = 64;
+
+    /**
+     * Is the time in seconds that a thread waits a connection when the maximum quantity of connections is bound
+     * @since 0.2
+     */
+    private static final long BIND_TIMEOUT = 30;
+
+    /**
+     * Is the binding from the current thread, that contains the connection and the prepared statements cache
+     * @since 0.2
+     */
+    private final ThreadLocal<ThreadBinding> binding = new ThreadLocal<>();
+
+    /**
+     * Is the set from the all bindings that are alive, that is used to close the connections when the database is
+     * closed
+     * @since 0.2
+     */
+    private final Set<ThreadBinding> bindings = Collections.newSetFromMap(new ConcurrentHashMap<ThreadBinding, Boolean>());
+
+    /**
+     * Is the queue where the bindings are enqueued when the thread from them is collected by the garbage collector
+     * @since 0.2
+     */
+    private final ReferenceQueue<Thread> deadThreads = new ReferenceQueue<>();
+
+    /**
+     * Is the permits from connections that can be bound, which caps the total of connections
+     * @since 0.2
+     */
+    private final Semaphore permits;
+
+    /**
+     * Is the thread that closes the connections from the threads that die
+     * @since 0.2
+     */
+    private final Thread cleaner;
+
+    /**
+     * This indicates if the database is closed
+     * @since 0.2
+     */
+    private volatile boolean closed;
+
+    /**
+     * Creates an instance from Thread-Local Flexible Database
+     *
+     * @param host the host name which is used to connect to the MySQL Storage
+     * @param username the username which is used to authenticate the username credential
+     * @param password the password which is used to authenticate the password credential
+     * @param port the port which is used to connect to the MySQL Storage, if the port is equals -1, the default port
+     *             is set that is 3306
+     * @param maximumConnections the maximum quantity of connections that can be bound at the same time
+     * @since 0.2
+     */
+    ThreadLocalFlexDb(final String host, final String username, final String password, final int port, final int maximumConnections) { // package-private
+        super(host, username, password, port);
+
+        // @Note Check if the maximum connections is positive
+        if (maximumConnections <= 0) throw new IllegalArgumentException("maximum connections must be bigger than 0");
+
+        this.permits = new Semaphore(maximumConnections);
+
+        // @Note Start the cleaner, that waits the bindings from the threads that die
+        this.cleaner = new NamedThreadFactory("FlexDb-cleaner").newThread(new Runnable() {
+            @Override
+            public void run() {
+                while (!ThreadLocalFlexDb.this.closed) {
+                    try {
+                        ThreadLocalFlexDb.this.dispose((ThreadBinding) ThreadLocalFlexDb.this.deadThreads.remove());
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        });
+        this.cleaner.start();
+    }
+
+    /**
+     * Returns the connection that is bound to the current thread, if the thread has not a connection then a connection
+     * is opened and bound to it
+     *
+     * @return the connection from the current thread
+     * @throws SQLException this exception is thrown if the connection can not be opened
+     * @since 0.2
+     */
+    @Override
+    public Connection connection() throws SQLException {
+        final ThreadBinding binding = this.binding.get();
+
+        // @Note The checkout from the connection is the read from the thread binding when the thread has a connection
+        if (binding != null) return binding.connection;
+
+        return this.bind().connection;
+    }
+
+    /**
+     * Returns the prepared statement from the cache of the current thread, if the connection is the connection from the
+     * current thread
+     *
+     * @param connection the connection that is acquired by the operation
+     * @param sql the statement template
+     * @return the prepared statement
+     * @throws SQLException this exception is thrown if the statement can not be prepared
+     * @since 0.2
+     */
+    @Override
+    protected PreparedStatement prepare(final Connection connection, final String sql) throws SQLException {
+        final ThreadBinding binding = this.binding.get();
+
+        if (binding == null || binding.connection != connection) return super.prepare(connection, sql);
+
+        return binding.statements.get(sql);
+    }
+
+    /**
+     * Gives back the prepared statement, the statements that are cached by the current thread are not closed, only the
+     * parameters from them are cleared
+     *
+     * @param statement the prepared statement
+     * @throws SQLException this exception is thrown if the statement can not be closed
+     * @since 0.2
+     */
+    @Override
+    protected void close(final PreparedStatement statement) throws SQLException {
+        final ThreadBinding binding = this.binding.get();
+
+        if (binding == null || binding.connection != statement.getConnection()) {
+            super.close(statement);
+            return;
+        }
+
+        statement.clearParameters();
+    }
+
+    /**
+     * Unbinds the connection from the current thread, which the connection is closed, the next operation from the
+     * current thread binds a new connection, this is used when the connection from the thread is broken
+     *
+     * @since 0.2
+     */
+    public void unbind() {
+        final ThreadBinding binding = this.binding.get();
+
+        if (binding == null) return;
+
+        this.binding.remove();
+        this.dispose(binding);
+    }
+
+    /**
+     * Closes the database, which the all connections that are bound are closed
+     *
+     * @since 0.2
+     */
+    public void close() {
+        this.closed = true;
+        this.cleaner.interrupt();
+
+        for (final ThreadBinding binding : this.bindings) {
+            this.dispose(binding);
+        }
+    }
+
+    /**
+     * Binds a new connection to the current thread, if the maximum quantity of connections is bound the thread waits
+     * until a connection from a dead thread is closed
+     *
+     * @return the binding from the current thread
+     * @throws SQLException this exception is thrown if the connection can not be opened or the wait timeout
+     * @since 0.2
+     */
+    private ThreadBinding bind() throws SQLException {
+        if (this.closed) throw new SQLException("database is closed");
+
+        try {
+            if (!this.permits.tryAcquire(BIND_TIMEOUT, TimeUnit.SECONDS)) {
+                throw new SQLTimeoutException("bind timeout, the maximum quantity of connections is bound to other threads");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("bind interrupted", e);
+        }
+
+        final Connection connection;
+        try {
+            connection = DriverManager.getConnection(this.url(), username, password);
+        } catch (SQLException e) {
+            this.permits.release();
+            throw e;
+        }
+
+        final ThreadBinding binding = new ThreadBinding(Thread.currentThread(), this.deadThreads, connection);
+        this.bindings.add(binding);
+        this.binding.set(binding);
+        return binding;
+    }
+
+    /**
+     * Closes the connection and the prepared statements from the binding, and releases the permit from it
+     *
+     * @param binding the binding that is disposed
+     * @since 0.2
+     */
+    private void dispose(final ThreadBinding binding) {
+        // @Note This condition makes the check if the binding is already disposed
+        if (!this.bindings.remove(binding)) return;
+
+        binding.statements.clear();
+
+        try {
+            binding.connection.close();
+        } catch (SQLException e) {
+            e.printStackTrace();
+        } finally {
+            this.permits.release();
+        }
+    }
+
+    /**
+     * This represents the binding from a thread to the connection, which references the thread weakly, then the
+     * binding is enqueued when the thread dies and is collected
+     *
+     * @since 0.2
+     */
+    private static final class ThreadBinding extends WeakReference<Thread> {
+
+        /**
+         * This represents the connection that is bound to the thread
+         * @since 0.2
+         */
+        final Connection connection;
+
+        /**
+         * This represents the prepared statements cache from the thread
+         * @since 0.2
+         */
+        final StatementCache statements;
+
+        ThreadBinding(final Thread thread, final ReferenceQueue<Thread> queue, final Connection connection) {
+            super(thread, queue);
+            this.connection = connection;
+            this.statements = new StatementCache(connection, STATEMENT_CACHE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,687 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.util.NamedThreadFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This represents the work queue over a table, which each row is a work with a status column and a lease column, the
+ * works are claimed by pages with the SELECT ... FOR UPDATE SKIP LOCKED and marked in flight in the same transaction,
+ * then the consumers that claim at the same time skip the rows that are locked by other consumers instead of wait for
+ * them, the claimed works are given to a worker pool and are acknowledged or retried after, the works that are in
+ * flight more than the visibility timeout are claimed again, then a work is handled at least once
+ *
+ * The status column is a text column with the names from the {@link Status}, and the lease column is a DATETIME or
+ * TIMESTAMP column, which is the time when the work in flight expires or the time when the retried work is visible,
+ * the times are from the server clock, the SKIP LOCKED needs the MySQL 8.0 or the MariaDB 10.6, and the table must
+ * have an index from the status column and the lease column
+ *
+ * @author biologyiswell (20/10/2026 05:12)
+ * @since 0.2
+ */
+public class WorkQueue<T> {
+
+    /**
+     * This represents the status from the works
+     *
+     * @since 0.2
+     */
+    public enum Status {
+
+        /**
+         * The work waits to be claimed, after the lease if the work is retried
+         * @since 0.2
+         */
+        PENDING,
+
+        /**
+         * The work is claimed by a consumer until the lease
+         * @since 0.2
+         */
+        IN_FLIGHT,
+
+        /**
+         * The work is acknowledged
+         * @since 0.2
+         */
+        DONE,
+
+        /**
+         * The work fails and is not retried
+         * @since 0.2
+         */
+        FAILED
+    }
+
+    /**
+     * These represents the flexible database, the class and the model from the works
+     * @since 0.2
+     */
+    private final FlexDb db;
+    private final Class<T> klass;
+    private final EntityModel model;
+
+    /**
+     * These represents the indexes from the status column and the lease column
+     * @since 0.2
+     */
+    private final int status;
+    private final int lease;
+
+    /**
+     * This represents the fractional seconds from the lease column, that is the precision from the leases
+     * @since 0.2
+     */
+    private final int precision;
+
+    /**
+     * This represents the visibility timeout in microseconds from the claimed works
+     * @since 0.2
+     */
+    private final long visibilityTimeout;
+
+    /**
+     * These represents the statement templates from the queue
+     * @since 0.2
+     */
+    private final String claimQuery;
+    private final String expiryQuery;
+    private final String ackStatement;
+    private final String retryStatement;
+    private final String failStatement;
+    private final String extendStatement;
+
+    /**
+     * These represents the minimum and maximum wait in milliseconds between the polls when the queue is empty
+     * @since 0.2
+     */
+    private volatile long minimumBackoff = 50;
+    private volatile long maximumBackoff = 5000;
+
+    /**
+     * This represents the delay in microseconds from the works that fail before they are visible again
+     * @since 0.2
+     */
+    private volatile long retryDelay = TimeUnit.SECONDS.toMicros(1);
+
+    /**
+     * These represents the worker pool, the permits from the workers without work and the thread that polls the
+     * works, that are created when the queue starts
+     * @since 0.2
+     */
+    private ExecutorService workers;
+    private Semaphore permits;
+    private Thread poller;
+    private volatile boolean running;
+
+    /**
+     * Creates an instance from work queue
+     *
+     * @param db the flexible database
+     * @param klass the class from the works
+     * @param statusColumn the status column name
+     * @param leaseColumn the lease column name
+     * @param visibilityTimeout the time that a claimed work is in flight before it is claimed again
+     * @param unit the unit from the visibility timeout
+     * @since 0.2
+     */
+    WorkQueue(final FlexDb db, final Class<T> klass, final String statusColumn, final String leaseColumn, final long visibilityTimeout, final TimeUnit unit) { // package-private
+        this.db = db;
+        this.klass = klass;
+        this.model = EntityModel.of(klass);
+        this.status = this.model.requireColumn(statusColumn);
+        this.lease = this.model.requireColumn(leaseColumn);
+
+        if (this.model.fields[this.status].getType() != String.class) {
+            throw new IllegalArgumentException("Class \"" + klass.getSimpleName() + "\" has the status column \"" + statusColumn + "\" that is not a string.");
+        }
+
+        final Class<?> leaseType = this.model.fields[this.lease].getType();
+        if (leaseType != Date.class && leaseType != Timestamp.class) {
+            throw new IllegalArgumentException("Class \"" + klass.getSimpleName() + "\" has the lease column \"" + leaseColumn + "\" that is not a timestamp.");
+        }
+
+        // @Note The leases are made with the precision from the column, then the lease that is kept by the object is
+        // the same lease that is stored by the row and is compared by the next statements
+        this.precision = Math.min(3, Math.max(0, this.model.columns[this.lease].size()));
+        this.visibilityTimeout = Math.max(this.step(), this.round(unit.toMicros(visibilityTimeout)));
+
+        final String anchor = this.model.columns[this.model.requireAnchor()].name();
+        final String status = this.model.columns[this.status].name();
+        final String lease = this.model.columns[this.lease].name();
+        final String now = "NOW(" + this.precision + ")";
+        final String expiry = "DATE_ADD(" + now + ", INTERVAL ? MICROSECOND)";
+
+        // @Note The pending works and the works in flight that expire are claimed, the retried works are pending with a
+        // lease until they are visible, the lease from the claim is selected with the works
+        this.claimQuery = "SELECT " + this.model.selectList + ", " + expiry + " FROM " + this.model.qualifiedName
+                + " WHERE " + status + " IN ('" + Status.PENDING + "', '" + Status.IN_FLIGHT + "') AND (" + lease + " IS NULL OR " + lease + " <= " + now + ")"
+                + " ORDER BY " + anchor + " LIMIT ? FOR UPDATE SKIP LOCKED";
+        this.expiryQuery = "SELECT " + expiry;
+
+        // @Note The lease from the claim is the token from the consumer, then a consumer that loses the work after the
+        // visibility timeout not changes the work that is claimed again by other consumer
+        final String inFlight = " WHERE " + anchor + " = ? AND " + status + " = '" + Status.IN_FLIGHT + "' AND " + lease + " = ?";
+        this.ackStatement = "UPDATE " + this.model.qualifiedName + " SET " + status + " = '" + Status.DONE + "', " + lease + " = NULL" + inFlight;
+        this.retryStatement = "UPDATE " + this.model.qualifiedName + " SET " + status + " = '" + Status.PENDING + "', " + lease + " = " + expiry + inFlight;
+        this.failStatement = "UPDATE " + this.model.qualifiedName + " SET " + status + " = '" + Status.FAILED + "', " + lease + " = NULL" + inFlight;
+        this.extendStatement = "UPDATE " + this.model.qualifiedName + " SET " + lease + " = ?" + inFlight;
+    }
+
+    /**
+     * Sets the minimum and maximum wait between the polls when the queue is empty, which the wait is doubled by each
+     * poll that finds the queue empty until the maximum, and is the minimum again when a work is claimed
+     *
+     * @param minimum the minimum wait
+     * @param maximum the maximum wait
+     * @param unit the unit from the waits
+     * @since 0.2
+     */
+    public void setBackoff(final long minimum, final long maximum, final TimeUnit unit) {
+        if (unit == null) throw new NullPointerException("unit");
+        if (minimum <= 0) throw new IllegalArgumentException("minimum must be bigger than 0");
+        if (maximum < minimum) throw new IllegalArgumentException("maximum < minimum");
+
+        this.minimumBackoff = Math.max(1, unit.toMillis(minimum));
+        this.maximumBackoff = Math.max(this.minimumBackoff, unit.toMillis(maximum));
+    }
+
+    /**
+     * Sets the delay from the works that fail in the handler before they are visible again
+     *
+     * @param delay the delay
+     * @param unit the unit from the delay
+     * @since 0.2
+     */
+    public void setRetryDelay(final long delay, final TimeUnit unit) {
+        if (unit == null) throw new NullPointerException("unit");
+        if (delay < 0) throw new IllegalArgumentException("delay < 0");
+
+        this.retryDelay = this.round(unit.toMicros(delay));
+    }
+
+    /**
+     * Offers the work to the queue, which the work is inserted with the pending status and without lease
+     *
+     * @param object the work
+     * @since 0.2
+     */
+    public void offer(final T object) {
+        if (object == null) throw new NullPointerException("object");
+
+        this.model.set(object, this.status, Status.PENDING.name());
+        this.model.set(object, this.lease, null);
+        this.db.insert(object);
+    }
+
+    /**
+     * Claims the works that are visible, which the rows that are locked by other consumers are skipped, the works are
+     * in flight until the visibility timeout and must be acknowledged, retried or failed before it, each object keeps
+     * the lease from the claim in the lease field, then the work is only changed while the row has this lease
+     *
+     * @param limit the maximum quantity of works
+     * @return the works, or an empty list if the queue has not visible works or the claim fails
+     * @since 0.2
+     */
+    public List<T> claim(final int limit) {
+        if (limit <= 0) throw new IllegalArgumentException("limit must be bigger than 0");
+
+        final String table = this.model.table.name();
+        final AdmissionController admission = this.db.admission();
+        if (admission != null) admission.enter(table);
+
+        try {
+            final Connection connection = this.db.acquire();
+
+            try {
+                connection.setAutoCommit(false);
+
+                try {
+                    final List<Object[]> rows = this.select(connection, limit);
+
+                    if (!rows.isEmpty()) this.mark(connection, rows);
+
+                    connection.commit();
+
+                    // @Note The row has the lease from the claim after the columns, that is kept by the object
+                    final List<T> objects = new ArrayList<>(rows.size());
+                    for (final Object[] row : rows) {
+                        final T object = this.klass.cast(this.model.create(this.db, row));
+                        this.model.set(object, this.status, Status.IN_FLIGHT.name());
+                        this.model.set(object, this.lease, row[row.length - 1]);
+                        objects.add(object);
+                    }
+                    return objects;
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                }
+            } finally {
+                // @Note The auto-commit is restored before the connection is given back, the connection is given back
+                // even if the restore fails
+                try {
+                    connection.setAutoCommit(true);
+                } finally {
+                    this.db.release(connection);
+                }
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return Collections.emptyList();
+        } finally {
+            if (admission != null) admission.leave(table);
+
+            final ResultCache cache = this.db.cache();
+            if (cache != null) cache.invalidate(table);
+        }
+    }
+
+    /**
+     * Acknowledges the work, that is done
+     *
+     * @param object the work
+     * @return true if the work is in flight, false if the work is not claimed or is acknowledged by other consumer
+     * @since 0.2
+     */
+    public boolean ack(final T object) {
+        return this.finish(object, this.ackStatement, Status.DONE, null);
+    }
+
+    /**
+     * Retries the work, which the work is pending and visible after the delay
+     *
+     * @param object the work
+     * @param delay the delay
+     * @param unit the unit from the delay
+     * @return true if the work is in flight, false if the work is not claimed or is acknowledged by other consumer
+     * @since 0.2
+     */
+    public boolean retry(final T object, final long delay, final TimeUnit unit) {
+        if (unit == null) throw new NullPointerException("unit");
+        if (delay < 0) throw new IllegalArgumentException("delay < 0");
+
+        return this.finish(object, this.retryStatement, Status.PENDING, this.round(unit.toMicros(delay)));
+    }
+
+    /**
+     * Fails the work, which the work is not retried
+     *
+     * @param object the work
+     * @return true if the work is in flight, false if the work is not claimed or is acknowledged by other consumer
+     * @since 0.2
+     */
+    public boolean fail(final T object) {
+        return this.finish(object, this.failStatement, Status.FAILED, null);
+    }
+
+    /**
+     * Extends the lease from the work in flight, which the work is in flight until the time from the extension, that
+     * is used by the works that take more time than the visibility timeout, the object keeps the new lease
+     *
+     * @param object the work
+     * @param time the time from the lease
+     * @param unit the unit from the time
+     * @return true if the work is in flight, false if the work is not claimed or is acknowledged by other consumer
+     * @since 0.2
+     */
+    public boolean extend(final T object, final long time, final TimeUnit unit) {
+        if (unit == null) throw new NullPointerException("unit");
+        if (time <= 0) throw new IllegalArgumentException("time must be bigger than 0");
+
+        final Timestamp expiry = this.expiry(Math.max(this.step(), this.round(unit.toMicros(time))));
+        return expiry != null && this.finish(object, this.extendStatement, Status.IN_FLIGHT, expiry);
+    }
+
+    /**
+     * Starts the queue, which a thread polls the works while there are workers without work, and gives them to the
+     * worker pool, the works are acknowledged when the handler returns and retried after the retry delay when the
+     * handler throws an exception
+     *
+     * @param handler the handler from the works
+     * @param workers the quantity of workers
+     * @param batchSize the maximum quantity of works that are claimed by each poll
+     * @since 0.2
+     */
+    public synchronized void start(final WorkHandler<? super T> handler, final int workers, final int batchSize) {
+        if (handler == null) throw new NullPointerException("handler");
+        if (workers <= 0) throw new IllegalArgumentException("workers must be bigger than 0");
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be bigger than 0");
+        if (this.running) throw new IllegalStateException("queue is already started");
+
+        this.running = true;
+        this.workers = Executors.newFixedThreadPool(workers, new NamedThreadFactory("FlexDb-queue"));
+        this.permits = new Semaphore(workers);
+        this.poller = new NamedThreadFactory("FlexDb-queue-poller").newThread(new Runnable() {
+            @Override
+            public void run() {
+                WorkQueue.this.poll(handler, batchSize);
+            }
+        });
+        this.poller.start();
+    }
+
+    /**
+     * Stops the queue, which the poll stops and the works that are handled finish, the works that are claimed and not
+     * handled are claimed again after the visibility timeout
+     *
+     * @param timeout the time to wait for the works that are handled
+     * @param unit the unit from the timeout
+     * @throws InterruptedException this exception is thrown if the thread is interrupted while waits
+     * @since 0.2
+     */
+    public synchronized void stop(final long timeout, final TimeUnit unit) throws InterruptedException {
+        if (unit == null) throw new NullPointerException("unit");
+        if (!this.running) return;
+
+        this.running = false;
+        this.poller.interrupt();
+        this.poller.join(unit.toMillis(timeout));
+
+        this.workers.shutdown();
+        this.workers.awaitTermination(timeout, unit);
+    }
+
+    /**
+     * Returns if the queue is started
+     *
+     * @return true if the queue is started
+     * @since 0.2
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Polls the works while the queue is started, which waits for workers without work before the claim, then the works
+     * are not in flight while they wait for a worker, the wait between the polls is doubled while the queue is empty
+     *
+     * @param handler the handler from the works
+     * @param batchSize the maximum quantity of works that are claimed by each poll
+     * @since 0.2
+     */
+    private void poll(final WorkHandler<? super T> handler, final int batchSize) {
+        final Semaphore permits = this.permits;
+        long backoff = this.minimumBackoff;
+
+        while (this.running) {
+            int limit;
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                break;
+            }
+
+            // @Note The claim takes the workers without work until the batch size
+            limit = 1 + permits.drainPermits();
+            if (limit > batchSize) {
+                permits.release(limit - batchSize);
+                limit = batchSize;
+            }
+
+            final List<T> objects = this.running ? this.claim(limit) : Collections.<T>emptyList();
+            permits.release(limit - objects.size());
+
+            for (final T object : objects) {
+                this.workers.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            WorkQueue.this.handle(handler, object);
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                });
+            }
+
+            if (!objects.isEmpty()) {
+                backoff = this.minimumBackoff;
+                continue;
+            }
+
+            // @Note The wait has a random part, then the consumers that find the queue empty at the same time not poll
+            // at the same time
+            try {
+                Thread.sleep(backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+            } catch (InterruptedException e) {
+                break;
+            }
+
+            backoff = Math.min(backoff * 2, this.maximumBackoff);
+        }
+    }
+
+    /**
+     * Handles the work, and acknowledges or retries it
+     *
+     * @param handler the handler from the works
+     * @param object the work
+     * @since 0.2
+     */
+    private void handle(final WorkHandler<? super T> handler, final T object) {
+        try {
+            handler.handle(object);
+        } catch (Exception e) {
+            e.printStackTrace();
+            this.retry(object, this.retryDelay, TimeUnit.MICROSECONDS);
+            return;
+        }
+
+        this.ack(object);
+    }
+
+    /**
+     * Selects and locks the visible works
+     *
+     * @param connection the connection from the transaction
+     * @param limit the maximum quantity of works
+     * @return the rows from the works
+     * @throws SQLException this exception is thrown if the works can not be selected
+     * @since 0.2
+     */
+    private List<Object[]> select(final Connection connection, final int limit) throws SQLException {
+        final Object[] values = new Object[] {this.visibilityTimeout, limit};
+        final List<Object[]> rows = new ArrayList<>(limit);
+        final PreparedStatement statement = this.db.prepare(connection, this.claimQuery);
+        final StatementEvent event = this.db.before(StatementEvent.Operation.QUERY, this.model.table.name(), this.claimQuery, values, values.length, 1);
+
+        try {
+            this.db.bind(statement, values);
+
+            try (final ResultSet resultSet = statement.executeQuery()) {
+                final int columnCount = resultSet.getMetaData().getColumnCount();
+
+                while (resultSet.next()) {
+                    final Object[] row = new Object[columnCount];
+                    for (int i = 0; i < columnCount - 1; i++) {
+                        row[i] = resultSet.getObject(i + 1);
+                    }
+                    row[columnCount - 1] = resultSet.getTimestamp(columnCount);
+                    rows.add(row);
+                }
+            }
+
+            this.db.after(event, rows.size());
+            return rows;
+        } catch (SQLException e) {
+            this.db.error(event, e);
+            throw e;
+        } finally {
+            this.db.close(statement);
+        }
+    }
+
+    /**
+     * Marks the selected works in flight until the visibility timeout, in the transaction that locks them
+     *
+     * @param connection the connection from the transaction
+     * @param rows the rows from the works
+     * @throws SQLException this exception is thrown if the works can not be marked
+     * @since 0.2
+     */
+    private void mark(final Connection connection, final List<Object[]> rows) throws SQLException {
+        // @Note The placeholders are rounded up to the power of two and filled with the last anchor value, then the
+        // claims with different sizes share the templates
+        final int size = Integer.highestOneBit(rows.size()) == rows.size() ? rows.size() : Integer.highestOneBit(rows.size()) << 1;
+        final String shape = "CLAIM:" + this.status + ':' + this.lease + ':' + size;
+
+        String sql = this.model.template(shape);
+        if (sql == null) {
+            final StringBuilder sb = new StringBuilder("UPDATE ").append(this.model.qualifiedName);
+            sb.append(" SET ").append(this.model.columns[this.status].name()).append(" = '").append(Status.IN_FLIGHT).append("', ");
+            sb.append(this.model.columns[this.lease].name()).append(" = ?");
+            sb.append(" WHERE ").append(this.model.columns[this.model.anchor].name()).append(" IN (");
+            for (int i = 0; i < size; i++) {
+                if (i > 0) sb.append(", ");
+                sb.append('?');
+            }
+            sb.append(')');
+
+            sql = this.model.template(shape, sb.toString());
+        }
+
+        final Object[] values = new Object[size + 1];
+        values[0] = rows.get(0)[rows.get(0).length - 1];
+        for (int i = 0; i < size; i++) {
+            values[i + 1] = rows.get(Math.min(i, rows.size() - 1))[this.model.anchor];
+        }
+
+        final PreparedStatement statement = this.db.prepare(connection, sql);
+        final StatementEvent event = this.db.before(StatementEvent.Operation.UPDATE, this.model.table.name(), sql, values, values.length, 1);
+
+        try {
+            this.db.bind(statement, values);
+            this.db.after(event, statement.executeUpdate());
+        } catch (SQLException e) {
+            this.db.error(event, e);
+            throw e;
+        } finally {
+            this.db.close(statement);
+        }
+    }
+
+    /**
+     * Returns the lease from now until the time, from the server clock
+     *
+     * @param time the time in microseconds
+     * @return the lease, or null if the lease can not be selected
+     * @since 0.2
+     */
+    private Timestamp expiry(final long time) {
+        final Object[] values = new Object[] {time};
+
+        try {
+            final Connection connection = this.db.acquire();
+
+            try {
+                final PreparedStatement statement = this.db.prepare(connection, this.expiryQuery);
+                final StatementEvent event = this.db.before(StatementEvent.Operation.QUERY, null, this.expiryQuery, values, values.length, 1);
+
+                try {
+                    this.db.bind(statement, values);
+
+                    try (final ResultSet resultSet = statement.executeQuery()) {
+                        final Timestamp expiry = resultSet.next() ? resultSet.getTimestamp(1) : null;
+                        this.db.after(event, 1);
+                        return expiry;
+                    }
+                } catch (SQLException e) {
+                    this.db.error(event, e);
+                    throw e;
+                } finally {
+                    this.db.close(statement);
+                }
+            } finally {
+                this.db.release(connection);
+            }
+        } catch (SQLException e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Changes the work in flight, which the statement only changes the row if the row has the lease that is kept by
+     * the object
+     *
+     * @param object the work
+     * @param sql the statement
+     * @param status the status that the object receives
+     * @param value the value that is bound before the anchor value, or null if the statement has not it, if the value is
+     *              the new lease the object keeps it
+     * @return true if the work is in flight
+     * @since 0.2
+     */
+    private boolean finish(final T object, final String sql, final Status status, final Object value) {
+        if (object == null) throw new NullPointerException("object");
+
+        final Date lease = (Date) this.model.get(object, this.lease);
+        if (lease == null) return false;
+
+        final Object anchor = this.model.get(object, this.model.anchor);
+        final Timestamp token = new Timestamp(lease.getTime());
+        final int count = this.db.executeUpdate(this.model.table.name(), sql, value == null ? new Object[] {anchor, token} : new Object[] {value, anchor, token});
+        if (count <= 0) return false;
+
+        this.model.set(object, this.status, status.name());
+        this.model.set(object, this.lease, status == Status.IN_FLIGHT ? value : null);
+        return true;
+    }
+
+    /**
+     * Returns the microseconds from a unit from the lease column
+     *
+     * @return the microseconds from a unit
+     * @since 0.2
+     */
+    private long step() {
+        return this.precision == 0 ? 1000000 : this.precision == 1 ? 100000 : this.precision == 2 ? 10000 : 1000;
+    }
+
+    /**
+     * Rounds down the time to the precision from the lease column
+     *
+     * @param time the time in microseconds
+     * @return the rounded time
+     * @since 0.2
+     */
+    private long round(final long time) {
+        return time - time % this.step();
+    }
+}
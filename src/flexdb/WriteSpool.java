@@ -0,0 +1,887 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb;
+
+import flexdb.util.NamedThreadFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32;
+
+/**
+ * This represents the durable spool from the writes to the tables that are spooled, the writes are appended to a log
+ * from memory-mapped segments and acknowledged before they are applied, then a replayer thread applies the writes to
+ * the database by batches in the same order that they are appended, which the callers are not blocked when the
+ * database stalls
+ *
+ * Each record from the log contains the length and the checksum from the record, the table name, the statement
+ * template and the values, the records that are torn by a crash are found by the checksum when the spool is opened
+ * and the log is truncated at them, the position from the replayer is saved in the checkpoint file after each batch,
+ * then the writes are applied at least once, a write that is applied before a crash and not saved in the checkpoint
+ * is applied again when the spool is opened, a record that is corrupted after it is acknowledged stops the replayer at
+ * its position and the appends are rejected, then the records after it are kept in the log instead of discarded
+ *
+ * @author biologyiswell (19/10/2026 22:31)
+ * @since 0.2
+ */
+public class WriteSpool {
+
+    /**
+     * This enumeration contains the policies from when the appended records are forced to the disk
+     * @since 0.2
+     */
+    public enum Sync {
+
+        /**
+         * Indicates that the segment is forced after each record, the write is acknowledged when it is on the disk
+         * @since 0.2
+         */
+        EVERY_WRITE,
+
+        /**
+         * Indicates that the segment is forced each second by the replayer, a crash from the machine loses the
+         * records from the last second
+         * @since 0.2
+         */
+        PERIODIC,
+
+        /**
+         * Indicates that the segment is never forced and the operating system writes it, a crash from the process not
+         * loses records but a crash from the machine can lose them
+         * @since 0.2
+         */
+        NONE
+    }
+
+    /**
+     * This represents the size from the segments, a record that is bigger than it has a segment with its size
+     * @since 0.2
+     */
+    private static final int SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * This represents the maximum quantity of records that are applied in a batch
+     * @since 0.2
+     */
+    private static final int BATCH_SIZE = 500;
+
+    /**
+     * These represents the time that the replayer waits when the log has no records, the period from the sync and the
+     * minimum and maximum time that the replayer waits before retry a batch that fails, in milliseconds
+     * @since 0.2
+     */
+    private static final long IDLE_WAIT = 10;
+    private static final long SYNC_PERIOD = 1000;
+    private static final long MINIMUM_BACKOFF = 250;
+    private static final long MAXIMUM_BACKOFF = 30000;
+
+    /**
+     * These represents the types from the values that are written in the records
+     * @since 0.2
+     */
+    private static final byte NULL = 0, STRING = 1, INTEGER = 2, LONG = 3, SHORT = 4, BYTE = 5, BOOLEAN = 6, DOUBLE = 7, FLOAT = 8, CHARACTER = 9, DECIMAL = 10, BYTES = 11, TIMESTAMP = 12, DATE = 13, TIME = 14;
+
+    /**
+     * These represents the flexible database where the writes are applied, the directory from the log and the policy
+     * from the sync
+     * @since 0.2
+     */
+    private final FlexDb db;
+    private final Path directory;
+    private final Sync sync;
+
+    /**
+     * These represents the segments that are not applied entirely, the first segment is read by the replayer and the
+     * last segment is written by the appends, and the checkpoint file
+     * @since 0.2
+     */
+    private final ConcurrentLinkedDeque<Segment> segments = new ConcurrentLinkedDeque<>();
+    private final FileChannel checkpoint;
+
+    /**
+     * These represents the position from the replayer in the first segment and the thread from the replayer
+     * @since 0.2
+     */
+    private int readOffset;
+    private final Thread replayer;
+
+    /**
+     * This represents the position from the replayer, that is the sequence from the segment in the high bits and the
+     * position on the segment in the low bits, which is updated when the checkpoint is saved
+     * @since 0.2
+     */
+    private volatile long progress;
+
+    /**
+     * This represents the failure that stops the replayer, or null if the replayer runs
+     * @since 0.2
+     */
+    private volatile IOException failure;
+
+    /**
+     * These represents the quantity of records that are appended and not applied, and the quantity of records that are
+     * moved to the rejected file because the database rejects them
+     * @since 0.2
+     */
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * This represents if the spool is closed
+     * @since 0.2
+     */
+    private volatile boolean closed;
+
+    /**
+     * Creates an instance from write spool, which the segments that exist in the directory are recovered and the
+     * replayer is started
+     *
+     * @param db the flexible database where the writes are applied
+     * @param directory the directory from the log
+     * @param sync the policy from the sync
+     * @throws IOException this exception is thrown if the log can not be opened
+     * @since 0.2
+     */
+    WriteSpool(final FlexDb db, final Path directory, final Sync sync) throws IOException { // package-private
+        this.db = db;
+        this.directory = Files.createDirectories(directory);
+        this.sync = sync;
+        this.checkpoint = FileChannel.open(directory.resolve("checkpoint"), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        // @Note The checkpoint contains the sequence from the segment and the position from the replayer on it
+        long checkpointSequence = 0;
+        int checkpointOffset = 0;
+        final ByteBuffer position = ByteBuffer.allocate(12);
+        if (this.checkpoint.read(position, 0) == 12) {
+            position.flip();
+            checkpointSequence = position.getLong();
+            checkpointOffset = position.getInt();
+        }
+
+        final List<Path> paths = new ArrayList<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "segment-*.log")) {
+            for (final Path path : stream) {
+                paths.add(path);
+            }
+        }
+        Collections.sort(paths);
+
+        long sequence = checkpointSequence;
+        for (final Path path : paths) {
+            final String name = path.getFileName().toString();
+            final long segmentSequence = Long.parseLong(name.substring(8, name.length() - 4));
+
+            // @Note The segments before the checkpoint are applied entirely
+            if (segmentSequence < checkpointSequence) {
+                Files.delete(path);
+                continue;
+            }
+
+            final Segment segment = new Segment(segmentSequence, path, (int) Files.size(path));
+            segment.limit = this.recover(segment);
+            segment.sealed = true;
+            this.segments.addLast(segment);
+            sequence = segmentSequence + 1;
+        }
+
+        final Segment first = this.segments.peekFirst();
+        this.readOffset = first != null && first.sequence == checkpointSequence ? Math.min(checkpointOffset, first.limit) : 0;
+        this.progress = first != null ? position(first.sequence, this.readOffset) : position(sequence, 0);
+
+        // @Note The new records are appended to a new segment, then a segment that is truncated by a crash is not
+        // written again
+        this.segments.addLast(new Segment(sequence, this.segmentPath(sequence), SEGMENT_SIZE));
+
+        this.replayer = new NamedThreadFactory("FlexDb-spool").newThread(new Runnable() {
+            @Override
+            public void run() {
+                WriteSpool.this.replay();
+            }
+        });
+        this.replayer.start();
+    }
+
+    /**
+     * Returns the directory from the log
+     *
+     * @return the directory
+     * @since 0.2
+     */
+    public Path getDirectory() {
+        return this.directory;
+    }
+
+    /**
+     * Returns the quantity of records that are appended in this process and not applied yet, the recovered records
+     * from the previous process are not counted
+     *
+     * @return the quantity of records
+     * @since 0.2
+     */
+    public long getPendingRecords() {
+        return Math.max(0, this.pending.get());
+    }
+
+    /**
+     * Returns the quantity of records that are moved to the rejected file, because the database answers and rejects
+     * them, the rejected file has the same format from the segments
+     *
+     * @return the quantity of records
+     * @since 0.2
+     */
+    public long getRejectedRecords() {
+        return this.rejected.get();
+    }
+
+    /**
+     * Returns the failure that stops the replayer, which is a record that is corrupted, the position from the record
+     * is in the message and the records from it are kept in the log
+     *
+     * @return the failure, or null if the replayer runs
+     * @since 0.2
+     */
+    public IOException getFailure() {
+        return this.failure;
+    }
+
+    /**
+     * Appends the write to the log, the write is acknowledged when this method returns
+     *
+     * @param table the table name that the statement changes
+     * @param sql the statement template
+     * @param values the values that are bound to the placeholders
+     * @throws IOException this exception is thrown if the record can not be written
+     * @since 0.2
+     */
+    void append(final String table, final String sql, final Object[] values) throws IOException { // package-private
+        final byte[] payload = encode(table, sql, values);
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        synchronized (this) {
+            if (this.closed) throw new IllegalStateException("spool is closed");
+            if (this.failure != null) throw new IllegalStateException("spool is stopped", this.failure);
+
+            Segment segment = this.segments.getLast();
+
+            if (segment.buffer.capacity() - segment.limit < payload.length + 8) {
+                // @Note The new segment is added before the segment is sealed, then the replayer that deletes the
+                // sealed segment always finds the next segment
+                final Segment sealed = segment;
+                segment = new Segment(sealed.sequence + 1, this.segmentPath(sealed.sequence + 1), Math.max(SEGMENT_SIZE, payload.length + 8));
+                this.segments.addLast(segment);
+
+                sealed.buffer.force();
+                sealed.sealed = true;
+            }
+
+            final ByteBuffer buffer = segment.buffer;
+            buffer.position(segment.limit);
+            buffer.putInt(payload.length);
+            buffer.putInt((int) crc.getValue());
+            buffer.put(payload);
+
+            if (this.sync == Sync.EVERY_WRITE) segment.buffer.force();
+
+            // @Note The limit is published after the record is written, then the replayer only reads complete records
+            segment.limit = buffer.position();
+        }
+
+        this.pending.incrementAndGet();
+    }
+
+    /**
+     * Waits until the records that are appended before this method are applied, then a write that can not be appended
+     * is applied after the writes that are spooled before it
+     *
+     * @throws InterruptedException this exception is thrown if the thread is interrupted while waits
+     * @throws IllegalStateException this exception is thrown if the spool is closed or the replayer is stopped
+     * @since 0.2
+     */
+    void flush() throws InterruptedException { // package-private
+        final long target;
+        synchronized (this) {
+            if (this.closed) throw new IllegalStateException("spool is closed");
+
+            final Segment last = this.segments.getLast();
+            target = position(last.sequence, last.limit);
+        }
+
+        while (this.progress < target) {
+            if (this.failure != null) throw new IllegalStateException("spool is stopped", this.failure);
+            if (this.closed) throw new IllegalStateException("spool is closed");
+
+            Thread.sleep(IDLE_WAIT);
+        }
+    }
+
+    /**
+     * Closes the spool, which the replayer is stopped and the records that are not applied are kept in the log to be
+     * applied when the spool is opened again
+     *
+     * @since 0.2
+     */
+    void close() { // package-private
+        synchronized (this) {
+            if (this.closed) return;
+            this.closed = true;
+
+            this.segments.getLast().buffer.force();
+        }
+
+        this.replayer.interrupt();
+
+        try {
+            this.replayer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        for (final Segment segment : this.segments) {
+            segment.close();
+        }
+
+        try {
+            this.checkpoint.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Runs the replayer, which reads the records from the first segment and applies them by batches, the consecutive
+     * records with the same table and statement template are applied in the same batch
+     *
+     * @since 0.2
+     */
+    private void replay() {
+        long lastSync = System.currentTimeMillis();
+        int syncedLimit = 0;
+
+        while (!this.closed) {
+            try {
+                if (this.sync == Sync.PERIODIC && System.currentTimeMillis() - lastSync >= SYNC_PERIOD) {
+                    final Segment last = this.segments.getLast();
+                    if (last.limit != syncedLimit) {
+                        last.buffer.force();
+                        syncedLimit = last.limit;
+                    }
+                    lastSync = System.currentTimeMillis();
+                }
+
+                final Segment segment = this.segments.getFirst();
+                final int limit = segment.limit;
+
+                if (this.readOffset >= limit) {
+                    // @Note The segment that is sealed and applied entirely is deleted, the sealed flag is read before
+                    // the limit again because the last record can be appended before the segment is sealed
+                    if (segment.sealed && this.readOffset >= segment.limit) {
+                        this.segments.removeFirst();
+                        this.readOffset = 0;
+                        this.saveCheckpoint(this.segments.getFirst().sequence, 0);
+                        segment.close();
+                        Files.deleteIfExists(segment.path);
+                        continue;
+                    }
+
+                    Thread.sleep(IDLE_WAIT);
+                    continue;
+                }
+
+                final ByteBuffer buffer = segment.buffer.duplicate();
+                final List<Object[]> rows = new ArrayList<>();
+                final List<Integer> ends = new ArrayList<>();
+                String table = null;
+                String sql = null;
+                int offset = this.readOffset;
+
+                while (offset < limit && rows.size() < BATCH_SIZE) {
+                    buffer.position(offset);
+                    final int length = buffer.getInt();
+                    final int crc = buffer.getInt();
+
+                    String recordTable = null;
+                    String recordSql = null;
+                    Object[] values = null;
+
+                    if (length > 0 && length <= limit - offset - 8) {
+                        final byte[] payload = new byte[length];
+                        buffer.get(payload);
+
+                        final CRC32 check = new CRC32();
+                        check.update(payload);
+
+                        if ((int) check.getValue() == crc) {
+                            try {
+                                final DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+                                recordTable = readString(in);
+                                recordSql = readString(in);
+                                values = decode(in);
+                            } catch (IOException | RuntimeException e) {
+                                values = null;
+                            }
+                        }
+                    }
+
+                    // @Note The corrupted record can not be applied and its length can not be trusted, then the records
+                    // before it are applied and the replayer stops at it, the records from it are kept in the log
+                    if (values == null) {
+                        if (rows.isEmpty()) {
+                            this.failure = new IOException("record from the segment \"" + segment.path + "\" at " + offset + " is corrupted, the replayer is stopped");
+                            this.failure.printStackTrace();
+                            return;
+                        }
+                        break;
+                    }
+
+                    if (!rows.isEmpty() && (!recordTable.equals(table) || !recordSql.equals(sql))) break;
+
+                    table = recordTable;
+                    sql = recordSql;
+                    rows.add(values);
+                    offset += length + 8;
+                    ends.add(offset);
+                }
+
+                final int applied = this.apply(segment, table, sql, rows, ends);
+                if (applied > 0) {
+                    this.readOffset = ends.get(applied - 1);
+                    this.pending.addAndGet(-applied);
+                    this.saveCheckpoint(segment.sequence, this.readOffset);
+                }
+            } catch (InterruptedException e) {
+                // @Note The replayer is interrupted by the close method
+                return;
+            } catch (IOException e) {
+                e.printStackTrace();
+
+                try {
+                    Thread.sleep(MAXIMUM_BACKOFF);
+                } catch (InterruptedException ignored) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the rows to the database, the batch is retried while the database does not answer, and when the
+     * database answers and the batch fails the rows are applied one by one, then the rows that the database rejects are
+     * moved to the rejected file
+     *
+     * @param segment the segment that contains the records
+     * @param table the table name
+     * @param sql the statement template
+     * @param rows the values from the records
+     * @param ends the positions after each record
+     * @return the quantity of rows that are applied or rejected, in order
+     * @throws IOException this exception is thrown if the rejected file can not be written
+     * @throws InterruptedException this exception is thrown if the spool is closed while the replayer waits
+     * @since 0.2
+     */
+    private int apply(final Segment segment, final String table, final String sql, final List<Object[]> rows, final List<Integer> ends) throws IOException, InterruptedException {
+        long backoff = MINIMUM_BACKOFF;
+
+        while (true) {
+            if (rows.size() == 1 ? this.db.executeUpdate(table, sql, rows.get(0)) >= 0 : this.db.executeBatch(table, sql, rows)[0] != Statement.EXECUTE_FAILED) {
+                return rows.size();
+            }
+
+            if (this.reachable()) break;
+
+            Thread.sleep(backoff);
+            backoff = Math.min(backoff * 2, MAXIMUM_BACKOFF);
+        }
+
+        // @Note The database answers but rejects the batch, then each row is applied alone to find the rows that are
+        // rejected, the rows before them keep their order
+        for (int i = 0; i < rows.size(); i++) {
+            backoff = MINIMUM_BACKOFF;
+
+            while (this.db.executeUpdate(table, sql, rows.get(i)) < 0) {
+                if (this.reachable()) {
+                    final int start = i == 0 ? this.readOffset : ends.get(i - 1);
+                    this.reject(segment, start, ends.get(i));
+                    break;
+                }
+
+                if (this.closed) return i;
+
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAXIMUM_BACKOFF);
+            }
+        }
+
+        return rows.size();
+    }
+
+    /**
+     * Returns if the database answers a query
+     *
+     * @return true if the database answers, otherwise false
+     * @since 0.2
+     */
+    private boolean reachable() {
+        return this.db.fetch(null, "SELECT 1", new Object[0]) != null;
+    }
+
+    /**
+     * Moves the record to the rejected file
+     *
+     * @param segment the segment that contains the record
+     * @param start the position from the record
+     * @param end the position after the record
+     * @throws IOException this exception is thrown if the rejected file can not be written
+     * @since 0.2
+     */
+    private void reject(final Segment segment, final int start, final int end) throws IOException {
+        final ByteBuffer record = segment.buffer.duplicate();
+        record.position(start);
+        record.limit(end);
+
+        try (final FileChannel channel = FileChannel.open(this.directory.resolve("rejected.log"), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (record.hasRemaining()) {
+                channel.write(record);
+            }
+        }
+
+        this.rejected.incrementAndGet();
+    }
+
+    /**
+     * Saves the position from the replayer to the checkpoint file
+     *
+     * @param sequence the sequence from the segment
+     * @param offset the position on the segment
+     * @throws IOException this exception is thrown if the checkpoint can not be written
+     * @since 0.2
+     */
+    private void saveCheckpoint(final long sequence, final int offset) throws IOException {
+        final ByteBuffer position = ByteBuffer.allocate(12);
+        position.putLong(sequence).putInt(offset).flip();
+
+        while (position.hasRemaining()) {
+            this.checkpoint.write(position, 12 - position.remaining());
+        }
+
+        if (this.sync != Sync.NONE) this.checkpoint.force(false);
+
+        this.progress = position(sequence, offset);
+    }
+
+    /**
+     * Returns the position from the offset on the segment, that is ordered like the records from the log
+     *
+     * @param sequence the sequence from the segment
+     * @param offset the position on the segment
+     * @return the position
+     * @since 0.2
+     */
+    private static long position(final long sequence, final int offset) {
+        return (sequence << 32) | offset;
+    }
+
+    /**
+     * Returns the position after the last valid record from the recovered segment, the record that has the length
+     * zero is the end from the segment and the record that has a wrong checksum is torn by a crash
+     *
+     * @param segment the segment
+     * @return the position after the last valid record
+     * @since 0.2
+     */
+    private int recover(final Segment segment) {
+        final ByteBuffer buffer = segment.buffer.duplicate();
+        int offset = 0;
+
+        while (offset + 8 <= buffer.capacity()) {
+            buffer.position(offset);
+            final int length = buffer.getInt();
+            final int crc = buffer.getInt();
+
+            if (length <= 0 || length > buffer.remaining()) break;
+
+            final byte[] payload = new byte[length];
+            buffer.get(payload);
+
+            final CRC32 check = new CRC32();
+            check.update(payload);
+            if ((int) check.getValue() != crc) break;
+
+            offset += length + 8;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Returns the path from the segment
+     *
+     * @param sequence the sequence from the segment
+     * @return the path
+     * @since 0.2
+     */
+    private Path segmentPath(final long sequence) {
+        return this.directory.resolve(String.format("segment-%016d.log", sequence));
+    }
+
+    /**
+     * Encodes the table name, the statement template and the values to the payload from a record
+     *
+     * @param table the table name
+     * @param sql the statement template
+     * @param values the values
+     * @return the payload
+     * @throws IOException this exception is thrown if the payload can not be written
+     * @since 0.2
+     */
+    private static byte[] encode(final String table, final String sql, final Object[] values) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        final DataOutputStream out = new DataOutputStream(bytes);
+
+        writeString(out, table);
+        writeString(out, sql);
+        out.writeInt(values.length);
+
+        for (final Object value : values) {
+            if (value == null) {
+                out.writeByte(NULL);
+            } else if (value instanceof String) {
+                out.writeByte(STRING);
+                writeString(out, (String) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(INTEGER);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Short) {
+                out.writeByte(SHORT);
+                out.writeShort((Short) value);
+            } else if (value instanceof Byte) {
+                out.writeByte(BYTE);
+                out.writeByte((Byte) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte(BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Double) {
+                out.writeByte(DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof Float) {
+                out.writeByte(FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Character) {
+                out.writeByte(CHARACTER);
+                out.writeChar((Character) value);
+            } else if (value instanceof BigDecimal) {
+                out.writeByte(DECIMAL);
+                writeString(out, ((BigDecimal) value).toPlainString());
+            } else if (value instanceof byte[] || value instanceof ByteBuffer) {
+                final byte[] array;
+                if (value instanceof ByteBuffer) {
+                    final ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+                    array = new byte[buffer.remaining()];
+                    buffer.get(array);
+                } else {
+                    array = (byte[]) value;
+                }
+
+                out.writeByte(BYTES);
+                out.writeInt(array.length);
+                out.write(array);
+            } else if (value instanceof java.sql.Date) {
+                out.writeByte(DATE);
+                out.writeLong(((Date) value).getTime());
+            } else if (value instanceof Time) {
+                out.writeByte(TIME);
+                out.writeLong(((Date) value).getTime());
+            } else if (value instanceof Date) {
+                out.writeByte(TIMESTAMP);
+                out.writeLong(((Date) value).getTime());
+                out.writeInt(value instanceof Timestamp ? ((Timestamp) value).getNanos() : -1);
+            } else {
+                throw new IllegalArgumentException("value from the type \"" + value.getClass().getName() + "\" can not be spooled");
+            }
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes the values from the payload of a record, after the table name and the statement template
+     *
+     * @param in the input from the payload
+     * @return the values
+     * @throws IOException this exception is thrown if the payload is corrupted
+     * @since 0.2
+     */
+    private static Object[] decode(final DataInputStream in) throws IOException {
+        final Object[] values = new Object[in.readInt()];
+
+        for (int i = 0; i < values.length; i++) {
+            final byte type = in.readByte();
+
+            switch (type) {
+                case NULL: break;
+                case STRING: values[i] = readString(in); break;
+                case INTEGER: values[i] = in.readInt(); break;
+                case LONG: values[i] = in.readLong(); break;
+                case SHORT: values[i] = in.readShort(); break;
+                case BYTE: values[i] = in.readByte(); break;
+                case BOOLEAN: values[i] = in.readBoolean(); break;
+                case DOUBLE: values[i] = in.readDouble(); break;
+                case FLOAT: values[i] = in.readFloat(); break;
+                case CHARACTER: values[i] = in.readChar(); break;
+                case DECIMAL: values[i] = new BigDecimal(readString(in)); break;
+                case BYTES: {
+                    final byte[] array = new byte[in.readInt()];
+                    in.readFully(array);
+                    values[i] = array;
+                    break;
+                }
+                case DATE: values[i] = new java.sql.Date(in.readLong()); break;
+                case TIME: values[i] = new Time(in.readLong()); break;
+                case TIMESTAMP: {
+                    final Timestamp timestamp = new Timestamp(in.readLong());
+                    final int nanos = in.readInt();
+                    if (nanos >= 0) timestamp.setNanos(nanos);
+                    values[i] = timestamp;
+                    break;
+                }
+                default: throw new IOException("value type " + type + " is unknown");
+            }
+        }
+
+        return values;
+    }
+
+    /**
+     * Writes the text as the length followed by the UTF-8 bytes, which is not limited like the modified UTF-8
+     *
+     * @param out the output
+     * @param text the text
+     * @throws IOException this exception is thrown if the text can not be written
+     * @since 0.2
+     */
+    private static void writeString(final DataOutputStream out, final String text) throws IOException {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads the text that is written by the write string method
+     *
+     * @param in the input
+     * @return the text
+     * @throws IOException this exception is thrown if the text can not be read
+     * @since 0.2
+     */
+    private static String readString(final DataInputStream in) throws IOException {
+        final byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * This represents a segment from the log, which is a file that is mapped to the memory
+     *
+     * @since 0.2
+     */
+    private static final class Segment {
+
+        /**
+         * These represents the sequence and the path from the segment
+         * @since 0.2
+         */
+        final long sequence;
+        final Path path;
+
+        /**
+         * These represents the channel from the file and the buffer that is mapped from it
+         * @since 0.2
+         */
+        final FileChannel channel;
+        final MappedByteBuffer buffer;
+
+        /**
+         * These represents the position after the last record that is written, and if the segment receives no more
+         * records
+         * @since 0.2
+         */
+        volatile int limit;
+        volatile boolean sealed;
+
+        /**
+         * Creates an instance from segment, which the file is created with the size if it not exists
+         *
+         * @param sequence the sequence
+         * @param path the path
+         * @param size the size
+         * @throws IOException this exception is thrown if the file can not be mapped
+         * @since 0.2
+         */
+        Segment(final long sequence, final Path path, final int size) throws IOException {
+            this.sequence = sequence;
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+
+        /**
+         * Closes the channel, the mapped buffer is released by the garbage collector
+         *
+         * @since 0.2
+         */
+        void close() {
+            try {
+                this.channel.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -45,4 +45,13 @@ public @interface Table {
      * @since 0.1
      */
     String name();
+
+    /**
+     * Indicates if the writes to the table are appended to the write spool from the flexible database and replayed
+     * later to the database, when the write spool is enabled, which the writes are acknowledged before they are
+     * applied, then this is used to tables that can receive the writes later like the event tables
+     * @return true if the writes are spooled, otherwise false
+     * @since 0.2
+     */
+    boolean spooled() default false;
 }
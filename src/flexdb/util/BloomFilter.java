@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This represents a Bloom filter, which answers if a key can be contained or is not contained with certainty, the
+ * keys are not kept then the filter uses a few bits by key, the integer numbers are hashed by their value then an
+ * integer and a long with the same value are the same key, the other keys are hashed by their text
+ *
+ * The filter can be read and written by different threads at the same time
+ *
+ * @author biologyiswell (19/10/2026 23:52)
+ * @since 0.2
+ */
+public class BloomFilter {
+
+    /**
+     * These represents the bits from the filter, the quantity of bits and the quantity of hashes by key
+     * @since 0.2
+     */
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashes;
+
+    /**
+     * Creates an instance from Bloom filter, that is sized to the expected quantity of keys with the false positive
+     * rate
+     *
+     * @param expectedKeys the expected quantity of keys
+     * @param falsePositiveRate the rate from the keys that are not contained and are answered as contained
+     * @since 0.2
+     */
+    public BloomFilter(final long expectedKeys, final double falsePositiveRate) {
+        if (expectedKeys <= 0) throw new IllegalArgumentException("expected keys must be bigger than 0");
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) throw new IllegalArgumentException("false positive rate must be between 0 and 1");
+
+        final double bits = -expectedKeys * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        final long words = Math.max(1, Math.min(Integer.MAX_VALUE, ((long) Math.ceil(bits) + 63) / 64));
+
+        this.bits = new AtomicLongArray((int) words);
+        this.bitSize = words * 64;
+        this.hashes = Math.max(1, (int) Math.round(this.bitSize / (double) expectedKeys * Math.log(2)));
+    }
+
+    /**
+     * Puts the key in the filter
+     *
+     * @param key the key
+     * @since 0.2
+     */
+    public void put(final Object key) {
+        if (key == null) throw new NullPointerException("key");
+
+        final long hash = hash(key);
+        final long step = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int i = 0; i < this.hashes; i++) {
+            final long bit = ((hash + i * step) & Long.MAX_VALUE) % this.bitSize;
+            final int word = (int) (bit >>> 6);
+            final long mask = 1L << bit;
+
+            while (true) {
+                final long current = this.bits.get(word);
+                if ((current & mask) != 0 || this.bits.compareAndSet(word, current, current | mask)) break;
+            }
+        }
+    }
+
+    /**
+     * Returns if the key can be contained in the filter, which the false is certain and the true can be wrong by the
+     * false positive rate
+     *
+     * @param key the key
+     * @return false if the key is not contained, true if the key can be contained
+     * @since 0.2
+     */
+    public boolean mightContain(final Object key) {
+        if (key == null) throw new NullPointerException("key");
+
+        final long hash = hash(key);
+        final long step = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+
+        for (int i = 0; i < this.hashes; i++) {
+            final long bit = ((hash + i * step) & Long.MAX_VALUE) % this.bitSize;
+
+            if ((this.bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the quantity of bits from the filter
+     *
+     * @return the quantity of bits
+     * @since 0.2
+     */
+    public long getBitSize() {
+        return this.bitSize;
+    }
+
+    /**
+     * Returns the hash from the key
+     *
+     * @param key the key
+     * @return the hash
+     * @since 0.2
+     */
+    private static long hash(final Object key) {
+        if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+            return mix(((Number) key).longValue());
+        }
+
+        // @Note The FNV-1a hash from the text bytes
+        long hash = 0xCBF29CE484222325L;
+        for (final byte b : key.toString().getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+
+        return mix(hash);
+    }
+
+    /**
+     * Mixes the bits from the value, which is the finalizer from the MurmurHash3
+     *
+     * @param value the value
+     * @return the mixed value
+     * @since 0.2
+     */
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
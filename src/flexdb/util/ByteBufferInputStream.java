@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb.util;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * This input stream reads the bytes from a byte buffer, which can be a heap buffer or a direct buffer, the bytes are
+ * copied directly from the buffer to the array from the reader without an intermediate array, the position from the
+ * buffer that is given is not changed because the stream reads from a duplicate from it
+ *
+ * @author biologyiswell (19/10/2026 19:04)
+ * @since 0.2
+ */
+public class ByteBufferInputStream extends InputStream {
+
+    /**
+     * This represents the buffer that is read
+     * @since 0.2
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates an instance from byte buffer input stream, which reads the bytes between the position and the limit from
+     * the buffer
+     *
+     * @param buffer the buffer that is read
+     * @since 0.2
+     */
+    public ByteBufferInputStream(final ByteBuffer buffer) {
+        if (buffer == null) throw new NullPointerException("buffer");
+
+        this.buffer = buffer.duplicate();
+    }
+
+    @Override
+    public int read() {
+        if (!this.buffer.hasRemaining()) return -1;
+
+        return this.buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) {
+        if (length == 0) return 0;
+        if (!this.buffer.hasRemaining()) return -1;
+
+        final int count = Math.min(length, this.buffer.remaining());
+        this.buffer.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public long skip(final long count) {
+        final int skipped = (int) Math.max(0, Math.min(count, this.buffer.remaining()));
+        this.buffer.position(this.buffer.position() + skipped);
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        return this.buffer.remaining();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This pool keeps the direct byte buffers from a fixed capacity to be reused, because the direct buffers are expensive
+ * to allocate and are only released by the garbage collector, the pool retains until a maximum quantity from buffers
+ * and the buffers that are released above it are dropped
+ *
+ * @author biologyiswell (19/10/2026 21:05)
+ * @since 0.2
+ */
+public class DirectBufferPool {
+
+    /**
+     * This represents the shared pool from buffers with 1 MB capacity
+     * @since 0.2
+     */
+    public static final DirectBufferPool SHARED = new DirectBufferPool(1024 * 1024, 16);
+
+    /**
+     * This represents the capacity from the buffers and the maximum quantity from buffers that are retained
+     * @since 0.2
+     */
+    private final int capacity;
+    private final int maximumRetained;
+
+    /**
+     * These represents the buffers that are retained and the quantity from them
+     * @since 0.2
+     */
+    private final ConcurrentLinkedQueue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger retained = new AtomicInteger();
+
+    /**
+     * Creates an instance from direct buffer pool
+     *
+     * @param capacity the capacity from the buffers
+     * @param maximumRetained the maximum quantity from buffers that are retained
+     * @since 0.2
+     */
+    public DirectBufferPool(final int capacity, final int maximumRetained) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be bigger than 0");
+        if (maximumRetained < 0) throw new IllegalArgumentException("maximum retained can not be negative");
+
+        this.capacity = capacity;
+        this.maximumRetained = maximumRetained;
+    }
+
+    /**
+     * Acquires a cleared buffer from the pool, or allocates a new buffer if the pool is empty
+     *
+     * @return the buffer
+     * @since 0.2
+     */
+    public ByteBuffer acquire() {
+        final ByteBuffer buffer = this.buffers.poll();
+
+        if (buffer == null) return ByteBuffer.allocateDirect(this.capacity);
+
+        this.retained.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Releases the buffer to the pool, the buffer must not be used after it is released
+     *
+     * @param buffer the buffer that is acquired from this pool
+     * @since 0.2
+     */
+    public void release(final ByteBuffer buffer) {
+        if (buffer == null) throw new NullPointerException("buffer");
+        if (!buffer.isDirect() || buffer.capacity() != this.capacity) throw new IllegalArgumentException("buffer is not acquired from this pool");
+
+        if (this.retained.incrementAndGet() > this.maximumRetained) {
+            this.retained.decrementAndGet();
+            return;
+        }
+
+        this.buffers.offer(buffer);
+    }
+
+    /**
+     * Returns the capacity from the buffers
+     *
+     * @return the capacity
+     * @since 0.2
+     */
+    public int getCapacity() {
+        return this.capacity;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb.util;
+
+/**
+ * This enumeration contains the formats from the files that the tables are exported to and imported from
+ *
+ * @author biologyiswell (19/10/2026 21:02)
+ * @since 0.2
+ */
+public enum FileFormat {
+
+    /**
+     * Indicates the comma-separated values, which the first line contains the column names, the values that contain
+     * comma, quote or line breaks are quoted with the quotes doubled, the binary values are written in hexadecimal and
+     * the null values are written as \N
+     * @since 0.2
+     */
+    CSV,
+
+    /**
+     * Indicates the tab-separated values, which the first line contains the column names, the tab, line breaks and
+     * backslash are escaped by backslash, the binary values are written in hexadecimal and the null values are written
+     * as \N
+     * @since 0.2
+     */
+    TSV,
+
+    /**
+     * Indicates the compact binary format, which starts with the magic "FLEXDB", the version and the column names, then
+     * each value is written as the length in four bytes followed by the bytes from the value, the numbers are written
+     * in big-endian with the size from their type, the texts in UTF-8 and the null values have the length -1
+     * @since 0.2
+     */
+    BINARY
+}
@@ -0,0 +1,139 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This input stream reads the bytes from a file that is memory-mapped by windows with a bounded size, which the bytes
+ * are copied directly from the mapped window to the array from the reader without an intermediate array, the file is
+ * opened at the first read and closed when the last byte is read or the stream is closed, then a stream that is never
+ * read not holds the file opened
+ *
+ * @author biologyiswell (19/10/2026 19:10)
+ * @since 0.2
+ */
+public class MappedFileInputStream extends InputStream {
+
+    /**
+     * Is the maximum size in bytes from the windows that are mapped
+     * @since 0.2
+     */
+    private static final long WINDOW_SIZE = 64L << 20;
+
+    /**
+     * This represents the path from the file
+     * @since 0.2
+     */
+    private final Path path;
+
+    /**
+     * These represents the channel from the file, the current window and the position from the next window in the file
+     * @since 0.2
+     */
+    private FileChannel channel;
+    private MappedByteBuffer window;
+    private long position;
+    private boolean closed;
+
+    /**
+     * Creates an instance from mapped file input stream
+     *
+     * @param path the path from the file that is read
+     * @since 0.2
+     */
+    public MappedFileInputStream(final Path path) {
+        if (path == null) throw new NullPointerException("path");
+
+        this.path = path;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!this.fill()) return -1;
+
+        return this.window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+        if (length == 0) return 0;
+        if (!this.fill()) return -1;
+
+        final int count = Math.min(length, this.window.remaining());
+        this.window.get(bytes, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return this.window == null ? 0 : this.window.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.closed = true;
+        this.window = null;
+
+        if (this.channel != null) {
+            this.channel.close();
+            this.channel = null;
+        }
+    }
+
+    /**
+     * Maps the next window if the current window is consumed
+     *
+     * @return if has bytes to read
+     * @throws IOException this exception is thrown if the file can not be read
+     * @since 0.2
+     */
+    private boolean fill() throws IOException {
+        if (this.window != null && this.window.hasRemaining()) return true;
+        if (this.closed) return false;
+
+        if (this.channel == null) {
+            this.channel = FileChannel.open(this.path, StandardOpenOption.READ);
+        }
+
+        final long size = this.channel.size();
+
+        // @Note This condition makes the check if the file is consumed, then the file is closed
+        if (this.position >= size) {
+            this.close();
+            return false;
+        }
+
+        // @Note The windows are unmapped by the garbage collector when they are not referenced
+        final long length = Math.min(WINDOW_SIZE, size - this.position);
+        this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, length);
+        this.position += length;
+        return true;
+    }
+}
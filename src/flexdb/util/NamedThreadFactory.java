@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2018 biologyiswell
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package flexdb.util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This thread factory creates the daemon threads that are used by the flexible database handlers to make background
+ * operations, which the threads are named by the prefix with the sequence number from the thread to can be identified
+ * on thread dumps
+ *
+ * @author biologyiswell (19/10/2026 13:10)
+ * @since 0.2
+ */
+public class NamedThreadFactory implements ThreadFactory {
+
+    /**
+     * This represents the name prefix from the threads which are created by this factory
+     * @since 0.2
+     */
+    private final String prefix;
+
+    /**
+     * This represents the priority from the threads which are created by this factory
+     * @since 0.2
+     */
+    private final int priority;
+
+    /**
+     * This represents the sequence number from the next thread which will be created
+     * @since 0.2
+     */
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    /**
+     * Creates an instance from named thread factory which the threads has the normal priority
+     *
+     * @param prefix the name prefix from the threads
+     * @since 0.2
+     */
+    public NamedThreadFactory(final String prefix) {
+        this(prefix, Thread.NORM_PRIORITY);
+    }
+
+    /**
+     * Creates an instance from named thread factory
+     *
+     * @param prefix the name prefix from the threads
+     * @param priority the priority from the threads
+     * @since 0.2
+     */
+    public NamedThreadFactory(final String prefix, final int priority) {
+        if (prefix == null) throw new NullPointerException("prefix");
+
+        this.prefix = prefix;
+        this.priority = priority;
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        final Thread thread = new Thread(runnable, this.prefix + "-" + this.sequence.incrementAndGet());
+
+        // @Note The threads are daemon threads because the background operations can not hold the virtual machine
+        // alive when the application finish
+        thread.setDaemon(true);
+        thread.setPriority(this.priority);
+        return thread;
+    }
+}
@@ -2,13 +2,22 @@ package test.flexdb;
 
 import flexdb.FlexDb;
 import flexdb.FlexDbFactory;
+import flexdb.ResultCache;
 import flexdb.annotation.Column;
 import flexdb.annotation.ColumnAnchor;
 import flexdb.annotation.Data;
 import flexdb.annotation.Table;
 import flexdb.util.SqlType;
 
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This is a test class which test the functions relationed with flexible databse
@@ -25,6 +34,7 @@ public class TestFlexDb {
 
     private static final String DB_NAME = "test_db2";
     private static final String ENGINEER_TABLE_NAME = "engineers2";
+    private static final String ARTIFACT_TABLE_NAME = "artifacts2";
 
     public static void main(String[] args) throws Exception {
         // @Note Hot the machine
@@ -237,6 +247,116 @@ public class TestFlexDb {
         System.out.println("Time: " + (end - start) + "ms.");
     }
 
+    // @Note This test makes the same anchor lookup twice with the result cache, which the second lookup is get from
+    // the cache without a round trip, and the insert through the flexible database evicts the result
+    private static void testSelectCachedInitialization() throws Exception {
+        // @Note Creates the single flexible database type connection with the result cache
+        final FlexDb db = FlexDbFactory.newSingleDatabase(HOST, USERNAME, PASSWORD, PORT);
+        db.setResultCache(new ResultCache(1024, 1, TimeUnit.MINUTES));
+
+        long start = System.nanoTime();
+        db.get(Engineer.class, 0);
+        long end = System.nanoTime();
+        System.out.println("Time (miss): " + TimeUnit.NANOSECONDS.toMicros(end - start) + "us.");
+
+        start = System.nanoTime();
+        db.get(Engineer.class, 0);
+        end = System.nanoTime();
+        System.out.println("Time (hit): " + TimeUnit.NANOSECONDS.toMicros(end - start) + "us.");
+
+        // @Note The insert evicts the results from the Engineer table, then the next lookup is a miss
+        db.insert(Engineer.createEngineer());
+
+        start = System.nanoTime();
+        db.get(Engineer.class, 0);
+        end = System.nanoTime();
+        System.out.println("Time (evicted): " + TimeUnit.NANOSECONDS.toMicros(end - start) + "us.");
+    }
+
+    // @Note This test compares the insert from the LONGBLOB payloads from 1 MB to 1 GB, by the byte array that is
+    // materialized in the heap, by the direct byte buffer and by the path from a file that is memory-mapped, in single
+    // inserts and in a batch insert, the "max_allowed_packet" from the MySQL Storage must be bigger than the payload
+    // and the heap must contain the byte arrays from the biggest payload
+    private static void testBlobInsertBenchmark() throws Exception {
+        // @Note Creates the pooled flexible database type connection
+        final FlexDb db = FlexDbFactory.newPooledDatabase(HOST, USERNAME, PASSWORD, PORT, 4, 1);
+        db.table(Artifact.class);
+
+        int id = 0;
+        for (final int size : new int[] {1 << 20, 16 << 20, 128 << 20, 1 << 30}) {
+            final byte[] bytes = new byte[size];
+            ThreadLocalRandom.current().nextBytes(bytes);
+
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+            buffer.put(bytes).flip();
+
+            final Path path = Files.createTempFile("flexdb-artifact", ".bin");
+            Files.write(path, bytes);
+
+            try {
+                long start = System.currentTimeMillis();
+                db.insert(Artifact.class, ++id, bytes);
+                System.out.println("Time (byte[], " + (size >> 20) + " MB): " + (System.currentTimeMillis() - start) + "ms.");
+
+                start = System.currentTimeMillis();
+                db.insert(Artifact.class, ++id, buffer);
+                System.out.println("Time (ByteBuffer, " + (size >> 20) + " MB): " + (System.currentTimeMillis() - start) + "ms.");
+
+                start = System.currentTimeMillis();
+                db.insert(Artifact.class, ++id, path);
+                System.out.println("Time (Path, " + (size >> 20) + " MB): " + (System.currentTimeMillis() - start) + "ms.");
+
+                start = System.currentTimeMillis();
+                db.insertAll(Arrays.asList(new Artifact(++id, path), new Artifact(++id, path)));
+                System.out.println("Time (Path batch x2, " + (size >> 20) + " MB): " + (System.currentTimeMillis() - start) + "ms.");
+            } finally {
+                Files.delete(path);
+            }
+        }
+
+        // @Note Delete the all Artifacts that are inserted by the benchmark
+        db.operation("DELETE FROM " + DB_NAME + "." + ARTIFACT_TABLE_NAME);
+    }
+
+    // @Note This test inserts the Engineers from some threads while the existence filter is rebuilt each millisecond,
+    // then the all Engineers must be found by the anchor lookups, a missing Engineer represents that the filter lost the
+    // value that is put while the filter is swapped by the rebuild
+    private static void testExistenceFilterRebuildInitialization() throws Exception {
+        // @Note Creates the pooled flexible database type connection with the existence filter
+        final FlexDb db = FlexDbFactory.newPooledDatabase(HOST, USERNAME, PASSWORD, PORT, 8, 4);
+        db.table(Engineer.class);
+        db.enableExistenceFilter(Engineer.class, 1, TimeUnit.MILLISECONDS);
+
+        final List<Integer> ids = Collections.synchronizedList(new ArrayList<Integer>());
+        final Thread[] threads = new Thread[4];
+
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int j = 0; j < 500; j++) {
+                        final Engineer engineer = Engineer.createEngineer();
+                        db.insert(engineer);
+                        ids.add(engineer.id);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+
+        int missing = 0;
+        for (final int id : ids) {
+            if (db.get(Engineer.class, id) == null) missing++;
+        }
+
+        db.disableExistenceFilter(Engineer.class);
+        System.out.println("Missing: " + missing + " of " + ids.size() + (missing == 0 ? " (passed)." : " (failed)."));
+    }
+
     // @Note Test classes
 
     @Data(name = DB_NAME)
@@ -260,6 +380,11 @@ public class TestFlexDb {
         @Column(name = "phone_number", type = SqlType.TEXT, size = 32, nonNull = true)
         private final String phoneNumber;
 
+        // @Note This constructor is used by the flexible database to create the objects from the rows
+        private Engineer() {
+            this(0, null, null, null);
+        }
+
         public Engineer(final int id, final String name, final String address, final String phoneNumber) {
             this.id = id;
             this.name = name;
@@ -314,4 +439,23 @@ public class TestFlexDb {
             return new Engineer(id, name, address, phoneNumber);
         }
     }
+
+    @Data(name = DB_NAME)
+    @Table(name = ARTIFACT_TABLE_NAME)
+    public static class Artifact {
+
+        // @Note This represents the id from the Artifact and also represents the column anchor from the table
+        @Column(name = "id", type = SqlType.INTEGER, updatable = false, nonNull = true)
+        @ColumnAnchor
+        private final int id;
+
+        // @Note This represents the file from the Artifact, which is streamed from the memory-mapped file
+        @Column(name = "payload", type = SqlType.LONGBLOB)
+        private final Path payload;
+
+        public Artifact(final int id, final Path payload) {
+            this.id = id;
+            this.payload = payload;
+        }
+    }
 }